@@ -1,5 +1,6 @@
 package com.ktb.chatapp.annotation;
 
+import com.ktb.chatapp.service.ratelimit.RateLimitAlgorithm;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -27,6 +28,13 @@ public @interface RateLimit {
      */
     LimitScope scope() default LimitScope.IP;
 
+    /**
+     * Rate Limit 계산 방식
+     * FIXED_WINDOW: 고정 윈도우 카운터
+     * GCRA: sliding 방식 (윈도우 경계 버스트 없음)
+     */
+    RateLimitAlgorithm algorithm() default RateLimitAlgorithm.FIXED_WINDOW;
+
     enum LimitScope {
         IP,
         USER,
@@ -6,6 +6,13 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableCaching
-@EnableConfigurationProperties(FileCacheProperties.class)
+@EnableConfigurationProperties({
+        FileCacheProperties.class,
+        SessionCacheProperties.class,
+        RoomCacheProperties.class,
+        UserCacheProperties.class,
+        RecentMessageCacheProperties.class,
+        RoomListCacheProperties.class
+})
 public class CachingConfig {
 }
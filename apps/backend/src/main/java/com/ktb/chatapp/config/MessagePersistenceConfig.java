@@ -0,0 +1,13 @@
+package com.ktb.chatapp.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({
+        MessagePersistenceProperties.class,
+        ReadStatusProperties.class,
+        ReactionProperties.class
+})
+public class MessagePersistenceConfig {
+}
@@ -0,0 +1,81 @@
+package com.ktb.chatapp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "message.persistence")
+public class MessagePersistenceProperties {
+
+    /**
+     * SYNC: 저장 후 브로드캐스트 (기존 동작)
+     * ASYNC: 브로드캐스트 후 writer 스레드가 insertMany 로 일괄 저장
+     */
+    public enum Mode {
+        SYNC,
+        ASYNC
+    }
+
+    /**
+     * STRICT: 큐가 가득 차면 호출 스레드에서 직접 저장하고, 배치 실패 시 건별 재시도
+     * BEST_EFFORT: 큐가 가득 차거나 저장에 실패한 메시지는 버리고 지표만 남김
+     */
+    public enum Durability {
+        STRICT,
+        BEST_EFFORT
+    }
+
+    private Mode mode = Mode.SYNC;
+    private Durability durability = Durability.STRICT;
+    private int queueCapacity = 10_000;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(50);
+    private Duration enqueueTimeout = Duration.ofMillis(100);
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public Duration getEnqueueTimeout() {
+        return enqueueTimeout;
+    }
+
+    public void setEnqueueTimeout(Duration enqueueTimeout) {
+        this.enqueueTimeout = enqueueTimeout;
+    }
+}
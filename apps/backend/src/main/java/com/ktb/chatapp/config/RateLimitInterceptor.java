@@ -44,7 +44,7 @@ public class RateLimitInterceptor implements HandlerInterceptor {
         Duration window = Duration.ofSeconds(rateLimit.windowSeconds());
         String clientId = generateClientId(request, rateLimit.scope());
 
-        RateLimitCheckResult result = rateLimitService.checkRateLimit(clientId, maxRequests, window);
+        RateLimitCheckResult result = rateLimitService.checkRateLimit(clientId, maxRequests, window, rateLimit.algorithm());
         applyRateLimitHeaders(response, result);
 
         if (result.allowed()) {
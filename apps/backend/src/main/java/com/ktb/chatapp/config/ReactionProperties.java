@@ -0,0 +1,67 @@
+package com.ktb.chatapp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "message.reaction")
+public class ReactionProperties {
+
+    /**
+     * true: 리액션 토글을 (messageId, reaction, userId) 단위로 모아 flushInterval 마다 bulk update
+     * false: 호출 스레드에서 바로 findAndModify
+     */
+    private boolean async = true;
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * 메모리에 리액션 상태를 유지하는 최대 메시지 수와 유지 시간
+     */
+    private long maximumMessages = 10_000;
+    private Duration expireAfterAccess = Duration.ofMinutes(10);
+
+    /**
+     * 상태가 적재되지 않은 메시지에 대해 다른 노드에서 받은 토글을 보관하는 시간.
+     * 그 노드의 flushInterval 과 bulk 기록 지연보다 길어야 적재 시 Mongo 에 아직 없는 토글을 놓치지 않는다.
+     */
+    private Duration syncRetention = Duration.ofSeconds(5);
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public long getMaximumMessages() {
+        return maximumMessages;
+    }
+
+    public void setMaximumMessages(long maximumMessages) {
+        this.maximumMessages = maximumMessages;
+    }
+
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+    public Duration getSyncRetention() {
+        return syncRetention;
+    }
+
+    public void setSyncRetention(Duration syncRetention) {
+        this.syncRetention = syncRetention;
+    }
+}
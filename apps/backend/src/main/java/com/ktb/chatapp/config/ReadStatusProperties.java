@@ -0,0 +1,31 @@
+package com.ktb.chatapp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "message.read-status")
+public class ReadStatusProperties {
+
+    /**
+     * true: 읽음 이벤트를 (userId, roomId) 단위로 모아 flushInterval 마다 bulk upsert
+     * false: 호출 스레드에서 바로 upsert (기존 동작)
+     */
+    private boolean async = true;
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+}
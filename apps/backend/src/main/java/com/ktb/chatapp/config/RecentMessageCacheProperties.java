@@ -0,0 +1,39 @@
+package com.ktb.chatapp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache.recent-messages")
+public class RecentMessageCacheProperties {
+
+    /**
+     * 방마다 보관하는 최근 메시지 수 (초기 페이지 30개 + 한두 페이지 여유)
+     */
+    private int capacity = 100;
+    private long maximumRooms = 10_000L;
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getMaximumRooms() {
+        return maximumRooms;
+    }
+
+    public void setMaximumRooms(long maximumRooms) {
+        this.maximumRooms = maximumRooms;
+    }
+
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ktb.chatapp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache.room")
+public class RoomCacheProperties {
+
+    private long maximumSize = 10_000L;
+    /** 무효화가 유실되어도 이 시간이 지나면 다시 적재된다. 접근이 잦은 방도 갱신되도록 쓰기 기준으로 만료한다. */
+    private Duration expireAfterWrite = Duration.ofMinutes(1);
+    /** 존재하지 않는 roomId 를 기억하는 시간. 방 생성은 무효화로 지우므로 짧게만 둔다. */
+    private Duration negativeTtl = Duration.ofSeconds(10);
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public Duration getNegativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+}
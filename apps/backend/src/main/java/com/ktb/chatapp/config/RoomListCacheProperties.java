@@ -0,0 +1,39 @@
+package com.ktb.chatapp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache.room-list")
+public class RoomListCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 1_000L;
+    /**
+     * 이벤트로 잡히지 않는 변경(최근 10분 메시지 수 등)의 최대 지연. 기존 Cache-Control max-age(10s) 이내로 둔다.
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+}
@@ -0,0 +1,54 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.service.session.DualWriteSessionStore;
+import com.ktb.chatapp.service.session.SessionMongoStore;
+import com.ktb.chatapp.service.session.SessionNearCacheStore;
+import com.ktb.chatapp.service.session.SessionRedisStore;
+import com.ktb.chatapp.service.session.SessionStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * SessionService 가 사용하는 SessionStore 조립.
+ * session.store.type 으로 영속 저장소를 고른다.
+ * - mongo: 기존 sessions 컬렉션
+ * - redis: 사용자별 Redis hash + native TTL
+ * - dual: Mongo/Redis 동시 쓰기, Mongo(source) 기준 조회 후 Redis 로 backfill (운영 중 무중단 전환용)
+ * 선택된 저장소 앞에 near-cache 데코레이터를 씌워 세션 검증을 메모리 조회로 처리한다.
+ */
+@Slf4j
+@Configuration
+public class SessionStoreConfig {
+
+    @Value("${session.store.type:mongo}")
+    private String storeType;
+
+    @Bean
+    @Primary
+    public SessionStore sessionStore(
+            SessionMongoStore sessionMongoStore,
+            StringRedisTemplate stringRedisTemplate,
+            RedissonClient redissonClient,
+            SessionCacheProperties sessionCacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        SessionStore persistentStore = switch (storeType) {
+            case "mongo" -> sessionMongoStore;
+            case "redis" -> new SessionRedisStore(stringRedisTemplate);
+            case "dual" -> new DualWriteSessionStore(sessionMongoStore, new SessionRedisStore(stringRedisTemplate));
+            default -> throw new IllegalStateException("Unknown session.store.type: " + storeType);
+        };
+        log.info("Session store type: {}", storeType);
+
+        if (!sessionCacheProperties.isEnabled()) {
+            return persistentStore;
+        }
+        return new SessionNearCacheStore(persistentStore, redissonClient, sessionCacheProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ktb.chatapp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "socketio.broadcast")
+public class SocketIOBroadcastProperties {
+
+    /**
+     * 방 단위로 읽음 이벤트를 모으는 시간. 0 이면 이벤트마다 바로 MESSAGES_READ 를 보낸다.
+     */
+    private Duration readWindow = Duration.ofMillis(150);
+
+    /**
+     * 메시지 단위로 리액션 변경을 모으는 시간. 메시지당 이 간격에 최대 한 번 delta 프레임을 보낸다.
+     * 0 이면 변경마다 바로 보낸다.
+     */
+    private Duration reactionWindow = Duration.ofMillis(100);
+
+    /**
+     * 방 단위로 입장/퇴장을 모으는 시간. 0 이면 변경마다 바로 delta 프레임을 보낸다.
+     */
+    private Duration participantsWindow = Duration.ofMillis(200);
+
+    public Duration getReadWindow() {
+        return readWindow;
+    }
+
+    public void setReadWindow(Duration readWindow) {
+        this.readWindow = readWindow;
+    }
+
+    public Duration getReactionWindow() {
+        return reactionWindow;
+    }
+
+    public void setReactionWindow(Duration reactionWindow) {
+        this.reactionWindow = reactionWindow;
+    }
+
+    public Duration getParticipantsWindow() {
+        return participantsWindow;
+    }
+
+    public void setParticipantsWindow(Duration participantsWindow) {
+        this.participantsWindow = participantsWindow;
+    }
+}
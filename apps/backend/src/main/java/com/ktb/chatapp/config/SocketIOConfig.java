@@ -3,14 +3,15 @@ package com.ktb.chatapp.config;
 import com.corundumstudio.socketio.AuthTokenListener;
 import com.corundumstudio.socketio.SocketConfig;
 import com.corundumstudio.socketio.SocketIOServer;
-import com.corundumstudio.socketio.annotation.SpringAnnotationScanner;
 import com.corundumstudio.socketio.namespace.Namespace;
 import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
 import com.corundumstudio.socketio.store.RedissonStoreFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktb.chatapp.websocket.socketio.ChatDataStore;
+import com.ktb.chatapp.websocket.socketio.DispatchingAnnotationScanner;
 import com.ktb.chatapp.websocket.socketio.RedisChatDataStore;
+import com.ktb.chatapp.websocket.socketio.SocketIOEventDispatcher;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
@@ -18,16 +19,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Role;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRASTRUCTURE;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties({
+        SocketIODispatchProperties.class,
+        SocketIOBroadcastProperties.class
+})
 @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
 public class SocketIOConfig {
 
@@ -43,6 +50,9 @@ public class SocketIOConfig {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     @Bean(initMethod = "start", destroyMethod = "stop")
     public SocketIOServer socketIOServer(AuthTokenListener authTokenListener) {
         com.corundumstudio.socketio.Configuration config = new com.corundumstudio.socketio.Configuration();
@@ -78,20 +88,22 @@ public class SocketIOConfig {
     }
     
     /**
-     * SpringAnnotationScanner는 BeanPostProcessor로서
+     * 어노테이션 스캐너는 BeanPostProcessor로서
      * ApplicationContext 초기화 초기에 등록되고,
      * 내부에서 사용하는 SocketIOServer는 Lazy로 지연되어
      * 다른 Bean들의 초기화 과정에 간섭하지 않게 한다.
+     * SpringAnnotationScanner 대신 핸들러 호출을 virtual thread 디스패처로 넘기는 스캐너를 사용한다.
      */
     @Bean
     @Role(ROLE_INFRASTRUCTURE)
-    public BeanPostProcessor springAnnotationScanner(@Lazy SocketIOServer socketIOServer) {
-        return new SpringAnnotationScanner(socketIOServer);
+    public BeanPostProcessor springAnnotationScanner(@Lazy SocketIOServer socketIOServer,
+                                                     @Lazy SocketIOEventDispatcher socketIOEventDispatcher) {
+        return new DispatchingAnnotationScanner(socketIOServer, socketIOEventDispatcher);
     }
     
     @Bean
     @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
     public ChatDataStore chatDataStore() {
-        return new RedisChatDataStore(redisTemplate, new ObjectMapper().registerModule(new JavaTimeModule()));
+        return new RedisChatDataStore(redisTemplate, stringRedisTemplate, new ObjectMapper().registerModule(new JavaTimeModule()));
     }
 }
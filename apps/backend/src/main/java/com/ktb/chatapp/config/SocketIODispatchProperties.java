@@ -0,0 +1,59 @@
+package com.ktb.chatapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "socketio.dispatch")
+public class SocketIODispatchProperties {
+
+    /**
+     * false 면 기존처럼 netty worker 스레드에서 핸들러를 바로 실행한다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 동시에 실행될 수 있는 핸들러 수 상한 (Mongo/Redis 커넥션 풀 보호용).
+     */
+    private int maxConcurrency = 512;
+
+    /**
+     * 소켓 하나에 쌓일 수 있는 대기 이벤트 수. 초과분은 거절한다.
+     */
+    private int maxQueuedPerClient = 256;
+
+    /**
+     * 방 단위 직렬 실행 lane 수. roomId 해시로 lane 을 고른다.
+     */
+    private int roomLanes = Runtime.getRuntime().availableProcessors() * 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getMaxQueuedPerClient() {
+        return maxQueuedPerClient;
+    }
+
+    public void setMaxQueuedPerClient(int maxQueuedPerClient) {
+        this.maxQueuedPerClient = maxQueuedPerClient;
+    }
+
+    public int getRoomLanes() {
+        return roomLanes;
+    }
+
+    public void setRoomLanes(int roomLanes) {
+        this.roomLanes = roomLanes;
+    }
+}
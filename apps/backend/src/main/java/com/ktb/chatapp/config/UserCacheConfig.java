@@ -0,0 +1,55 @@
+package com.ktb.chatapp.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UserCacheConfig {
+
+    @Bean
+    public LoadingCache<String, Optional<User>> userLoadingCache(
+            UserRepository userRepository,
+            UserCacheProperties userCacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        LoadingCache<String, Optional<User>> cache = Caffeine.newBuilder()
+                .maximumSize(userCacheProperties.getMaximumSize())
+                .expireAfterWrite(userCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Optional<User> load(String key) {
+                        return userRepository.findById(key);
+                    }
+
+                    @Override
+                    public Map<String, Optional<User>> loadAll(Set<? extends String> keys) {
+                        if (keys.isEmpty()) {
+                            return Collections.emptyMap();
+                        }
+
+                        Set<String> orderedKeys = new LinkedHashSet<>(keys);
+                        Map<String, Optional<User>> result = new HashMap<>();
+                        userRepository.findAllById(orderedKeys)
+                                .forEach(user -> result.put(user.getId(), Optional.of(user)));
+                        orderedKeys.forEach(id -> result.putIfAbsent(id, Optional.empty()));
+                        return result;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.profile");
+        return cache;
+    }
+}
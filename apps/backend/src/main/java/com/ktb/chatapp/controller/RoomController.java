@@ -23,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -101,8 +102,7 @@ public class RoomController {
             @Parameter(description = "페이지 크기 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int pageSize,
             @Parameter(description = "정렬 필드", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sortField,
             @Parameter(description = "정렬 순서 (asc/desc)", example = "desc") @RequestParam(defaultValue = "desc") String sortOrder,
-            @Parameter(description = "검색어 (채팅방 이름)", example = "프로젝트") @RequestParam(required = false) String search,
-            Principal principal) {
+            @Parameter(description = "검색어 (채팅방 이름)", example = "프로젝트") @RequestParam(required = false) String search) {
 
         try {
             // PageRequest DTO 생성
@@ -113,12 +113,12 @@ public class RoomController {
             pageRequest.setSortOrder(sortOrder);
             pageRequest.setSearch(search);
 
-            //TODO 31 (HIGH): 방 목록은 동일 파라미터로 반복 요청되므로 Redis/커스텀 캐시를 붙여 최근 결과를 재사용하지 않으면 Mongo와 DTO 변환 부하가 그대로 프런트 트래픽만큼 발생한다.
-            // 서비스에서 페이지네이션 처리
-            RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest, principal.getName());
+            /// [개선 31] 동일 파라미터 요청은 RoomListCache 의 직렬화된 응답을 그대로 내려준다 (방 생성/변경/참가자 변경 이벤트로 무효화)
+            byte[] response = roomService.getAllRoomsWithPaginationJson(pageRequest);
 
             // 캐시 설정
             return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
                 .cacheControl(CacheControl.maxAge(Duration.ofSeconds(10)))
                 .header("Last-Modified", java.time.Instant.now().toString())
                 .body(response);
@@ -3,12 +3,18 @@ package com.ktb.chatapp.dto;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
-// 최초는 limit 개수만 조회, 이후에는 before 메시지 ID 기준으로 이전 메시지 조회
-public record FetchMessagesRequest(String roomId, Integer limit, Long before) {
+// 최초는 limit 개수만 조회, 이후에는 cursor(이전 응답의 nextCursor) 기준으로 이전 메시지 조회
+// cursor 가 없으면 before(timestamp) 기준으로 조회한다 (구버전 클라이언트 호환)
+public record FetchMessagesRequest(String roomId, Integer limit, Long before, String cursor) {
+
+    public FetchMessagesRequest(String roomId, Integer limit, Long before) {
+        this(roomId, limit, before, null);
+    }
+
     public int limit(int defaultLimit) {
         return limit != null && limit > 0 ? limit : defaultLimit;
     }
-    
+
     public LocalDateTime before(LocalDateTime defaultBeforeTime) {
         if (before != null && before > 0) {
             return LocalDateTime.ofInstant(
@@ -18,4 +24,8 @@ public record FetchMessagesRequest(String roomId, Integer limit, Long before) {
         }
         return defaultBeforeTime;
     }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
@@ -0,0 +1,55 @@
+package com.ktb.chatapp.dto;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSummary;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+
+/**
+ * 메시지 히스토리 keyset 페이지네이션 커서.
+ * (timestamp, _id) 쌍으로 위치를 표현해 같은 밀리초에 저장된 메시지도 누락/중복 없이 넘길 수 있다.
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+public record MessageCursor(long timestamp, ObjectId id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static MessageCursor of(Message message) {
+        return new MessageCursor(message.toTimestampMillis(), new ObjectId(message.getId()));
+    }
+
+    public static MessageCursor of(MessageSummary message) {
+        return new MessageCursor(message.toTimestampMillis(), new ObjectId(message.id()));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서
+     */
+    public static MessageCursor decode(String cursor) {
+        String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid message cursor");
+        }
+        try {
+            return new MessageCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    new ObjectId(raw.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid message cursor", e);
+        }
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString((timestamp + ":" + id.toHexString()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime timestampAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+    }
+}
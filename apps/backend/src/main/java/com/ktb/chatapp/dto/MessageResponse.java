@@ -39,9 +39,14 @@ public class MessageResponse {
     
     private long timestamp;
     
+    private Long sequence;
+    
     private Map<String, Set<String>> reactions;
     
     private List<Message.MessageReader> readers;
+
+    // 전체 읽은 인원 수 (히스토리 조회 시 readers 는 앞쪽 일부만 포함될 수 있다)
+    private Integer readerCount;
     
     private Map<String, Object> metadata;
 }
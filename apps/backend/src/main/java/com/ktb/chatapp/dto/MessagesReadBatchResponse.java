@@ -0,0 +1,15 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessagesReadBatchResponse {
+    private List<MessagesReadResponse> updates;
+    private long timestamp;
+}
@@ -0,0 +1,17 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantsDeltaResponse {
+    private String roomId;
+    private List<UserResponse> added;
+    private List<String> removed;
+    private int participantCount;
+    private long timestamp;
+}
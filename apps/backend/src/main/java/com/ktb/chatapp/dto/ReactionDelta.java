@@ -0,0 +1,20 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리액션 하나의 변경분. 전체 사용자 목록 대신 현재 개수와 이번 window 에 추가/제거된 사용자만 담는다.
+ * 클라이언트는 added/removed 에 자신이 있는지로 본인 리액션 여부를 갱신한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactionDelta {
+    private String reaction;
+    private int count;
+    private List<String> added;
+    private List<String> removed;
+}
@@ -0,0 +1,24 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 방 참가자/메타데이터 변경 알림. 이 노드의 변경과 다른 노드에서 전파된 무효화 모두 발행된다.
+ * participantsOnly 가 true 면 참가/퇴장만 일어난 것이고, false 면 방 생성 등 다른 변경일 수 있다.
+ */
+@Getter
+public class RoomParticipantsChangedEvent extends ApplicationEvent {
+    private final String roomId;
+    private final boolean participantsOnly;
+
+    public RoomParticipantsChangedEvent(Object source, String roomId) {
+        this(source, roomId, false);
+    }
+
+    public RoomParticipantsChangedEvent(Object source, String roomId, boolean participantsOnly) {
+        super(source);
+        this.roomId = roomId;
+        this.participantsOnly = participantsOnly;
+    }
+}
@@ -30,8 +30,7 @@ import java.util.Set;
 @AllArgsConstructor
 @Document(collection = "messages")
 @CompoundIndexes({
-    @CompoundIndex(name = "readers_userId_idx", def = "{'readers.userId': 1}"),
-    @CompoundIndex(name = "room_isDeleted_timestamp_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1}")
+    @CompoundIndex(name = "room_isDeleted_timestamp_id_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1, '_id': -1}")
 })
 public class Message {
 
@@ -64,10 +63,13 @@ public class Message {
     @CreatedDate
     private LocalDateTime timestamp;
 
+    // 방 단위 단조 증가 번호 (클라이언트 gap 감지용, 도입 이전 메시지는 null)
+    private Long sequence;
+
     @Builder.Default
     private Map<String, Set<String>> reactions = new HashMap<>();
 
-    // 메시지 읽음 상태 관리
+    // 레거시 읽음 상태 (RoomReadState 도입 이후에는 기록하지 않음, 응답 DTO 호환용)
     @Builder.Default
     private List<MessageReader> readers = new ArrayList<>();
 
@@ -0,0 +1,15 @@
+package com.ktb.chatapp.model;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리액션 부분 업데이트 결과.
+ * findAndModify 가 돌려준 방 ID 와 갱신된 reactions 맵만 담아 브로드캐스트/캐시 갱신에 재조회 없이 사용한다.
+ */
+public record MessageReactions(
+        String messageId,
+        String roomId,
+        Map<String, Set<String>> reactions
+) {
+}
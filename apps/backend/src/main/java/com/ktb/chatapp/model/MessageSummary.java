@@ -0,0 +1,45 @@
+package com.ktb.chatapp.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 메시지 히스토리 조회용 read model.
+ * MessageResponseMapper 가 사용하는 필드만 담는다. reader 목록은 메시지 문서에 저장하지 않고
+ * RoomReadState(방/사용자별 읽은 지점)로 응답 시점에 계산한다.
+ */
+public record MessageSummary(
+        @Id String id,
+        @Field("room") String roomId,
+        String content,
+        @Field("sender") String senderId,
+        MessageType type,
+        @Field("file") String fileId,
+        LocalDateTime timestamp,
+        Long sequence,
+        Map<String, Set<String>> reactions,
+        Map<String, Object> metadata
+) {
+
+    public static MessageSummary from(Message message) {
+        return new MessageSummary(
+                message.getId(),
+                message.getRoomId(),
+                message.getContent(),
+                message.getSenderId(),
+                message.getType(),
+                message.getFileId(),
+                message.getTimestamp(),
+                message.getSequence(),
+                message.getReactions(),
+                message.getMetadata());
+    }
+
+    public long toTimestampMillis() {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -23,7 +23,9 @@ import org.springframework.data.mongodb.core.mapping.Field;
 @AllArgsConstructor
 @Document(collection = "rooms")
 @CompoundIndexes({
-    @CompoundIndex(name = "name_createdAt_idx", def = "{'name': 1, 'createdAt': -1}")
+    @CompoundIndex(name = "name_createdAt_idx", def = "{'name': 1, 'createdAt': -1}"),
+    // 인기순(참가자 수) 정렬 + _id tie-break 로 skip/limit 페이지가 안정적으로 인덱스를 탄다
+    @CompoundIndex(name = "participantCount_id_idx", def = "{'participantCount': -1, '_id': -1}")
 })
 public class Room {
 
@@ -47,6 +49,12 @@ public class Room {
     @Field("participantIds")
     @Builder.Default
     private Set<String> participantIds = new HashSet<>();
+
+    /**
+     * participantIds 크기의 비정규화 값. 정렬용으로만 쓰며,
+     * RoomRepository.addParticipant/removeParticipant 가 같은 update 안에서 $inc 로 유지한다.
+     */
+    private int participantCount;
     
     /**
      * 방에 참가자를 추가한다.
@@ -58,6 +66,7 @@ public class Room {
             this.participantIds = new HashSet<>();
         }
         this.participantIds.add(userId);
+        this.participantCount = this.participantIds.size();
     }
     
     /**
@@ -68,6 +77,7 @@ public class Room {
     public void removeParticipant(String userId) {
         if (this.participantIds != null) {
             this.participantIds.remove(userId);
+            this.participantCount = this.participantIds.size();
         }
     }
     
@@ -79,13 +89,4 @@ public class Room {
     public boolean isEmpty() {
         return this.participantIds == null || this.participantIds.isEmpty();
     }
-    
-    /**
-     * 방의 참가자 수를 반환한다.
-     *
-     * @return 참가자 수
-     */
-    public int getParticipantCount() {
-        return this.participantIds != null ? this.participantIds.size() : 0;
-    }
 }
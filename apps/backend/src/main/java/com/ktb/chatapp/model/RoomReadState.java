@@ -0,0 +1,46 @@
+package com.ktb.chatapp.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * (방, 사용자) 단위 읽음 high-water mark.
+ * 사용자가 읽은 가장 최신 메시지의 timestamp 만 보관하고, 메시지별 reader 목록은
+ * lastReadAt >= message.timestamp 조건으로 조회 시점에 계산한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "room_read_states")
+@CompoundIndexes({
+    @CompoundIndex(name = "room_user_unique_idx", def = "{'room': 1, 'userId': 1}", unique = true)
+})
+public class RoomReadState {
+
+    @Id
+    private String id;
+
+    // Mongo 문서 필드명 "room" 사용 (messages 컬렉션과 동일)
+    @Field("room")
+    private String roomId;
+
+    private String userId;
+
+    // 읽은 가장 최신 메시지의 timestamp (이 시각 이하의 메시지는 모두 읽음)
+    private LocalDateTime lastReadAt;
+
+    private LocalDateTime updatedAt;
+
+    public boolean hasRead(LocalDateTime messageTimestamp) {
+        return lastReadAt != null && !lastReadAt.isBefore(messageTimestamp);
+    }
+}
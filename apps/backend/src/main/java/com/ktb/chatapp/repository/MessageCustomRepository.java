@@ -0,0 +1,19 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.MessageReactions;
+import java.util.Optional;
+
+public interface MessageCustomRepository {
+
+    /**
+     * reactions.&lt;reaction&gt; 에 사용자를 원자적으로 추가($addToSet)하고 갱신된 reactions 를 반환한다.
+     * 메시지가 없거나 삭제된 경우 empty.
+     */
+    Optional<MessageReactions> addReaction(String messageId, String reaction, String userId);
+
+    /**
+     * reactions.&lt;reaction&gt; 에서 사용자를 원자적으로 제거($pull)하고 갱신된 reactions 를 반환한다.
+     * 비게 된 리액션 키는 정리한다. 메시지가 없거나 삭제된 경우 empty.
+     */
+    Optional<MessageReactions> removeReaction(String messageId, String reaction, String userId);
+}
@@ -2,19 +2,47 @@ package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.dto.RoomMessageCount;
 import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSummary;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MessageRepository extends MongoRepository<Message, String> {
-    Page<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp, Pageable pageable);
+public interface MessageRepository extends MongoRepository<Message, String>, MessageCustomRepository {
+
+    // 히스토리 응답용 projection: 레거시 readers 배열 등 응답에 쓰지 않는 필드는 내려받지 않는다
+    String SUMMARY_PROJECTION = "{ $project: { room: 1, content: 1, sender: 1, type: 1, file: 1, "
+            + "timestamp: 1, sequence: 1, reactions: 1, metadata: 1 } }";
+
+    /**
+     * keyset 페이지네이션: (timestamp, _id) 내림차순으로 커서 위치보다 이전 메시지를 조회한다.
+     * List 를 반환하므로 count 쿼리가 발생하지 않는다. hasMore 판단은 limit+1 조회로 한다.
+     * 히스토리 응답에 필요한 필드만 projection 해 MessageSummary 로 받는다.
+     */
+    @Aggregation(pipeline = {
+            "{ $match: { room: ?0, isDeleted: false, $or: [ { timestamp: { $lt: ?1 } }, { timestamp: ?1, _id: { $lt: ?2 } } ] } }",
+            "{ $sort: { timestamp: -1, _id: -1 } }",
+            "{ $limit: ?3 }",
+            SUMMARY_PROJECTION
+    })
+    List<MessageSummary> findSummaryPageBefore(String roomId, LocalDateTime timestamp, ObjectId id, int limit);
+
+    /**
+     * 커서 없이 timestamp 기준으로 조회 (초기 로드 및 before 파라미터를 보내는 구버전 클라이언트)
+     */
+    @Aggregation(pipeline = {
+            "{ $match: { room: ?0, isDeleted: false, timestamp: { $lt: ?1 } } }",
+            "{ $sort: { timestamp: -1, _id: -1 } }",
+            "{ $limit: ?2 }",
+            SUMMARY_PROJECTION
+    })
+    List<MessageSummary> findSummaryPageBefore(String roomId, LocalDateTime timestamp, int limit);
+
     /**
      * 특정 시간 이후의 메시지 수 카운트 (삭제되지 않은 메시지만)
      * 최근 N분간 메시지 수를 조회할 때 사용
@@ -5,4 +5,11 @@ import com.ktb.chatapp.dto.RoomWithUsers;
 public interface RoomCustomRepository {
 
     RoomWithUsers findRoomWithUsersById(String roomId);
+
+    /**
+     * participantCount 가 없거나 participantIds 크기와 다른 방을 participantIds 크기로 맞춘다.
+     *
+     * @return 갱신된 방 수
+     */
+    long backfillParticipantCount();
 }
@@ -0,0 +1,11 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.RoomReadState;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RoomReadStateRepository extends MongoRepository<RoomReadState, String> {
+    List<RoomReadState> findByRoomId(String roomId);
+}
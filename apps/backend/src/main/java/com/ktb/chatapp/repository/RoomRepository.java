@@ -33,12 +33,20 @@ public interface RoomRepository extends MongoRepository<Room, String>, RoomCusto
     @Query(value = "{}", fields = "{ '_id': 1 }")
     Optional<Room> findOneForHealthCheck();
 
-    // MongoDB의 $addToSet 연산자를 사용한 원자적 업데이트
-    @Query("{'_id': ?0}")
-    @Update("{'$addToSet': {'participantIds': ?1}}")
+    // 참가자 목록 변경과 participantCount 재계산을 pipeline update 한 번으로 처리한다.
+    // $inc 대신 $size 로 다시 세므로 백필 전 participantCount 가 없던 방도 첫 변경에서 바로 맞춰진다.
+    // 아직 참가자가 아닐 때만 매칭되므로 중복 참가는 쓰기 자체가 일어나지 않는다
+    @Query("{'_id': ?0, 'participantIds': {'$ne': ?1}}")
+    @Update(pipeline = {
+            "{'$set': {'participantIds': {'$setUnion': [{'$ifNull': ['$participantIds', []]}, [?1]]}}}",
+            "{'$set': {'participantCount': {'$size': '$participantIds'}}}"
+    })
     void addParticipant(String roomId, String userId);
 
-    @Query("{'_id': ?0}")
-    @Update("{'$pull': {'participantIds': ?1}}")
+    @Query("{'_id': ?0, 'participantIds': ?1}")
+    @Update(pipeline = {
+            "{'$set': {'participantIds': {'$setDifference': ['$participantIds', [?1]]}}}",
+            "{'$set': {'participantCount': {'$size': '$participantIds'}}}"
+    })
     void removeParticipant(String roomId, String userId);
 }
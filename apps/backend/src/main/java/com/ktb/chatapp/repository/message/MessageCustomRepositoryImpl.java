@@ -0,0 +1,78 @@
+package com.ktb.chatapp.repository.message;
+
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageReactions;
+import com.ktb.chatapp.repository.MessageCustomRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * 리액션 부분 업데이트.
+ * 문서 전체를 읽고 save 하는 대신 reactions.&lt;reaction&gt; 배열만 findAndModify 로 갱신해
+ * 동시에 리액션을 누르는 사용자끼리 서로의 변경을 덮어쓰지 않게 한다.
+ * 반환 문서는 room, reactions 필드만 projection 한다.
+ */
+@RequiredArgsConstructor
+public class MessageCustomRepositoryImpl implements MessageCustomRepository {
+
+    private static final String REACTIONS = "reactions";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<MessageReactions> addReaction(String messageId, String reaction, String userId) {
+        Update update = new Update().addToSet(reactionPath(reaction), userId);
+        return findAndModify(messageId, update).map(this::toReactions);
+    }
+
+    @Override
+    public Optional<MessageReactions> removeReaction(String messageId, String reaction, String userId) {
+        Update update = new Update().pull(reactionPath(reaction), userId);
+        return findAndModify(messageId, update).map(updated -> {
+            Set<String> users = updated.getReactions() != null ? updated.getReactions().get(reaction) : null;
+            if (users != null && users.isEmpty()) {
+                // 조건부 $unset: 그 사이 다른 사용자가 추가했다면 배열이 비어 있지 않아 매칭되지 않는다
+                mongoTemplate.updateFirst(
+                        new Query(Criteria.where("_id").is(messageId).and(reactionPath(reaction)).size(0)),
+                        new Update().unset(reactionPath(reaction)),
+                        Message.class);
+            }
+            return toReactions(updated);
+        });
+    }
+
+    private Optional<Message> findAndModify(String messageId, Update update) {
+        Query query = new Query(Criteria.where("_id").is(messageId).and("isDeleted").ne(true));
+        query.fields().include("roomId").include(REACTIONS);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Message.class));
+    }
+
+    /**
+     * 비어 있는 리액션 키(아직 $unset 되지 않았거나 경합으로 남은 것)는 응답에서 제외한다.
+     */
+    private MessageReactions toReactions(Message updated) {
+        Map<String, Set<String>> result = new HashMap<>();
+        if (updated.getReactions() != null) {
+            updated.getReactions().forEach((reaction, users) -> {
+                if (users != null && !users.isEmpty()) {
+                    result.put(reaction, users);
+                }
+            });
+        }
+        return new MessageReactions(updated.getId(), updated.getRoomId(), result);
+    }
+
+    private static String reactionPath(String reaction) {
+        return REACTIONS + "." + reaction;
+    }
+}
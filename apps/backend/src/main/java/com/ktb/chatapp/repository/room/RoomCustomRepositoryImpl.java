@@ -1,14 +1,21 @@
 package com.ktb.chatapp.repository.room;
 
 import com.ktb.chatapp.dto.RoomWithUsers;
+import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.RoomCustomRepository;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.aggregation.LookupOperation;
 import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.UnwindOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 
 @RequiredArgsConstructor
 public class RoomCustomRepositoryImpl implements RoomCustomRepository {
@@ -48,5 +55,19 @@ public class RoomCustomRepositoryImpl implements RoomCustomRepository {
         return mongoTemplate.aggregate(aggregation, "rooms", RoomWithUsers.class)
                 .getUniqueMappedResult();
     }
-}
 
+    @Override
+    public long backfillParticipantCount() {
+        // 서버에서 pipeline update 한 번으로 처리하므로 방 문서를 애플리케이션으로 읽어오지 않는다
+        // 필드가 없는 방뿐 아니라 $inc 시절 어긋난 값이 남은 방도 $size 기준으로 다시 맞춘다
+        ArrayOperators.Size actualCount = ArrayOperators.Size.lengthOfArray(
+                ConditionalOperators.ifNull("participantIds").then(List.of()));
+        Query mismatched = new Query(Criteria.expr(
+                ComparisonOperators.valueOf("participantCount").notEqualTo(actualCount)));
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("participantCount")
+                .toValue(actualCount);
+
+        return mongoTemplate.updateMulti(mismatched, update, Room.class).getModifiedCount();
+    }
+}
@@ -1,11 +1,21 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Message;
-import com.mongodb.client.result.UpdateResult;
+import com.ktb.chatapp.model.RoomReadState;
+import com.ktb.chatapp.repository.RoomReadStateRepository;
+import com.ktb.chatapp.service.message.MessagePersistencePipeline;
+import com.ktb.chatapp.service.message.ReadStatusAggregator;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -14,6 +24,9 @@ import org.springframework.stereotype.Service;
 
 /**
  * 메시지 읽음 상태 관리 서비스
+ * 메시지 문서의 readers 배열 대신 (방, 사용자)마다 읽은 지점(high-water mark) 하나만 room_read_states 에 저장한다.
+ * 읽음 처리는 메시지 수와 무관하게 upsert 1회이며, 메시지별 reader 목록은 조회 시점에 계산한다.
+ * async 모드에서는 ReadStatusAggregator 에 넘기고 바로 반환한다 (flushInterval 이내 eventual consistency).
  */
 @Slf4j
 @Service
@@ -21,36 +34,110 @@ import org.springframework.stereotype.Service;
 public class MessageReadStatusService {
 
     private final MongoTemplate mongoTemplate;
+    private final RoomReadStateRepository roomReadStateRepository;
+    private final ReadStatusAggregator readStatusAggregator;
+    private final MessagePersistencePipeline persistencePipeline;
 
     /**
-     * 메시지 읽음 상태 업데이트
+     * 메시지 읽음 상태 업데이트 (markMessagesAsRead)
+     * 전달된 메시지 중 가장 최신 메시지의 timestamp 까지 읽은 것으로 처리한다.
      * TODO : 022 : updateReadStatus 를 비동기(@Async)로 처리 (고려) => 최종 일관성 문제 있을 수 있음!!!!
+     * [개선 022] ReadStatusAggregator 가 (userId, roomId) 단위로 병합해 bulk upsert
      *
+     * @param roomId 채팅방 ID
      * @param messageIds 읽음 상태를 업데이트할 메시지 리스트
      * @param userId 읽은 사용자 ID
      */
-    public void updateReadStatus(List<String> messageIds, String userId) {
+    public void updateReadStatus(String roomId, List<String> messageIds, String userId) {
         if (messageIds.isEmpty()) {
             return;
         }
+        if (readStatusAggregator.isAsync()) {
+            readStatusAggregator.submit(roomId, userId, messageIds);
+            return;
+        }
+
+        // 아직 저장 파이프라인에 있는 메시지는 이미 저장된 메시지보다 최신이므로 있으면 Mongo 를 조회하지 않는다
+        LocalDateTime pendingLatest = messageIds.stream()
+                .map(persistencePipeline::findPending)
+                .flatMap(Optional::stream)
+                .filter(message -> roomId.equals(message.getRoomId()) && message.getTimestamp() != null)
+                .map(Message::getTimestamp)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (pendingLatest != null) {
+            updateReadStatus(roomId, pendingLatest, userId);
+            return;
+        }
 
         try {
-            Query query = new Query(
-                    Criteria.where("_id").in(messageIds)
-                            .and("readers.userId").ne(userId)
-            );
+            Query latestQuery = new Query(Criteria.where("_id").in(messageIds).and("roomId").is(roomId))
+                    .with(Sort.by(Sort.Direction.DESC, "timestamp"))
+                    .limit(1);
+            latestQuery.fields().include("timestamp");
+
+            Message latest = mongoTemplate.findOne(latestQuery, Message.class);
+            if (latest == null || latest.getTimestamp() == null) {
+                log.debug("No readable message in room {} for messageIds={}", roomId, messageIds);
+                return;
+            }
+            updateReadStatus(roomId, latest.getTimestamp(), userId);
 
-            Update update = new Update().addToSet("readers",
-                    new Message.MessageReader(userId, LocalDateTime.now())
-            );
+        } catch (Exception e) {
+            log.error("Read status update error for user {}: roomId={}, messageIds={}", userId, roomId, messageIds, e);
+        }
+    }
 
-            UpdateResult result = mongoTemplate.updateMulti(query, update, Message.class);
+    /**
+     * 읽은 지점을 readUpTo 로 올린다. $max 를 사용하므로 오래된 이벤트가 늦게 도착해도 되돌아가지 않는다.
+     *
+     * @param roomId 채팅방 ID
+     * @param readUpTo 읽은 가장 최신 메시지의 timestamp
+     * @param userId 읽은 사용자 ID
+     */
+    public void updateReadStatus(String roomId, LocalDateTime readUpTo, String userId) {
+        if (readStatusAggregator.isAsync()) {
+            readStatusAggregator.submit(roomId, userId, readUpTo);
+            return;
+        }
 
-            log.debug("Read status updated for {} messages by user {} (matched: {}, modified: {})",
-                    messageIds.size(), userId, result.getMatchedCount(), result.getModifiedCount());
+        Query query = new Query(Criteria.where("roomId").is(roomId).and("userId").is(userId));
+        Update update = new Update()
+                .max("lastReadAt", readUpTo)
+                .set("updatedAt", LocalDateTime.now());
 
+        try {
+            mongoTemplate.upsert(query, update, RoomReadState.class);
+        } catch (DuplicateKeyException e) {
+            // 같은 (방, 사용자)의 첫 upsert 가 동시에 실행된 경우 - 문서가 생겼으므로 update 로 재시도
+            mongoTemplate.updateFirst(query, update, RoomReadState.class);
         } catch (Exception e) {
-            log.error("Read status update error for user {}: messageIds={}", userId, messageIds, e);
+            log.error("Read status update error for user {}: roomId={}", userId, roomId, e);
+        }
+
+        log.debug("Read status updated - roomId: {}, userId: {}, readUpTo: {}", roomId, userId, readUpTo);
+    }
+
+    /**
+     * 방의 모든 참여자 읽은 지점. 메시지별 reader 는 {@link RoomReadState#hasRead} 로 계산한다.
+     * 아직 flush 되지 않은 읽은 지점이 더 최신이면 그 값을 반영한다.
+     */
+    public List<RoomReadState> getReadStates(String roomId) {
+        List<RoomReadState> states = roomReadStateRepository.findByRoomId(roomId);
+        if (!readStatusAggregator.isAsync()) {
+            return states;
+        }
+
+        Map<String, LocalDateTime> pending = readStatusAggregator.pendingReadUpTo(roomId);
+        if (pending.isEmpty()) {
+            return states;
         }
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, RoomReadState> merged = new LinkedHashMap<>();
+        states.forEach(state -> merged.put(state.getUserId(), state));
+        pending.forEach((userId, readUpTo) -> merged.merge(userId,
+                RoomReadState.builder().roomId(roomId).userId(userId).lastReadAt(readUpTo).updatedAt(now).build(),
+                (stored, unflushed) -> stored.hasRead(readUpTo) ? stored : unflushed));
+        return new ArrayList<>(merged.values());
     }
 }
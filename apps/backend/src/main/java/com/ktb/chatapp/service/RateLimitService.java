@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service;
 
-import com.ktb.chatapp.model.RateLimit;
+import com.ktb.chatapp.service.ratelimit.LocalTokenBucketRateLimiter;
+import com.ktb.chatapp.service.ratelimit.RateLimitAlgorithm;
 import com.ktb.chatapp.service.ratelimit.RateLimitStore;
 import jakarta.annotation.PostConstruct;
 import java.time.Duration;
@@ -9,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import static java.net.InetAddress.*;
 
@@ -19,11 +19,12 @@ import static java.net.InetAddress.*;
 public class RateLimitService {
 
     /**
-     * Mongo 기반 RateLimitStore를 이용해 요청 빈도를 추적·제어하는 서비스.
+     * RateLimitStore(Mongo 또는 Redis)를 이용해 요청 빈도를 추적·제어하는 서비스.
      * 실제 클라이언트 ID에 호스트명을 덧붙여 멀티 인스턴스 환경에서도 충돌 없이 제한을 공유한다.
      */
 
     private final RateLimitStore rateLimitStore;
+    private final LocalTokenBucketRateLimiter localTokenBucketRateLimiter;
     @Value("${HOSTNAME:''}")
     private String hostName;
     
@@ -44,49 +45,25 @@ public class RateLimitService {
     }
     
     
-    @Transactional
     public RateLimitCheckResult checkRateLimit(String _clientId, int maxRequests, Duration window) {
+        return checkRateLimit(_clientId, maxRequests, window, RateLimitAlgorithm.FIXED_WINDOW);
+    }
+    
+    public RateLimitCheckResult checkRateLimit(
+            String _clientId, int maxRequests, Duration window, RateLimitAlgorithm algorithm) {
+        if (algorithm == RateLimitAlgorithm.LOCAL_TOKEN_BUCKET) {
+            // 클러스터 전체 한도를 근사하므로 호스트명 없이 버킷을 공유 키로 합산한다
+            return localTokenBucketRateLimiter.tryConsume(_clientId, maxRequests, window);
+        }
+
         String actualClientId = hostName + ":" + _clientId;
-        long windowSeconds = Math.max(1L, window.getSeconds());
-        Instant now = Instant.now();
-        long nowEpochSeconds = now.getEpochSecond();
-        Instant expiresAt = now.plus(window);
 
         try {
-            //TODO : 010 : find 후 setCount/save 를 나누지 말고 Mongo $inc 같은 원자 연산을 사용하면 동시 요청 시 경쟁 조건과 불필요한 round-trip 을 줄일 수 있다.
-            RateLimit rateLimit = rateLimitStore.findByClientId(actualClientId).orElse(null);
-            int currentCount = rateLimit != null ? rateLimit.getCount() : 0;
-
-            if (rateLimit != null && currentCount >= maxRequests) {
-                long retryAfterSeconds = Math.max(1L,
-                    rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
-                long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
-                return RateLimitCheckResult.rejected(
-                        maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
-            }
-
-            // Create or update rate limit
-            if (rateLimit == null) {
-                rateLimit = RateLimit.builder()
-                        .clientId(actualClientId)
-                        .count(1)
-                        .expiresAt(expiresAt)
-                        .build();
-            } else {
-                rateLimit.setCount(currentCount + 1);
-            }
-            rateLimitStore.save(rateLimit);
-
-            int newCount = currentCount + 1;
-            int remaining = Math.max(0, maxRequests - newCount);
-            long ttlSeconds = Math.max(1L, rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
-            long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
-
-            return RateLimitCheckResult.allowed(
-                    maxRequests, remaining, windowSeconds, resetEpochSeconds, ttlSeconds);
+            return rateLimitStore.consume(actualClientId, maxRequests, window, algorithm);
         } catch (Exception e) {
             log.error("Rate limit check failed for client: {}", actualClientId, e);
-            long resetEpochSeconds = nowEpochSeconds + windowSeconds;
+            long windowSeconds = Math.max(1L, window.getSeconds());
+            long resetEpochSeconds = Instant.now().getEpochSecond() + windowSeconds;
             return RateLimitCheckResult.allowed(
                     maxRequests, maxRequests, windowSeconds, resetEpochSeconds, windowSeconds);
         }
@@ -0,0 +1,184 @@
+package com.ktb.chatapp.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방별 최근 10분 메시지 수 sliding window 카운터.
+ * 10초 버킷 60개로 창을 나누고, 이 노드에서 발행된 메시지는 메모리 버킷에 더한 뒤 주기적으로
+ * Redis hash(room:activity:&lt;bucket&gt;, field=roomId)에 HINCRBY 로 합친다.
+ * 같은 주기에 창 안의 버킷 hash 를 모두 읽어 방별 합계 스냅샷을 만들어 두므로,
+ * 방 목록/입장 시 조회는 Mongo aggregation 없이 메모리에서 O(1) 이다.
+ */
+@Slf4j
+@Component
+public class RoomActivityCounter {
+
+    static final String KEY_PREFIX = "room:activity:";
+    static final long BUCKET_SECONDS = 10;
+    static final int WINDOW_BUCKETS = 60;
+    // 창을 벗어난 버킷도 늦게 도착한 flush 를 받을 수 있도록 한 버킷 여유를 둔다
+    private static final Duration BUCKET_TTL = Duration.ofSeconds(BUCKET_SECONDS * (WINDOW_BUCKETS + 1));
+
+    private final StringRedisTemplate stringRedisTemplate;
+    // 아직 Redis 에 합치지 않은 이 노드의 증가분
+    private final ConcurrentHashMap<BucketKey, LongAdder> pending = new ConcurrentHashMap<>();
+    // 마지막 refresh 시점의 클러스터 합계 (flush 된 이 노드 증가분 포함)
+    private volatile Snapshot snapshot = new Snapshot(Long.MIN_VALUE, Map.of());
+    private final Timer refreshTimer;
+
+    public RoomActivityCounter(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.refreshTimer = Timer.builder("room.activity.refresh.time")
+                .description("Room activity flush + snapshot refresh time")
+                .register(meterRegistry);
+        Gauge.builder("room.activity.pending", pending, Map::size)
+                .description("Room activity buckets waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    public void increment(String roomId) {
+        if (roomId == null) {
+            return;
+        }
+        pending.computeIfAbsent(new BucketKey(roomId, currentBucket()), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 최근 10분 메시지 수. 스냅샷에 아직 반영되지 않은 이 노드의 증가분을 더한다.
+     */
+    public long count(String roomId) {
+        long bucket = currentBucket();
+        long oldest = bucket - WINDOW_BUCKETS + 1;
+        Snapshot current = snapshot;
+
+        long count = 0;
+        if (current.bucket() >= oldest) {
+            count = current.counts().getOrDefault(roomId, 0L);
+        }
+        // 미반영분은 flush 주기 내의 최근 버킷에만 있다
+        for (long b = Math.max(oldest, bucket - 1); b <= bucket; b++) {
+            LongAdder adder = pending.get(new BucketKey(roomId, b));
+            if (adder != null) {
+                count += adder.sum();
+            }
+        }
+        return count;
+    }
+
+    public Map<String, Long> counts(Collection<String> roomIds) {
+        Map<String, Long> result = new HashMap<>();
+        for (String roomId : roomIds) {
+            result.put(roomId, count(roomId));
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${room.activity.refresh-interval-ms:5000}")
+    public void refresh() {
+        refreshTimer.record(() -> {
+            try {
+                flush();
+                snapshot = loadSnapshot(currentBucket());
+            } catch (Exception e) {
+                // 다음 주기까지 직전 스냅샷을 유지한다
+                log.warn("Room activity refresh failed", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Room activity flush on shutdown failed", e);
+        }
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<BucketKey, Long> batch = new HashMap<>();
+        for (BucketKey key : pending.keySet()) {
+            LongAdder adder = pending.remove(key);
+            if (adder != null) {
+                batch.put(key, adder.sum());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    batch.forEach((key, delta) -> {
+                        String redisKey = KEY_PREFIX + key.bucket();
+                        ops.opsForHash().increment(redisKey, key.roomId(), delta);
+                        ops.expire(redisKey, BUCKET_TTL);
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 실패한 증가분은 다음 주기에 다시 합친다
+            batch.forEach((key, delta) -> pending.computeIfAbsent(key, k -> new LongAdder()).add(delta));
+            throw e;
+        }
+    }
+
+    private Snapshot loadSnapshot(long bucket) {
+        List<Object> buckets = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (long b = bucket - WINDOW_BUCKETS + 1; b <= bucket; b++) {
+                    ops.opsForHash().entries(KEY_PREFIX + b);
+                }
+                return null;
+            }
+        });
+
+        Map<String, Long> counts = new HashMap<>();
+        for (Object entries : buckets) {
+            if (entries instanceof Map<?, ?> map) {
+                map.forEach((roomId, value) ->
+                        counts.merge(roomId.toString(), Long.parseLong(value.toString()), Long::sum));
+            }
+        }
+        return new Snapshot(bucket, counts);
+    }
+
+    static long currentBucket() {
+        return System.currentTimeMillis() / 1000 / BUCKET_SECONDS;
+    }
+
+    record BucketKey(String roomId, long bucket) {
+    }
+
+    /**
+     * @param bucket 스냅샷을 만든 시점의 최신 버킷
+     */
+    record Snapshot(long bucket, Map<String, Long> counts) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.ktb.chatapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.config.RoomListCacheProperties;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 목록 조회 결과 캐시.
+ * (page, pageSize, sort, search) 키마다 직렬화된 JSON 응답을 보관해 반복 요청 시 Mongo 조회와 DTO 변환, 직렬화를 건너뛴다.
+ * 같은 키의 동시 요청은 Caffeine 의 키 단위 원자 계산으로 한 번만 Mongo 를 조회하고 나머지는 그 결과를 기다린다.
+ * 방이 생성되거나 알 수 없는 변경이 전파되면 정렬과 페이지 경계가 바뀔 수 있으므로 전체를 무효화한다.
+ * 참가/퇴장만 일어난 경우에는 참가자 수 정렬 페이지와 그 방이 들어 있는 페이지만 무효화한다.
+ */
+@Slf4j
+@Service
+public class RoomListCache {
+
+    private final RoomListCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private static final String PARTICIPANTS_SORT = "participantsCount";
+
+    private final Cache<Key, CachedPage> cache;
+    private final Counter loadCounter;
+
+    public RoomListCache(
+            RoomListCacheProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "room.list");
+        this.loadCounter = Counter.builder("room.list.loads")
+                .description("Room list computations against Mongo")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader 로 계산해 직렬화한다.
+     * 실패 응답(success=false)은 캐시하지 않는다.
+     */
+    public byte[] get(Key key, Supplier<RoomsResponse> loader) {
+        if (!properties.isEnabled()) {
+            return serialize(loader.get());
+        }
+        byte[][] uncached = new byte[1][];
+        CachedPage cached = cache.get(key, k -> {
+            loadCounter.increment();
+            RoomsResponse response = loader.get();
+            byte[] body = serialize(response);
+            if (!response.isSuccess()) {
+                uncached[0] = body;
+                return null;
+            }
+            Set<String> roomIds = response.getData() == null ? Set.of() : response.getData().stream()
+                    .map(RoomResponse::getId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new CachedPage(body, roomIds);
+        });
+        return cached != null ? cached.body() : uncached[0];
+    }
+
+    @EventListener
+    public void onRoomCreated(RoomCreatedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * REST 입장으로 발행된다 (참가자 변경).
+     */
+    @EventListener
+    public void onRoomUpdated(RoomUpdatedEvent event) {
+        invalidateRoom(event.getRoomId());
+    }
+
+    @EventListener
+    public void onParticipantsChanged(RoomParticipantsChangedEvent event) {
+        if (event.isParticipantsOnly()) {
+            invalidateRoom(event.getRoomId());
+        } else {
+            invalidateAll();
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 참가자만 바뀐 방 기준 무효화. 생성일/이름 정렬과 검색 결과의 페이지 경계는 참가자 변경으로 바뀌지 않으므로
+     * 그 방이 들어 있는 페이지만 버리고, 참가자 수 정렬 페이지는 순서가 바뀔 수 있어 모두 버린다.
+     */
+    void invalidateRoom(String roomId) {
+        if (roomId == null) {
+            invalidateAll();
+            return;
+        }
+        cache.asMap().entrySet().removeIf(entry -> PARTICIPANTS_SORT.equals(entry.getKey().sortField())
+                || entry.getValue().roomIds().contains(roomId));
+    }
+
+    private byte[] serialize(RoomsResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (Exception e) {
+            throw new IllegalStateException("방 목록 응답 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 정렬/검색 파라미터는 검증·정규화된 값을 사용한다 (기본값으로 바뀐 요청이 같은 키를 공유하도록).
+     */
+    public record Key(int page, int pageSize, String sortField, String sortOrder, String search) {
+    }
+
+    private record CachedPage(byte[] body, Set<String> roomIds) {
+    }
+}
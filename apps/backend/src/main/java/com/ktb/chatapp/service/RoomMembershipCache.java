@@ -0,0 +1,272 @@
+package com.ktb.chatapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.config.RoomCacheProperties;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방 메타데이터와 참가자 집합을 보관하는 in-process 캐시.
+ * Socket.IO 이벤트마다 roomRepository.findById 로 참가 여부를 확인하던 것을 메모리 조회로 대체한다.
+ * 이 노드에서 일어난 참가/퇴장은 Mongo 원자 연산 후 캐시에 바로 반영하고,
+ * 다른 노드에는 Redis pub/sub 으로 무효화를 전파해 다음 조회 때 다시 적재하게 한다.
+ * 로컬 변경과 전파받은 무효화 모두 RoomParticipantsChangedEvent 로 알린다.
+ * 존재하지 않는 roomId 도 negativeTtl 동안 기억해 잘못된 roomId 이벤트가 매번 Mongo 를 조회하지 않게 한다.
+ * 무효화 유실에 대비해 항목은 expireAfterWrite 로 만료되고, 참가자가 아니라고 판단하기 전에는 한 번 다시 적재한다.
+ */
+@Slf4j
+@Service
+public class RoomMembershipCache implements InitializingBean, DisposableBean {
+
+    static final String INVALIDATION_TOPIC = "room:membership:invalidate";
+    private static final String MESSAGE_DELIMITER = ":";
+    // 참가/퇴장만 일어난 무효화 표시. roomId(ObjectId) 에는 ':' 가 없으므로 접미사로 구분한다
+    private static final String PARTICIPANTS_ONLY_SUFFIX = ":participants";
+
+    private final RoomRepository roomRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<String, CachedRoom> cache;
+    private final Cache<String, Boolean> missing;
+    private final RTopic invalidationTopic;
+    private final String nodeId = UUID.randomUUID().toString();
+    private int listenerId = -1;
+
+    public RoomMembershipCache(
+            RoomRepository roomRepository,
+            RedissonClient redissonClient,
+            RoomCacheProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.roomRepository = roomRepository;
+        this.eventPublisher = eventPublisher;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getNegativeTtl())
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "room.membership");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            listenerId = invalidationTopic.addListener(String.class, (channel, message) -> onInvalidation(message));
+        } catch (Exception e) {
+            log.warn("Room membership invalidation subscribe failed - entries will only expire by TTL", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (listenerId != -1) {
+            invalidationTopic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 방 조회. 캐시에 없으면 Mongo 에서 한 번 적재하고, 없는 방이면 negativeTtl 동안 다시 조회하지 않는다.
+     */
+    public Optional<CachedRoom> getRoom(String roomId) {
+        if (roomId == null || missing.getIfPresent(roomId) != null) {
+            return Optional.empty();
+        }
+        CachedRoom room = cache.get(roomId, id -> roomRepository.findById(id)
+                .map(CachedRoom::from)
+                .orElse(null));
+        if (room == null) {
+            missing.put(roomId, Boolean.TRUE);
+        }
+        return Optional.ofNullable(room);
+    }
+
+    /**
+     * 참가 여부 확인. 참가자면 캐시에서 O(1) 로 응답하고,
+     * 아니면 적재 경합이나 유실된 무효화로 캐시가 뒤처졌을 수 있으므로 거절 전에 Mongo 에서 한 번 다시 적재한다.
+     */
+    public boolean isParticipant(String roomId, String userId) {
+        Optional<CachedRoom> room = getRoom(roomId);
+        if (room.isEmpty()) {
+            return false;
+        }
+        if (room.get().isParticipant(userId)) {
+            return true;
+        }
+        return reload(roomId)
+                .map(reloaded -> reloaded.isParticipant(userId))
+                .orElse(false);
+    }
+
+    /**
+     * 키 단위 원자 계산 안에서 다시 적재해, 동시에 진행 중인 로컬 참가/퇴장 반영이 적재 이후에 적용되게 한다.
+     */
+    private Optional<CachedRoom> reload(String roomId) {
+        CachedRoom room = cache.asMap().compute(roomId, (id, previous) -> roomRepository.findById(id)
+                .map(CachedRoom::from)
+                .orElse(null));
+        if (room == null) {
+            missing.put(roomId, Boolean.TRUE);
+        }
+        return Optional.ofNullable(room);
+    }
+
+    /**
+     * 새로 생성된 방을 적재하고 다른 노드의 이전 항목을 무효화한다.
+     */
+    public void put(Room room) {
+        missing.invalidate(room.getId());
+        cache.put(room.getId(), CachedRoom.from(room));
+        publishInvalidation(room.getId(), false);
+    }
+
+    /**
+     * Mongo $addToSet 후 로컬 참가자 집합에 반영.
+     * computeIfPresent 는 진행 중인 적재가 끝난 뒤 실행되므로, 쓰기 이전 상태를 읽은 적재 결과에도 변경이 반영된다.
+     */
+    public void addParticipant(String roomId, String userId) {
+        roomRepository.addParticipant(roomId, userId);
+        cache.asMap().computeIfPresent(roomId, (id, cached) -> {
+            cached.participantIds.add(userId);
+            return cached;
+        });
+        publishInvalidation(roomId, true);
+    }
+
+    /**
+     * Mongo $pull 후 로컬 참가자 집합에 반영 (진행 중인 적재와의 순서는 addParticipant 와 같다)
+     */
+    public void removeParticipant(String roomId, String userId) {
+        roomRepository.removeParticipant(roomId, userId);
+        cache.asMap().computeIfPresent(roomId, (id, cached) -> {
+            cached.participantIds.remove(userId);
+            return cached;
+        });
+        publishInvalidation(roomId, true);
+    }
+
+    public void invalidate(String roomId) {
+        cache.invalidate(roomId);
+        missing.invalidate(roomId);
+        publishInvalidation(roomId, false);
+    }
+
+    private void publishInvalidation(String roomId, boolean participantsOnly) {
+        // 방 목록 캐시 등 참가자 수에 의존하는 다른 캐시에 알림
+        eventPublisher.publishEvent(new RoomParticipantsChangedEvent(this, roomId, participantsOnly));
+        try {
+            invalidationTopic.publish(nodeId + MESSAGE_DELIMITER + roomId
+                    + (participantsOnly ? PARTICIPANTS_ONLY_SUFFIX : ""));
+        } catch (Exception e) {
+            log.warn("Room membership invalidation publish failed for roomId: {}", roomId, e);
+        }
+    }
+
+    private void onInvalidation(String message) {
+        int delimiter = message.indexOf(MESSAGE_DELIMITER);
+        if (delimiter < 0) {
+            return;
+        }
+        if (nodeId.equals(message.substring(0, delimiter))) {
+            return;
+        }
+        String roomId = message.substring(delimiter + 1);
+        boolean participantsOnly = roomId.endsWith(PARTICIPANTS_ONLY_SUFFIX);
+        if (participantsOnly) {
+            roomId = roomId.substring(0, roomId.length() - PARTICIPANTS_ONLY_SUFFIX.length());
+        }
+        cache.invalidate(roomId);
+        // 다른 노드에서 방이 생성된 경우
+        missing.invalidate(roomId);
+        eventPublisher.publishEvent(new RoomParticipantsChangedEvent(this, roomId, participantsOnly));
+    }
+
+    /**
+     * 캐시에 보관하는 방 스냅샷. 메타데이터는 불변이고 참가자 집합만 동시 수정 가능하다.
+     */
+    public static final class CachedRoom {
+
+        private final String id;
+        private final String name;
+        private final String creator;
+        private final boolean hasPassword;
+        private final LocalDateTime createdAt;
+        private final Set<String> participantIds;
+
+        private CachedRoom(String id, String name, String creator, boolean hasPassword,
+                           LocalDateTime createdAt, Set<String> participantIds) {
+            this.id = id;
+            this.name = name;
+            this.creator = creator;
+            this.hasPassword = hasPassword;
+            this.createdAt = createdAt;
+            this.participantIds = participantIds;
+        }
+
+        public static CachedRoom from(Room room) {
+            Set<String> participants = ConcurrentHashMap.newKeySet();
+            if (room.getParticipantIds() != null) {
+                participants.addAll(room.getParticipantIds());
+            }
+            return new CachedRoom(room.getId(), room.getName(), room.getCreator(), room.isHasPassword(),
+                    room.getCreatedAt(), participants);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getCreator() {
+            return creator;
+        }
+
+        public boolean isHasPassword() {
+            return hasPassword;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public boolean isParticipant(String userId) {
+            return userId != null && participantIds.contains(userId);
+        }
+
+        /**
+         * 참가자 ID 읽기 전용 뷰
+         */
+        public Set<String> getParticipantIds() {
+            return Collections.unmodifiableSet(participantIds);
+        }
+
+        public int getParticipantCount() {
+            return participantIds.size();
+        }
+    }
+}
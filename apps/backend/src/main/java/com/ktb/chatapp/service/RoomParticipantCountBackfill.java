@@ -0,0 +1,36 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * participantCount 필드 도입 이전에 만들어진 방과 값이 어긋난 방의 참가자 수를 participantIds 크기로 맞춘다.
+ * 참가/퇴장은 $size 로 다시 세므로 백필 전에 변경된 방도 값이 맞고, 여기서는 남은 불일치만 고친다.
+ * 여러 노드가 동시에 실행해도 결과는 같고, 이후 기동에서는 갱신할 방이 없다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "room.participant-count.backfill-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomParticipantCountBackfill {
+
+    private final RoomRepository roomRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long updated = roomRepository.backfillParticipantCount();
+            if (updated > 0) {
+                log.info("Room participantCount backfilled - rooms: {}", updated);
+            }
+        } catch (Exception e) {
+            // 정렬 품질에만 영향을 주므로 기동을 막지 않고 다음 기동에서 다시 시도한다
+            log.error("Room participantCount backfill failed", e);
+        }
+    }
+}
@@ -5,9 +5,9 @@ import com.ktb.chatapp.event.RoomCreatedEvent;
 import com.ktb.chatapp.event.RoomUpdatedEvent;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.search.RoomSearchIndex;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
@@ -33,47 +33,73 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomMembershipCache roomMembershipCache;
+    private final RoomListCache roomListCache;
+    private final RoomActivityCounter roomActivityCounter;
+    private final RoomSearchIndex roomSearchIndex;
 
-    private static final LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
+    /**
+     * 방 목록을 직렬화된 JSON 으로 반환한다. 같은 (page, pageSize, sort, search) 요청은 RoomListCache 의 결과를 재사용한다.
+     * 캐시된 응답은 모든 사용자가 공유하므로 요청자별 값은 담지 않는다 (getAllRoomsWithPagination 참고).
+     */
+    public byte[] getAllRoomsWithPaginationJson(com.ktb.chatapp.dto.PageRequest pageRequest) {
+        normalizeSort(pageRequest);
+        String search = pageRequest.getSearch() != null ? pageRequest.getSearch().trim() : "";
+        RoomListCache.Key key = new RoomListCache.Key(
+                pageRequest.getPage(),
+                pageRequest.getPageSize(),
+                pageRequest.getSortField(),
+                pageRequest.getSortOrder(),
+                search);
+        return roomListCache.get(key, () -> getAllRoomsWithPagination(pageRequest));
+    }
 
-    public RoomsResponse getAllRoomsWithPagination(
-            com.ktb.chatapp.dto.PageRequest pageRequest, String name) {
+    private void normalizeSort(com.ktb.chatapp.dto.PageRequest pageRequest) {
+        if (!pageRequest.isValidSortField()) {
+            pageRequest.setSortField("createdAt");
+        }
+        if (!pageRequest.isValidSortOrder()) {
+            pageRequest.setSortOrder("desc");
+        }
+    }
+
+    /**
+     * 방 목록 조회. 요청자와 무관한 응답이라 isCreator 는 항상 false 이며,
+     * 클라이언트는 creator.id 로 판단한다. 요청자 기준 isCreator 는 단건 조회/입장 응답에서 계산한다.
+     */
+    public RoomsResponse getAllRoomsWithPagination(com.ktb.chatapp.dto.PageRequest pageRequest) {
 
         try {
             // 정렬 설정 검증
-            if (!pageRequest.isValidSortField()) {
-                pageRequest.setSortField("createdAt");
-            }
-            if (!pageRequest.isValidSortOrder()) {
-                pageRequest.setSortOrder("desc");
-            }
+            normalizeSort(pageRequest);
 
             // 정렬 방향 설정
             Sort.Direction direction = "desc".equals(pageRequest.getSortOrder())
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
 
-            // 정렬 필드 매핑 (participantsCount는 특별 처리 필요)
-            String sortField = pageRequest.getSortField();
-            if ("participantsCount".equals(sortField)) {
-                sortField = "participantIds"; // MongoDB 필드명으로 변경
+            // 정렬 필드 매핑 (participantsCount는 비정규화된 participantCount 인덱스로 정렬)
+            Sort sort;
+            if ("participantsCount".equals(pageRequest.getSortField())) {
+                sort = Sort.by(direction, "participantCount", "id");
+            } else {
+                sort = Sort.by(direction, pageRequest.getSortField());
             }
 
             // Pageable 객체 생성
             PageRequest springPageRequest = PageRequest.of(
                 pageRequest.getPage(),
                 pageRequest.getPageSize(),
-                Sort.by(direction, sortField)
+                sort
             );
 
             // 검색어가 있는 경우와 없는 경우 분리
             Page<Room> roomPage;
             if (pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty()) {
-                roomPage = roomRepository.findByNameContainingIgnoreCase(
-                    pageRequest.getSearch().trim(), springPageRequest);
+                // 대소문자 무시 정규식 컬렉션 스캔 대신 검색 색인에서 후보를 찾고 페이지만 _id 로 조회
+                roomPage = roomSearchIndex.search(pageRequest.getSearch().trim(), springPageRequest);
             } else {
                 roomPage = roomRepository.findAll(springPageRequest);
             }
@@ -82,12 +108,8 @@ public class RoomService {
                     .map(Room::getId)
                     .toList();
 
-            // Room의 최근 10분간 메시지 수 조회
-            Map<String, Long> recentMessageCountMap = messageRepository.countRecentMessagesByRoomIds(roomIds, tenMinutesAgo).stream()
-                    .collect(Collectors.toMap(
-                            RoomMessageCount::getRoomId,
-                            RoomMessageCount::getCount
-                    ));
+            /// [개선 002] Room의 최근 10분간 메시지 수는 aggregation 대신 sliding window 카운터에서 조회
+            Map<String, Long> recentMessageCountMap = roomActivityCounter.counts(roomIds);
 
             // creator와 participants를 flatten 배치 조회
             Set<String> creatorIds = roomPage.getContent().stream()
@@ -121,15 +143,12 @@ public class RoomService {
 
                         int recentMessageCount = recentMessageCountMap.getOrDefault(room.getId(), 0L).intValue();
 
-                        boolean isCreator = creator != null && creator.getId() != null
-                                && creator.getId().equals(name);
-
                         return mapToRoomResponse(
                                 room,
                                 creator,
                                 participants,
                                 recentMessageCount,
-                                isCreator
+                                false
                         );
                     })
                     .collect(Collectors.toList());
@@ -216,7 +235,7 @@ public class RoomService {
         Room room = new Room();
         room.setName(createRoomRequest.getName().trim());
         room.setCreator(creator.getId());
-        room.getParticipantIds().add(creator.getId());
+        room.addParticipant(creator.getId());
 
         if (createRoomRequest.getPassword() != null && !createRoomRequest.getPassword().isEmpty()) {
             room.setHasPassword(true);
@@ -224,6 +243,7 @@ public class RoomService {
         }
 
         Room savedRoom = roomRepository.save(room);
+        roomMembershipCache.put(savedRoom);
 
         // 새로 생성한 룸에는 채팅이 없고 참가자는 방장 한 명
         List<User> participants = List.of(creator);
@@ -266,7 +286,7 @@ public class RoomService {
 
         // 4. 참가자 추가 (atomic $addToSet)
         //TODO : 021 : 참가자 추가를 전체 Room 문서를 읽고 저장하는 대신 Mongo $addToSet 업데이트로 처리하면 경합과 write volume 을 줄일 수 있다.
-        roomRepository.addParticipant(roomId, user.getId());
+        roomMembershipCache.addParticipant(roomId, user.getId());
 
         // 5. 응답용 참가자 리스트 구성
         List<User> participantIds = roomAgg.getParticipants();
@@ -283,8 +303,8 @@ public class RoomService {
 
         boolean isCreator = creator != null && creator.getId().equals(user.getId());
 
-        // 7. 최근 메시지 수 조회 (필요하면 aggregation으로 합칠 수도 있음)
-        long recentMessageCount = messageRepository.countRecentMessagesByRoomId(roomAgg.getId(), tenMinutesAgo);
+        // 7. 최근 메시지 수 조회
+        long recentMessageCount = roomActivityCounter.count(roomAgg.getId());
 
         // 8. Room 엔티티로
         Room roomForResponse = new Room();
@@ -347,8 +367,8 @@ public class RoomService {
         // participants는 $in 배치 쿼리
         List<User> participants = userRepository.findByIdIn(room.getParticipantIds());
 
-        // recentMessageCount는 단일 쿼리
-        long recentMessageCount = messageRepository.countRecentMessagesByRoomId(room.getId(), tenMinutesAgo);
+        // recentMessageCount는 메모리 카운터
+        long recentMessageCount = roomActivityCounter.count(room.getId());
 
         boolean isCreator = creator != null && creator.getId().equals(name);
 
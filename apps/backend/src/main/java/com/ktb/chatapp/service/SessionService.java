@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.session.SessionActivityTracker;
 import com.ktb.chatapp.service.session.SessionStore;
 import java.time.Instant;
 import java.util.UUID;
@@ -22,6 +23,7 @@ public class SessionService {
      */
 
     private final SessionStore sessionStore;
+    private final SessionActivityTracker sessionActivityTracker;
     public static final long SESSION_TTL_SEC = DurationStyle.detectAndParse(SESSION_TTL).getSeconds();
     private static final long SESSION_TIMEOUT = SESSION_TTL_SEC * 1000;
 
@@ -81,6 +83,7 @@ public class SessionService {
             }
 
             //TODO 42 (HIGH): 모든 Socket 이벤트가 validateSession 을 호출하면서 sessionStore.findByUserId 로 Mongo round-trip을 발생시킨다. 세션 정보를 로컬 캐시에 보관하거나 request-context 에서 재사용해야 TPS 하락을 막을 수 있다.
+            /// [개선 42] SessionNearCacheStore 가 findByUserId 를 in-process 캐시에서 응답 (세션 교체/삭제 시 pub/sub 무효화)
             Session session = sessionStore.findByUserId(userId).orElse(null);
             
             if (session == null) {
@@ -93,20 +96,24 @@ public class SessionService {
                 return SessionValidationResult.invalid("INVALID_SESSION", "잘못된 세션 ID입니다.");
             }
 
+            // 아직 flush 되지 않은 활동 시각까지 반영해 만료 여부 판단
+            long lastActivity = Math.max(session.getLastActivity(),
+                    sessionActivityTracker.pendingLastActivity(userId, sessionId));
+
             // Check if session has timed out
             long now = Instant.now().toEpochMilli();
-            if (now - session.getLastActivity() > SESSION_TIMEOUT) {
+            if (now - lastActivity > SESSION_TIMEOUT) {
                 log.warn("Session timed out for userId: {}, sessionId: {}", userId, sessionId);
                 removeSession(userId, sessionId);
                 return SessionValidationResult.invalid("SESSION_EXPIRED", "세션이 만료되었습니다.");
             }
 
             // Update last activity
-            session.setLastActivity(now);
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            session = sessionStore.save(session);
+            // 문서 전체 save 대신 write-behind 트래커에 기록 → 주기적 bulkWrite($max) 로 병합 반영
+            sessionActivityTracker.touch(userId, sessionId, now);
 
             SessionData sessionData = toSessionData(session);
+            sessionData.setLastActivity(now);
             return SessionValidationResult.valid(sessionData);
 
         } catch (Exception e) {
@@ -128,9 +135,7 @@ public class SessionService {
                 return;
             }
 
-            session.setLastActivity(Instant.now().toEpochMilli());
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            sessionStore.save(session);
+            sessionActivityTracker.touch(userId, session.getSessionId(), Instant.now().toEpochMilli());
             
         } catch (Exception e) {
             log.error("Failed to update session activity for user: {}", userId, e);
@@ -139,6 +144,7 @@ public class SessionService {
 
     public void removeSession(String userId, String sessionId) {
         try {
+            sessionActivityTracker.discard(userId);
             if (sessionId != null) {
                 sessionStore.delete(userId, sessionId);
             } else {
@@ -152,6 +158,7 @@ public class SessionService {
 
     public void removeAllUserSessions(String userId) {
         try {
+            sessionActivityTracker.discard(userId);
             sessionStore.deleteAll(userId);
         } catch (Exception e) {
             log.error("Remove all sessions error for userId: {}", userId, e);
@@ -171,7 +178,10 @@ public class SessionService {
                 return null;
             }
 
-            return toSessionData(session);
+            SessionData sessionData = toSessionData(session);
+            sessionData.setLastActivity(Math.max(session.getLastActivity(),
+                    sessionActivityTracker.pendingLastActivity(userId, session.getSessionId())));
+            return sessionData;
         } catch (Exception e) {
             log.error("Get active session error for userId: {}", userId, e);
             return null;
@@ -0,0 +1,104 @@
+package com.ktb.chatapp.service;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ktb.chatapp.model.User;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 프로필 조회를 위한 Caffeine 기반 near-cache.
+ * 메시지 송신자/참가자 목록 구성 시 users 컬렉션 조회를 줄이고,
+ * 프로필 변경/탈퇴 시 evict 로 로컬 항목을 지우고 Redis pub/sub 으로 다른 노드에도 전파한다.
+ */
+@Slf4j
+@Service
+public class UserCacheService implements InitializingBean, DisposableBean {
+
+    static final String INVALIDATION_TOPIC = "user:cache:invalidate";
+
+    private final LoadingCache<String, Optional<User>> cache;
+    private final RTopic invalidationTopic;
+    private int listenerId = -1;
+
+    public UserCacheService(LoadingCache<String, Optional<User>> cache, RedissonClient redissonClient) {
+        this.cache = cache;
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            listenerId = invalidationTopic.addListener(String.class, (channel, userId) -> cache.invalidate(userId));
+        } catch (Exception e) {
+            log.warn("User cache invalidation subscribe failed - entries will only expire by TTL", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (listenerId != -1) {
+            invalidationTopic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 단일 사용자 조회 (캐시 활용).
+     */
+    public Optional<User> getUser(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return cache.get(userId);
+    }
+
+    /**
+     * 사용자 ID 목록을 캐시/Batched 조회 후 Map으로 반환.
+     */
+    public Map<String, User> getUsers(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Set<String> uniqueIds = userIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (uniqueIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, Optional<User>> cachedEntries = cache.getAll(uniqueIds);
+        Map<String, User> resolved = new HashMap<>();
+        cachedEntries.forEach((id, maybeUser) -> maybeUser.ifPresent(user -> resolved.put(id, user)));
+        return resolved;
+    }
+
+    /**
+     * 프로필 변경/탈퇴 시 호출. 로컬 항목 제거 후 다른 노드에도 무효화를 전파한다.
+     */
+    public void evict(String userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(userId);
+        try {
+            invalidationTopic.publish(userId);
+        } catch (Exception e) {
+            log.warn("User cache invalidation publish failed for userId: {}", userId, e);
+        }
+    }
+}
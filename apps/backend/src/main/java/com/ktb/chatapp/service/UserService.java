@@ -32,6 +32,7 @@ public class UserService {
     private final FileService fileService;
     private final PresignedUploadRepository presignedUploadRepository;
     private final PresignedUploadService presignedUploadService;
+    private final UserCacheService userCacheService;
 
     @Value("${app.profile.image.max-size:5242880}")
     private long maxProfileImageSize;
@@ -46,11 +47,13 @@ public class UserService {
     public UserService(UserRepository userRepository,
                        FileService fileService,
                        PresignedUploadRepository presignedUploadRepository,
-                       PresignedUploadService presignedUploadService) {
+                       PresignedUploadService presignedUploadService,
+                       UserCacheService userCacheService) {
         this.userRepository = userRepository;
         this.fileService = fileService;
         this.presignedUploadRepository = presignedUploadRepository;
         this.presignedUploadService = presignedUploadService;
+        this.userCacheService = userCacheService;
     }
 
     /**
@@ -76,6 +79,7 @@ public class UserService {
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
+        userCacheService.evict(user.getId());
         log.info("사용자 프로필 업데이트 완료 - ID: {}, Name: {}", user.getId(), request.getName());
 
         return UserResponse.from(updatedUser);
@@ -105,6 +109,7 @@ public class UserService {
         user.setProfileImage(profileImageUrl);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userCacheService.evict(user.getId());
 
         log.info("프로필 이미지 업로드 완료 - User ID: {}, File: {}", user.getId(), profileImageUrl);
 
@@ -182,6 +187,7 @@ public class UserService {
         user.setProfileImage(profileImageUrl);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        userCacheService.evict(user.getId());
 
         log.info("프로필 이미지 업로드 완료 (Presigned) - User ID: {}, File: {}", user.getId(), profileImageUrl);
 
@@ -209,6 +215,7 @@ public class UserService {
             user.setProfileImage("");
             user.setUpdatedAt(LocalDateTime.now());
             userRepository.save(user);
+            userCacheService.evict(user.getId());
             log.info("프로필 이미지 삭제 완료 - User ID: {}", user.getId());
         }
     }
@@ -226,6 +233,7 @@ public class UserService {
         }
 
         userRepository.delete(user);
+        userCacheService.evict(user.getId());
         log.info("회원 탈퇴 완료 - User ID: {}", user.getId());
     }
 }
@@ -0,0 +1,251 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.config.MessagePersistenceProperties;
+import com.ktb.chatapp.config.MessagePersistenceProperties.Durability;
+import com.ktb.chatapp.config.MessagePersistenceProperties.Mode;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.MessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 저장 파이프라인.
+ * ASYNC 모드에서는 메시지에 ObjectId/timestamp 를 미리 부여해 바로 브로드캐스트할 수 있게 하고,
+ * 실제 저장은 bounded 큐(ArrayBlockingQueue 링 버퍼)를 비우는 전용 writer 스레드가 insertMany 배치로 처리한다.
+ * 배치는 batchSize 에 도달하거나 flushInterval 이 지나면 기록된다.
+ * 브로드캐스트된 메시지가 Mongo 에 들어가기 전까지는 findPending 으로 조회할 수 있어,
+ * 리액션/읽음 처리처럼 방금 보낸 메시지를 참조하는 경로가 저장 완료를 기다리지 않아도 된다.
+ */
+@Slf4j
+@Component
+public class MessagePersistencePipeline {
+
+    private final MessageRepository messageRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MessagePersistenceProperties properties;
+    private final BlockingQueue<Message> queue;
+    // 큐에 들어갔지만 아직 기록(또는 포기)되지 않은 메시지. 기록이 끝난 뒤에 제거하므로 여기서 빠진 메시지는 Mongo 에서 보인다
+    private final ConcurrentHashMap<String, Message> unpersisted = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    private final Counter fallbackCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public MessagePersistencePipeline(
+            MessageRepository messageRepository,
+            MongoTemplate mongoTemplate,
+            MessagePersistenceProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.messageRepository = messageRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("message.persistence.queue.depth", queue, BlockingQueue::size)
+                .description("Messages waiting to be persisted")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("message.persistence.batch.size")
+                .description("Messages per insertMany batch")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("message.persistence.flush.time")
+                .description("insertMany batch latency")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("message.persistence.dropped")
+                .description("Messages dropped because the queue was full or the write failed (best-effort)")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("message.persistence.sync_fallback")
+                .description("Messages written synchronously because the queue was full (strict)")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("message.persistence.failed")
+                .description("Messages that could not be persisted")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isAsync()) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "message-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Message persistence pipeline started - durability: {}, capacity: {}, batchSize: {}, flushInterval: {}",
+                properties.getDurability(), properties.getQueueCapacity(),
+                properties.getBatchSize(), properties.getFlushInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // writer 가 끝내지 못한 잔여분은 종료 스레드에서 기록
+        List<Message> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    public boolean isAsync() {
+        return properties.getMode() == Mode.ASYNC;
+    }
+
+    /**
+     * 브로드캐스트됐지만 아직 Mongo 에 기록되지 않은 메시지. SYNC 모드에서는 항상 empty.
+     */
+    public Optional<Message> findPending(String messageId) {
+        if (messageId == null || unpersisted.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(unpersisted.get(messageId));
+    }
+
+    public boolean isPending(String messageId) {
+        return findPending(messageId).isPresent();
+    }
+
+    /**
+     * 메시지 저장 요청.
+     * SYNC 모드는 저장된 메시지를, ASYNC 모드는 ID/timestamp 가 부여된 메시지를 즉시 반환한다.
+     */
+    public Message persist(Message message) {
+        if (message.getId() == null) {
+            message.setId(new ObjectId().toHexString());
+        }
+        if (message.getTimestamp() == null) {
+            message.setTimestamp(LocalDateTime.now());
+        }
+
+        if (!isAsync()) {
+            return messageRepository.save(message);
+        }
+
+        unpersisted.put(message.getId(), message);
+        if (properties.getDurability() == Durability.BEST_EFFORT) {
+            if (!queue.offer(message)) {
+                unpersisted.remove(message.getId());
+                droppedCounter.increment();
+                log.warn("Message persistence queue full - dropping message {} in room {}",
+                        message.getId(), message.getRoomId());
+            }
+            return message;
+        }
+
+        try {
+            if (queue.offer(message, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return message;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // backpressure: 큐가 비워지지 않으면 호출 스레드가 직접 저장해 생산 속도를 늦춘다
+        fallbackCounter.increment();
+        try {
+            return messageRepository.save(message);
+        } finally {
+            unpersisted.remove(message.getId());
+        }
+    }
+
+    private void drainLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<Message> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Message first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long waitNanos = deadline - System.nanoTime();
+                    if (waitNanos <= 0) {
+                        break;
+                    }
+                    Message next = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Message writer loop error", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Message> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            flushTimer.record(() -> mongoTemplate.insert(batch, Message.class));
+        } catch (Exception e) {
+            log.error("Message batch insert failed - size: {}", batch.size(), e);
+            if (properties.getDurability() == Durability.STRICT) {
+                retryIndividually(batch);
+            } else {
+                droppedCounter.increment(batch.size());
+            }
+        } finally {
+            batch.forEach(message -> unpersisted.remove(message.getId()));
+        }
+    }
+
+    /**
+     * 배치 일부만 들어갔을 수 있으므로 ID 기준 save(upsert)로 건별 재시도한다.
+     */
+    private void retryIndividually(List<Message> batch) {
+        for (Message message : batch) {
+            try {
+                messageRepository.save(message);
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("Message persist retry failed - id: {}, room: {}", message.getId(), message.getRoomId(), e);
+            }
+        }
+    }
+}
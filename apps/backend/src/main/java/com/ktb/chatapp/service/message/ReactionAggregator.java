@@ -0,0 +1,344 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.config.ReactionProperties;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.MessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 리액션 집계기.
+ * 메시지별 리액션 상태(리액션 → 사용자 집합)를 메모리에 유지해 토글 시 개수를 바로 계산하고,
+ * 저장은 (messageId, reaction, userId) 단위로 마지막 의도만 남겨 flushInterval 마다 bulk $addToSet/$pull 로 기록한다.
+ * 상태는 메시지당 처음 한 번만 room, reactions projection 으로 적재하며,
+ * 다른 노드의 토글은 Redis pub/sub 으로 받아 이미 적재된 상태와 최근 메시지 캐시에 반영하고,
+ * 그 노드의 bulk 기록 전에 적재되더라도 빠지지 않도록 syncRetention 동안 보관했다가 적재 시 덧붙인다.
+ * 저장 파이프라인(ASYNC)에 아직 있는 메시지는 파이프라인의 메시지로 상태를 만들고, 그 메시지의 토글은 저장이 끝난 뒤 기록한다.
+ */
+@Slf4j
+@Component
+public class ReactionAggregator {
+
+    static final String SYNC_TOPIC = "message:reaction:sync";
+
+    private final MongoTemplate mongoTemplate;
+    private final MessageRepository messageRepository;
+    private final MessagePersistencePipeline persistencePipeline;
+    private final RecentMessageCache recentMessageCache;
+    private final ReactionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final RTopic syncTopic;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, ReactionState> states;
+    // messageId -> 다른 노드에서 받은 토글 (도착 순서, 불변 리스트)
+    private final Cache<String, List<ReactionChange>> remoteToggles;
+    private final ConcurrentHashMap<ToggleKey, Boolean> pending = new ConcurrentHashMap<>();
+
+    private final Counter toggleCounter;
+    private final Counter writeCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    private ScheduledExecutorService writer;
+    private int listenerId = -1;
+
+    public ReactionAggregator(
+            MongoTemplate mongoTemplate,
+            MessageRepository messageRepository,
+            MessagePersistencePipeline persistencePipeline,
+            RecentMessageCache recentMessageCache,
+            ReactionProperties properties,
+            ObjectMapper objectMapper,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.messageRepository = messageRepository;
+        this.persistencePipeline = persistencePipeline;
+        this.recentMessageCache = recentMessageCache;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.syncTopic = redissonClient.getTopic(SYNC_TOPIC, StringCodec.INSTANCE);
+        this.states = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumMessages())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "message.reaction.state");
+        this.remoteToggles = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumMessages())
+                .expireAfterWrite(properties.getSyncRetention())
+                .build();
+
+        this.toggleCounter = Counter.builder("message.reaction.toggles")
+                .description("Reaction toggles that changed state")
+                .register(meterRegistry);
+        this.writeCounter = Counter.builder("message.reaction.writes")
+                .description("Reaction updates written after coalescing")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("message.reaction.failed")
+                .description("Reaction updates that could not be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("message.reaction.flush.time")
+                .description("Reaction bulk update latency")
+                .register(meterRegistry);
+        Gauge.builder("message.reaction.pending", pending, Map::size)
+                .description("Reaction toggles waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            listenerId = syncTopic.addListener(String.class, (channel, payload) -> onSync(payload));
+        } catch (Exception e) {
+            log.warn("Reaction sync subscribe failed - states will only reflect local toggles", e);
+        }
+        // 동기 기록 모드라도 저장 전인 메시지의 토글은 writer 가 저장 이후로 미뤄 기록한다
+        if (!properties.isAsync() && !persistencePipeline.isAsync()) {
+            return;
+        }
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reaction-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Reaction aggregator started - flushInterval: {}", properties.getFlushInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listenerId != -1) {
+            syncTopic.removeListener(listenerId);
+        }
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전까지 쌓인 토글은 종료 스레드에서 기록
+        flushSafely();
+    }
+
+    /**
+     * 리액션을 토글한다. 메시지가 없거나 삭제된 경우 empty.
+     */
+    public Optional<ReactionChange> toggle(String messageId, String reaction, String userId, boolean add) {
+        if (messageId == null || messageId.isBlank()) {
+            return Optional.empty();
+        }
+        ReactionState state = states.get(messageId, this::load);
+        if (state == null) {
+            return Optional.empty();
+        }
+
+        ReactionChange change = state.apply(messageId, reaction, userId, add);
+        if (!change.changed()) {
+            return Optional.of(change);
+        }
+        toggleCounter.increment();
+
+        if (properties.isAsync() || persistencePipeline.isPending(messageId)) {
+            pending.put(new ToggleKey(messageId, reaction, userId), add);
+        } else if (add) {
+            messageRepository.addReaction(messageId, reaction, userId);
+        } else {
+            messageRepository.removeReaction(messageId, reaction, userId);
+        }
+
+        recentMessageCache.applyReaction(change.roomId(), messageId, reaction, userId, add);
+        publish(change);
+        return Optional.of(change);
+    }
+
+    private ReactionState load(String messageId) {
+        // 파이프라인을 먼저 봐야 그 사이 저장이 끝나도 Mongo 조회에서 찾을 수 있다
+        Message message = persistencePipeline.findPending(messageId).orElse(null);
+        if (message == null) {
+            Query query = new Query(Criteria.where("_id").is(messageId).and("isDeleted").ne(true));
+            query.fields().include("roomId").include("reactions");
+            message = mongoTemplate.findOne(query, Message.class);
+        }
+        if (message == null) {
+            return null;
+        }
+        ReactionState state = new ReactionState(message.getRoomId(), message.getReactions());
+        // 다른 노드가 아직 기록하지 않았을 수 있는 토글을 덧붙인다. 이미 Mongo 에 반영된 토글은 다시 적용해도 그대로다
+        List<ReactionChange> remote = remoteToggles.getIfPresent(messageId);
+        if (remote != null) {
+            remote.forEach(change -> state.apply(messageId, change.reaction(), change.userId(), change.added()));
+        }
+        return state;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Reaction flush error", e);
+        }
+    }
+
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키 단위로 꺼내므로, 꺼낸 뒤 들어온 토글은 새 엔트리로 다음 flush 에 기록된다
+        Map<ToggleKey, Boolean> batch = new HashMap<>();
+        for (ToggleKey key : pending.keySet()) {
+            // 저장 전인 메시지에 대한 update 는 매치되는 문서가 없어 사라지므로 저장될 때까지 남겨 둔다
+            if (persistencePipeline.isPending(key.messageId())) {
+                continue;
+            }
+            Boolean add = pending.remove(key);
+            if (add != null) {
+                batch.put(key, add);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Query> queries = new ArrayList<>(batch.size());
+        List<Update> updates = new ArrayList<>(batch.size());
+        Set<ToggleKey> removed = new HashSet<>();
+        batch.forEach((key, add) -> {
+            String path = "reactions." + key.reaction();
+            queries.add(new Query(Criteria.where("_id").is(key.messageId())));
+            updates.add(add ? new Update().addToSet(path, key.userId()) : new Update().pull(path, key.userId()));
+            if (!add) {
+                removed.add(new ToggleKey(key.messageId(), key.reaction(), null));
+            }
+        });
+        // 비게 된 리액션 키 정리: ORDERED 이므로 $pull 이후에 조건부로 실행된다
+        for (ToggleKey key : removed) {
+            String path = "reactions." + key.reaction();
+            queries.add(new Query(Criteria.where("_id").is(key.messageId()).and(path).size(0)));
+            updates.add(new Update().unset(path));
+        }
+
+        try {
+            flushTimer.record(() -> {
+                BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Message.class);
+                for (int i = 0; i < queries.size(); i++) {
+                    bulk.updateOne(queries.get(i), updates.get(i));
+                }
+                bulk.execute();
+            });
+            writeCounter.increment(batch.size());
+            log.debug("Reaction toggles flushed - writes: {}", batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.warn("Reaction bulk update failed - writes: {}", batch.size(), e);
+            // $addToSet/$pull 은 다시 실행해도 안전하므로 다음 flush 로 넘긴다.
+            // 그 사이 같은 키로 들어온 토글이 더 최신 의도이므로 putIfAbsent 로 덮어쓰지 않는다
+            batch.forEach(pending::putIfAbsent);
+        }
+    }
+
+    private void publish(ReactionChange change) {
+        try {
+            syncTopic.publish(objectMapper.writeValueAsString(new SyncEvent(nodeId, change)));
+        } catch (Exception e) {
+            // 다른 노드는 상태가 만료되어 다시 적재될 때까지 이 토글을 개수에 반영하지 못한다
+            log.warn("Reaction sync publish failed - messageId: {}", change.messageId(), e);
+        }
+    }
+
+    private void onSync(String payload) {
+        try {
+            SyncEvent event = objectMapper.readValue(payload, SyncEvent.class);
+            if (nodeId.equals(event.nodeId()) || event.change() == null) {
+                return;
+            }
+            ReactionChange change = event.change();
+            // 먼저 보관해야 진행 중인 적재가 이 토글을 못 본 경우에도 아래 computeIfPresent 가 적재 이후에 반영한다
+            remoteToggles.asMap().merge(change.messageId(), List.of(change), (previous, added) -> {
+                List<ReactionChange> merged = new ArrayList<>(previous);
+                merged.addAll(added);
+                return merged;
+            });
+            states.asMap().computeIfPresent(change.messageId(), (messageId, state) -> {
+                state.apply(messageId, change.reaction(), change.userId(), change.added());
+                return state;
+            });
+            recentMessageCache.applyReaction(change.roomId(), change.messageId(),
+                    change.reaction(), change.userId(), change.added());
+        } catch (Exception e) {
+            log.warn("Reaction sync handling failed", e);
+        }
+    }
+
+    record ToggleKey(String messageId, String reaction, String userId) {
+    }
+
+    record SyncEvent(String nodeId, ReactionChange change) {
+    }
+
+    /**
+     * 메시지 하나의 리액션 상태. 모든 접근은 인스턴스 락으로 직렬화한다.
+     */
+    static final class ReactionState {
+
+        private final String roomId;
+        private final Map<String, Set<String>> reactions = new HashMap<>();
+        private long version;
+
+        ReactionState(String roomId, Map<String, Set<String>> reactions) {
+            this.roomId = roomId;
+            if (reactions != null) {
+                reactions.forEach((reaction, users) -> this.reactions.put(reaction, new HashSet<>(users)));
+            }
+        }
+
+        synchronized ReactionChange apply(String messageId, String reaction, String userId, boolean add) {
+            Set<String> users = reactions.computeIfAbsent(reaction, key -> new HashSet<>());
+            boolean changed = add ? users.add(userId) : users.remove(userId);
+            if (changed) {
+                version++;
+            }
+            int count = users.size();
+            if (users.isEmpty()) {
+                reactions.remove(reaction);
+            }
+            return new ReactionChange(messageId, roomId, reaction, userId, add, count, changed, version);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ktb.chatapp.service.message;
+
+/**
+ * 리액션 토글 결과.
+ *
+ * @param count 토글 이후 해당 리액션의 사용자 수
+ * @param changed false 면 이미 같은 상태였던 토글 (브로드캐스트/저장 불필요)
+ * @param version 이 노드에서 메시지 상태가 바뀐 순번. 동시에 병합되는 변경 중 최신 count 를 고르는 데 쓴다
+ */
+public record ReactionChange(
+        String messageId,
+        String roomId,
+        String reaction,
+        String userId,
+        boolean added,
+        int count,
+        boolean changed,
+        long version
+) {
+}
@@ -0,0 +1,309 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.config.ReadStatusProperties;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.RoomReadState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽음 상태 write-behind 집계기.
+ * 읽음 이벤트를 (roomId, userId) 키로 모아 메시지 ID 집합과 읽은 지점을 병합하고,
+ * flushInterval 마다 전용 writer 스레드가 RoomReadState bulk upsert 한 번으로 기록한다.
+ * 호출자는 Mongo 왕복 없이 바로 반환한다.
+ */
+@Slf4j
+@Component
+public class ReadStatusAggregator {
+
+    private final MongoTemplate mongoTemplate;
+    private final MessagePersistencePipeline persistencePipeline;
+    private final ReadStatusProperties properties;
+    private final ConcurrentHashMap<ReadKey, PendingRead> pending = new ConcurrentHashMap<>();
+
+    private final Counter eventCounter;
+    private final Counter writeCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+    private final Timer flushLagTimer;
+
+    private ScheduledExecutorService writer;
+
+    public ReadStatusAggregator(
+            MongoTemplate mongoTemplate,
+            MessagePersistencePipeline persistencePipeline,
+            ReadStatusProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.persistencePipeline = persistencePipeline;
+        this.properties = properties;
+
+        this.eventCounter = Counter.builder("message.read_status.events")
+                .description("Read events submitted to the aggregator")
+                .register(meterRegistry);
+        this.writeCounter = Counter.builder("message.read_status.writes")
+                .description("Read state upserts written after coalescing")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("message.read_status.failed")
+                .description("Read state upserts that could not be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("message.read_status.flush.time")
+                .description("Bulk upsert latency")
+                .register(meterRegistry);
+        this.flushLagTimer = Timer.builder("message.read_status.flush.lag")
+                .description("Time from the first read event of a key to its write")
+                .register(meterRegistry);
+        Gauge.builder("message.read_status.pending", pending, Map::size)
+                .description("(room, user) keys waiting to be flushed")
+                .register(meterRegistry);
+        Gauge.builder("message.read_status.coalescing.ratio", this, ReadStatusAggregator::coalescingRatio)
+                .description("Read events per written upsert")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isAsync()) {
+            return;
+        }
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "read-status-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Read status aggregator started - flushInterval: {}", properties.getFlushInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 직전까지 쌓인 이벤트는 종료 스레드에서 기록
+        flushSafely();
+    }
+
+    public boolean isAsync() {
+        return properties.isAsync();
+    }
+
+    /**
+     * 메시지 ID 로 읽음 이벤트 등록. 읽은 지점은 flush 시 한 번의 조회로 계산한다.
+     */
+    public void submit(String roomId, String userId, Collection<String> messageIds) {
+        eventCounter.increment();
+        pending.compute(new ReadKey(roomId, userId), (key, read) -> {
+            PendingRead merged = read != null ? read : new PendingRead();
+            merged.messageIds.addAll(messageIds);
+            return merged;
+        });
+    }
+
+    /**
+     * 읽은 지점(timestamp)을 이미 알고 있는 읽음 이벤트 등록.
+     */
+    public void submit(String roomId, String userId, LocalDateTime readUpTo) {
+        eventCounter.increment();
+        pending.compute(new ReadKey(roomId, userId), (key, read) -> {
+            PendingRead merged = read != null ? read : new PendingRead();
+            merged.advance(readUpTo);
+            return merged;
+        });
+    }
+
+    /**
+     * 아직 기록되지 않은 방의 읽은 지점. 조회 결과에 덮어써 flush 전에도 읽음이 보이게 한다.
+     * 메시지 ID 만 있고 timestamp 를 모르는 이벤트는 제외된다.
+     */
+    public Map<String, LocalDateTime> pendingReadUpTo(String roomId) {
+        Map<String, LocalDateTime> result = new HashMap<>();
+        pending.forEach((key, read) -> {
+            LocalDateTime readUpTo = read.readUpTo;
+            if (key.roomId().equals(roomId) && readUpTo != null) {
+                result.put(key.userId(), readUpTo);
+            }
+        });
+        return result;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Read status flush error", e);
+        }
+    }
+
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 키 단위로 꺼내므로, 꺼낸 뒤 들어온 이벤트는 새 엔트리로 다음 flush 에 기록된다
+        Map<ReadKey, PendingRead> batch = new HashMap<>();
+        for (ReadKey key : pending.keySet()) {
+            PendingRead read = pending.remove(key);
+            if (read != null) {
+                batch.put(key, read);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            resolveMessageTimestamps(batch);
+        } catch (Exception e) {
+            log.warn("Read status message lookup failed - keys: {}", batch.size(), e);
+            failedCounter.increment(batch.size());
+            requeue(batch);
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Pair<Query, Update>> upserts = new ArrayList<>(batch.size());
+        for (Map.Entry<ReadKey, PendingRead> entry : batch.entrySet()) {
+            LocalDateTime readUpTo = entry.getValue().readUpTo;
+            if (readUpTo == null) {
+                continue;
+            }
+            upserts.add(Pair.of(
+                    new Query(Criteria.where("roomId").is(entry.getKey().roomId())
+                            .and("userId").is(entry.getKey().userId())),
+                    new Update().max("lastReadAt", readUpTo).set("updatedAt", now)));
+        }
+        if (upserts.isEmpty()) {
+            return;
+        }
+
+        if (!executeWithRetry(upserts, batch.size())) {
+            failedCounter.increment(upserts.size());
+            requeue(batch);
+            return;
+        }
+        writeCounter.increment(upserts.size());
+        long flushedAt = System.nanoTime();
+        batch.values().forEach(read -> flushLagTimer.record(flushedAt - read.firstEventNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * 기록하지 못한 키를 다음 flush 로 넘긴다. upsert 는 $max 라 다시 기록해도 안전하고,
+     * 그 사이 들어온 이벤트와는 메시지 ID 합집합 + 더 최신 읽은 지점으로 병합한다.
+     */
+    private void requeue(Map<ReadKey, PendingRead> batch) {
+        batch.forEach((key, failed) -> pending.compute(key, (k, read) -> {
+            if (read == null) {
+                return failed;
+            }
+            read.messageIds.addAll(failed.messageIds);
+            if (failed.readUpTo != null) {
+                read.advance(failed.readUpTo);
+            }
+            return read;
+        }));
+    }
+
+    /**
+     * 다른 노드와 같은 (방, 사용자)의 첫 upsert 가 겹치면 unique 인덱스 충돌이 날 수 있다.
+     * upsert 는 $max 라 다시 실행해도 안전하므로 한 번 재시도한다.
+     */
+    private boolean executeWithRetry(List<Pair<Query, Update>> upserts, int keys) {
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            try {
+                flushTimer.record(() -> mongoTemplate
+                        .bulkOps(BulkOperations.BulkMode.UNORDERED, RoomReadState.class)
+                        .upsert(upserts)
+                        .execute());
+                log.debug("Read status flushed - keys: {}, writes: {}", keys, upserts.size());
+                return true;
+            } catch (Exception e) {
+                log.warn("Read status bulk upsert failed - attempt: {}, writes: {}", attempt, upserts.size(), e);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 메시지 ID 로만 들어온 이벤트의 읽은 지점을 배치 전체에 대해 한 번의 조회로 계산한다.
+     * 아직 저장 파이프라인에 있는 메시지는 Mongo 대신 파이프라인에서 찾는다. 다른 방의 메시지 ID 는 무시한다.
+     */
+    private void resolveMessageTimestamps(Map<ReadKey, PendingRead> batch) {
+        Map<String, Message> messages = new HashMap<>();
+        Set<String> stored = new HashSet<>();
+        batch.values().forEach(read -> read.messageIds.forEach(messageId -> persistencePipeline.findPending(messageId)
+                .ifPresentOrElse(message -> messages.put(messageId, message), () -> stored.add(messageId))));
+        if (!stored.isEmpty()) {
+            Query query = new Query(Criteria.where("_id").in(stored));
+            query.fields().include("roomId").include("timestamp");
+            for (Message message : mongoTemplate.find(query, Message.class)) {
+                messages.put(message.getId(), message);
+            }
+        }
+
+        batch.forEach((key, read) -> {
+            for (String messageId : read.messageIds) {
+                Message message = messages.get(messageId);
+                if (message != null && key.roomId().equals(message.getRoomId()) && message.getTimestamp() != null) {
+                    read.advance(message.getTimestamp());
+                }
+            }
+        });
+    }
+
+    private double coalescingRatio() {
+        double writes = writeCounter.count();
+        return writes == 0 ? 0 : eventCounter.count() / writes;
+    }
+
+    record ReadKey(String roomId, String userId) {
+    }
+
+    /**
+     * 키 하나에 병합된 읽음 이벤트. ConcurrentHashMap.compute 안에서만 수정된다.
+     */
+    static final class PendingRead {
+
+        private final long firstEventNanos = System.nanoTime();
+        private final Set<String> messageIds = new HashSet<>();
+        private volatile LocalDateTime readUpTo;
+
+        void advance(LocalDateTime timestamp) {
+            if (readUpTo == null || timestamp.isAfter(readUpTo)) {
+                readUpTo = timestamp;
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.config.RecentMessageCacheProperties;
+import com.ktb.chatapp.dto.MessageCursor;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방별 최근 메시지 hot tail 캐시.
+ * 방마다 (timestamp, _id) 오름차순으로 최대 capacity 개의 MessageSummary 를 보관해 입장/초기 페이지 조회를 메모리에서 처리한다.
+ * 이 노드에서 발행된 메시지는 바로 추가하고, 다른 노드에는 Redis pub/sub 으로 메시지 자체를 전파해
+ * 각 노드의 버퍼가 같은 최신 구간을 유지하게 한다.
+ * 버퍼는 Mongo 에서 최신 페이지를 한 번 적재(seed)한 뒤부터 조회에 사용하며,
+ * 커서가 버퍼 범위를 벗어나면 empty 를 반환해 호출자가 Mongo 로 fallback 하게 한다.
+ * 읽음 정보는 보관하지 않는다 (응답 시 RoomReadState 로 계산).
+ */
+@Slf4j
+@Component
+public class RecentMessageCache implements InitializingBean, DisposableBean {
+
+    static final String SYNC_TOPIC = "message:recent:sync";
+
+    private static final Comparator<MessageSummary> ORDER = Comparator
+            .comparing(MessageSummary::timestamp)
+            .thenComparing(MessageSummary::id);
+
+    private final RecentMessageCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, RoomBuffer> buffers;
+    private final RTopic syncTopic;
+    private final String nodeId = UUID.randomUUID().toString();
+    private int listenerId = -1;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RecentMessageCache(
+            RecentMessageCacheProperties properties,
+            ObjectMapper objectMapper,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumRooms())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .recordStats()
+                .build();
+        this.syncTopic = redissonClient.getTopic(SYNC_TOPIC, StringCodec.INSTANCE);
+        CaffeineCacheMetrics.monitor(meterRegistry, buffers, "message.recent");
+
+        this.hitCounter = Counter.builder("message.recent.page")
+                .description("Message page requests served by the recent message cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("message.recent.page")
+                .description("Message page requests served by the recent message cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("message.recent.page.hit.ratio", this, RecentMessageCache::hitRatio)
+                .description("Ratio of message page requests served from memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            listenerId = syncTopic.addListener(String.class, (channel, payload) -> onSync(payload));
+        } catch (Exception e) {
+            log.warn("Recent message sync subscribe failed - buffers will only reflect local messages", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (listenerId != -1) {
+            syncTopic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 새로 저장된 메시지를 버퍼에 추가하고 다른 노드에 전파한다.
+     */
+    public void append(Message message) {
+        if (!cacheable(message)) {
+            return;
+        }
+        MessageSummary summary = MessageSummary.from(message);
+        buffers.get(summary.roomId(), roomId -> new RoomBuffer()).upsert(summary, true, properties.getCapacity());
+        publish(SyncOp.APPEND, summary);
+    }
+
+    /**
+     * 리액션 토글을 버퍼에 있는 메시지에만 반영한다.
+     * 노드 간 전파는 ReactionAggregator 의 sync 토픽이 담당하므로 여기서는 발행하지 않는다.
+     */
+    public void applyReaction(String roomId, String messageId, String reaction, String userId, boolean add) {
+        RoomBuffer buffer = buffers.getIfPresent(roomId);
+        if (buffer != null) {
+            buffer.applyReaction(messageId, reaction, userId, add);
+        }
+    }
+
+    /**
+     * Mongo 에서 조회한 최신 페이지로 버퍼를 적재한다. 이미 적재된 버퍼는 건드리지 않는다.
+     *
+     * @param latestMessages (timestamp, _id) 내림차순 최신 메시지
+     * @param complete 방에 더 오래된 메시지가 없는지 여부
+     */
+    public void seed(String roomId, List<MessageSummary> latestMessages, boolean complete) {
+        buffers.get(roomId, id -> new RoomBuffer()).seed(latestMessages, complete, properties.getCapacity());
+    }
+
+    /**
+     * 커서(또는 before) 이전 메시지를 (timestamp, _id) 내림차순으로 최대 limit+1 개 반환한다.
+     * 버퍼가 적재되지 않았거나 범위를 벗어나 limit+1 개를 채울 수 없으면 empty.
+     */
+    public Optional<List<MessageSummary>> page(String roomId, MessageCursor cursor, LocalDateTime before, int limit) {
+        RoomBuffer buffer = buffers.getIfPresent(roomId);
+        Optional<List<MessageSummary>> page = buffer != null
+                ? buffer.page(cursor, before, limit + 1)
+                : Optional.empty();
+        (page.isPresent() ? hitCounter : missCounter).increment();
+        return page;
+    }
+
+    public void invalidate(String roomId) {
+        buffers.invalidate(roomId);
+    }
+
+    private boolean cacheable(Message message) {
+        return message.getId() != null && message.getRoomId() != null && message.getTimestamp() != null
+                && !Boolean.TRUE.equals(message.getIsDeleted());
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0 : hitCounter.count() / total;
+    }
+
+    private void publish(SyncOp op, MessageSummary message) {
+        try {
+            syncTopic.publish(objectMapper.writeValueAsString(new SyncEvent(nodeId, op, message)));
+        } catch (Exception e) {
+            // 다른 노드는 다음 seed 전까지 이 메시지를 버퍼에서 볼 수 없지만 Mongo fallback 으로 정확성은 유지된다
+            log.warn("Recent message sync publish failed - roomId: {}, messageId: {}",
+                    message.roomId(), message.id(), e);
+        }
+    }
+
+    private void onSync(String payload) {
+        try {
+            SyncEvent event = objectMapper.readValue(payload, SyncEvent.class);
+            if (nodeId.equals(event.nodeId()) || event.message() == null) {
+                return;
+            }
+            // 로컬 append 와 같이 버퍼가 없으면 적재 전 버퍼를 만든다.
+            // 적재 쿼리가 진행 중일 때 도착한 메시지(ASYNC 저장으로 아직 Mongo 에 없는 메시지 포함)도 seed 에서 합쳐진다
+            buffers.get(event.message().roomId(), roomId -> new RoomBuffer())
+                    .upsert(event.message(), event.op() == SyncOp.APPEND, properties.getCapacity());
+        } catch (Exception e) {
+            log.warn("Recent message sync handling failed", e);
+        }
+    }
+
+    enum SyncOp {
+        APPEND
+    }
+
+    record SyncEvent(String nodeId, SyncOp op, MessageSummary message) {
+    }
+
+    /**
+     * 방 하나의 최근 메시지 구간. 모든 접근은 인스턴스 락으로 직렬화한다.
+     * MessageSummary 는 불변이므로 꺼내간 쪽은 락 없이 읽어도 된다.
+     */
+    static final class RoomBuffer {
+
+        private final List<MessageSummary> messages = new ArrayList<>();
+        private boolean seeded;
+        private boolean complete;
+
+        synchronized void upsert(MessageSummary message, boolean insertIfAbsent, int capacity) {
+            int index = indexOf(message.id());
+            if (index >= 0) {
+                messages.remove(index);
+            } else if (!insertIfAbsent) {
+                return;
+            }
+            insertSorted(message);
+            trim(capacity);
+        }
+
+        synchronized void applyReaction(String messageId, String reaction, String userId, boolean add) {
+            int index = indexOf(messageId);
+            if (index < 0) {
+                return;
+            }
+            MessageSummary current = messages.get(index);
+            // 꺼내간 쪽과 공유하지 않도록 바뀌는 리액션의 사용자 집합만 복사한다
+            Map<String, Set<String>> reactions = current.reactions() != null
+                    ? new HashMap<>(current.reactions()) : new HashMap<>();
+            Set<String> users = new HashSet<>(reactions.getOrDefault(reaction, Set.of()));
+            if (add) {
+                users.add(userId);
+            } else {
+                users.remove(userId);
+            }
+            if (users.isEmpty()) {
+                reactions.remove(reaction);
+            } else {
+                reactions.put(reaction, users);
+            }
+            // 정렬 키(timestamp, _id)는 그대로이므로 제자리 교체
+            messages.set(index, new MessageSummary(current.id(), current.roomId(), current.content(),
+                    current.senderId(), current.type(), current.fileId(), current.timestamp(),
+                    current.sequence(), reactions, current.metadata()));
+        }
+
+        synchronized void seed(List<MessageSummary> latestMessages, boolean complete, int capacity) {
+            if (seeded) {
+                return;
+            }
+            // seed 전에 추가된 메시지(쿼리 이후 발행분)와 합친다
+            for (MessageSummary message : latestMessages) {
+                if (indexOf(message.id()) < 0) {
+                    insertSorted(message);
+                }
+            }
+            this.complete = complete;
+            this.seeded = true;
+            trim(capacity);
+        }
+
+        synchronized Optional<List<MessageSummary>> page(MessageCursor cursor, LocalDateTime before, int size) {
+            if (!seeded) {
+                return Optional.empty();
+            }
+            List<MessageSummary> page = new ArrayList<>(size);
+            for (int i = messages.size() - 1; i >= 0 && page.size() < size; i--) {
+                MessageSummary message = messages.get(i);
+                if (isBefore(message, cursor, before)) {
+                    page.add(message);
+                }
+            }
+            // 요청 크기를 다 채웠거나, 방의 전체 메시지를 가지고 있을 때만 메모리에서 응답
+            if (page.size() == size || complete) {
+                return Optional.of(page);
+            }
+            return Optional.empty();
+        }
+
+        private boolean isBefore(MessageSummary message, MessageCursor cursor, LocalDateTime before) {
+            if (cursor != null) {
+                long timestamp = message.toTimestampMillis();
+                return timestamp < cursor.timestamp()
+                        || (timestamp == cursor.timestamp()
+                            && message.id().compareTo(cursor.id().toHexString()) < 0);
+            }
+            return message.timestamp().isBefore(before);
+        }
+
+        private void insertSorted(MessageSummary message) {
+            int low = 0;
+            int high = messages.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ORDER.compare(messages.get(mid), message) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            messages.add(low, message);
+        }
+
+        private void trim(int capacity) {
+            if (messages.size() <= capacity) {
+                return;
+            }
+            messages.subList(0, messages.size() - capacity).clear();
+            complete = false;
+        }
+
+        private int indexOf(String messageId) {
+            for (int i = messages.size() - 1; i >= 0; i--) {
+                if (messages.get(i).id().equals(messageId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
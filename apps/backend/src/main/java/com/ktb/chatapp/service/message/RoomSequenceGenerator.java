@@ -0,0 +1,26 @@
+package com.ktb.chatapp.service.message;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 단위 메시지 시퀀스 발급기.
+ * Redis INCR 로 노드와 무관하게 단조 증가하는 번호를 발급해, 클라이언트가 MESSAGE 이벤트의 누락(gap)을 감지할 수 있게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomSequenceGenerator {
+
+    static final String KEY_PREFIX = "room:seq:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long next(String roomId) {
+        Long sequence = stringRedisTemplate.opsForValue().increment(KEY_PREFIX + roomId);
+        if (sequence == null) {
+            throw new IllegalStateException("Failed to allocate message sequence for room: " + roomId);
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,241 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process token bucket rate limiter.
+ * 요청 경로에서는 로컬 버킷만 CAS 로 차감하고(I/O 없음), 소비량은 주기적으로 RateLimitStore 에 합산해
+ * 클러스터 전체 사용량을 받아 로컬 잔여 토큰을 보정한다. 보정 주기 동안은 노드 수만큼 초과 허용될 수 있다.
+ * 버킷 맵은 clientId 해시로 stripe 를 나눠 reconcile 순회와 요청 경로의 경합을 줄인다.
+ */
+@Slf4j
+@Component
+public class LocalTokenBucketRateLimiter {
+
+    private static final String CLUSTER_KEY_PREFIX = "local:";
+    private static final int STRIPE_COUNT = 16;
+
+    private final RateLimitStore rateLimitStore;
+    private final ConcurrentHashMap<String, TokenBucket>[] stripes;
+    private final Timer reconcileTimer;
+    private final DistributionSummary reconcileLag;
+    private final DistributionSummary drift;
+
+    @SuppressWarnings("unchecked")
+    public LocalTokenBucketRateLimiter(RateLimitStore rateLimitStore, MeterRegistry meterRegistry) {
+        this.rateLimitStore = rateLimitStore;
+        this.stripes = new ConcurrentHashMap[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+
+        this.reconcileTimer = Timer.builder("ratelimit.local.reconcile.time")
+                .description("Local token bucket reconcile duration")
+                .register(meterRegistry);
+        this.reconcileLag = DistributionSummary.builder("ratelimit.local.reconcile.lag")
+                .description("Milliseconds between local consumption and cluster reconcile")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.drift = DistributionSummary.builder("ratelimit.local.drift")
+                .description("Tokens the local bucket over-estimated compared to cluster-wide usage")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+
+        Gauge.builder("ratelimit.local.buckets", this, LocalTokenBucketRateLimiter::bucketCount)
+                .description("Active local token buckets")
+                .register(meterRegistry);
+        Gauge.builder("ratelimit.local.unsynced", this, LocalTokenBucketRateLimiter::unsyncedTokens)
+                .description("Tokens consumed locally but not yet reconciled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 하나 소비. 버킷 용량은 maxRequests, window 동안 maxRequests 개가 채워진다.
+     */
+    public RateLimitCheckResult tryConsume(String clientId, int maxRequests, Duration window) {
+        long windowSeconds = Math.max(1L, window.getSeconds());
+        long nowNanos = System.nanoTime();
+
+        ConcurrentHashMap<String, TokenBucket> stripe = stripeOf(clientId);
+        TokenBucket bucket = stripe.get(clientId);
+        if (bucket == null || !bucket.matches(maxRequests, window)) {
+            bucket = stripe.compute(clientId, (key, existing) ->
+                    existing != null && existing.matches(maxRequests, window)
+                            ? existing
+                            : new TokenBucket(key, maxRequests, window, nowNanos));
+        }
+        double remaining = bucket.tryConsume(nowNanos);
+        long nowEpochSeconds = Instant.now().getEpochSecond();
+
+        if (remaining < 0) {
+            long retryAfterSeconds = Math.max(1L, ceilSeconds(bucket.nanosUntil(1, nowNanos)));
+            return RateLimitCheckResult.rejected(
+                    maxRequests, windowSeconds, nowEpochSeconds + retryAfterSeconds, retryAfterSeconds);
+        }
+        long resetSeconds = Math.max(1L, ceilSeconds(bucket.nanosUntil(maxRequests, nowNanos)));
+        return RateLimitCheckResult.allowed(
+                maxRequests, (int) remaining, windowSeconds, nowEpochSeconds + resetSeconds, resetSeconds);
+    }
+
+    /**
+     * 로컬 소비량을 공유 저장소에 합산하고, 돌려받은 클러스터 사용량으로 잔여 토큰을 보정한다.
+     * 오래 사용되지 않고 가득 찬 버킷은 이 시점에 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${ratelimit.local.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        reconcileTimer.record(() -> {
+            for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+                stripe.forEach((clientId, bucket) -> reconcile(stripe, bucket));
+            }
+        });
+    }
+
+    private void reconcile(Map<String, TokenBucket> stripe, TokenBucket bucket) {
+        long nowNanos = System.nanoTime();
+        long delta = bucket.unsynced.sumThenReset();
+
+        if (delta == 0) {
+            if (nowNanos - bucket.lastAccessNanos > bucket.windowNanos * 2 && bucket.isFull(nowNanos)) {
+                stripe.remove(bucket.clientId, bucket);
+            }
+            return;
+        }
+
+        try {
+            long clusterCount = rateLimitStore.incrementBy(
+                    CLUSTER_KEY_PREFIX + bucket.clientId, delta, Duration.ofNanos(bucket.windowNanos));
+            double clusterRemaining = Math.max(0, bucket.capacity - clusterCount);
+            double overEstimate = bucket.clampTo(clusterRemaining, nowNanos);
+            drift.record(overEstimate);
+            reconcileLag.record(TimeUnit.NANOSECONDS.toMillis(nowNanos - bucket.firstUnsyncedNanos));
+            bucket.firstUnsyncedNanos = nowNanos;
+        } catch (Exception e) {
+            bucket.unsynced.add(delta);
+            log.warn("Rate limit reconcile failed for client: {} - {} tokens kept for next round",
+                    bucket.clientId, delta, e);
+        }
+    }
+
+    private ConcurrentHashMap<String, TokenBucket> stripeOf(String clientId) {
+        int hash = clientId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private double bucketCount() {
+        long count = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    private double unsyncedTokens() {
+        long sum = 0;
+        for (ConcurrentHashMap<String, TokenBucket> stripe : stripes) {
+            for (TokenBucket bucket : stripe.values()) {
+                sum += bucket.unsynced.sum();
+            }
+        }
+        return sum;
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private record BucketState(double tokens, long refilledAtNanos) {
+    }
+
+    private static final class TokenBucket {
+
+        private final String clientId;
+        private final int capacity;
+        private final long windowNanos;
+        private final double tokensPerNano;
+        private final AtomicReference<BucketState> state;
+        private final LongAdder unsynced = new LongAdder();
+        private volatile long lastAccessNanos;
+        private volatile long firstUnsyncedNanos;
+
+        private TokenBucket(String clientId, int capacity, Duration window, long nowNanos) {
+            this.clientId = clientId;
+            this.capacity = capacity;
+            this.windowNanos = Math.max(1L, window.toNanos());
+            this.tokensPerNano = (double) capacity / windowNanos;
+            this.state = new AtomicReference<>(new BucketState(capacity, nowNanos));
+            this.lastAccessNanos = nowNanos;
+            this.firstUnsyncedNanos = nowNanos;
+        }
+
+        private boolean matches(int maxRequests, Duration window) {
+            return capacity == maxRequests && windowNanos == Math.max(1L, window.toNanos());
+        }
+
+        /**
+         * @return 소비 후 남은 토큰, 토큰이 부족하면 -1
+         */
+        private double tryConsume(long nowNanos) {
+            lastAccessNanos = nowNanos;
+            while (true) {
+                BucketState current = state.get();
+                double tokens = refill(current, nowNanos);
+                if (tokens < 1) {
+                    return -1;
+                }
+                if (state.compareAndSet(current, new BucketState(tokens - 1, Math.max(nowNanos, current.refilledAtNanos())))) {
+                    if (unsynced.sum() == 0) {
+                        firstUnsyncedNanos = nowNanos;
+                    }
+                    unsynced.increment();
+                    return tokens - 1;
+                }
+            }
+        }
+
+        /**
+         * 클러스터 기준 잔여량보다 많이 들고 있으면 깎는다.
+         *
+         * @return 로컬이 과대 추정하고 있던 토큰 수
+         */
+        private double clampTo(double clusterRemaining, long nowNanos) {
+            while (true) {
+                BucketState current = state.get();
+                double tokens = refill(current, nowNanos);
+                if (tokens <= clusterRemaining) {
+                    return 0;
+                }
+                if (state.compareAndSet(current, new BucketState(clusterRemaining, Math.max(nowNanos, current.refilledAtNanos())))) {
+                    return tokens - clusterRemaining;
+                }
+            }
+        }
+
+        private boolean isFull(long nowNanos) {
+            return refill(state.get(), nowNanos) >= capacity;
+        }
+
+        private long nanosUntil(int tokens, long nowNanos) {
+            double missing = tokens - refill(state.get(), nowNanos);
+            return missing <= 0 ? 0 : (long) Math.ceil(missing / tokensPerNano);
+        }
+
+        private double refill(BucketState current, long nowNanos) {
+            long elapsed = Math.max(0L, nowNanos - current.refilledAtNanos());
+            return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ktb.chatapp.service.ratelimit;
+
+/**
+ * Rate limit 계산 방식
+ * FIXED_WINDOW: 윈도우 시작 시점부터 maxRequests 개까지 허용, 윈도우 경계에서 한 번에 초기화
+ * GCRA: Generic Cell Rate Algorithm. window/maxRequests 간격으로 토큰이 채워지는 sliding 방식 (경계 몰림 없음)
+ * LOCAL_TOKEN_BUCKET: 노드 로컬 토큰 버킷. 요청 경로에 I/O 가 없고 클러스터 한도는 주기적 보정으로 근사한다
+ */
+public enum RateLimitAlgorithm {
+    FIXED_WINDOW,
+    GCRA,
+    LOCAL_TOKEN_BUCKET
+}
@@ -2,27 +2,95 @@ package com.ktb.chatapp.service.ratelimit;
 
 import com.ktb.chatapp.model.RateLimit;
 import com.ktb.chatapp.repository.RateLimitRepository;
-import java.util.Optional;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * MongoDB implementation of RateLimitStore.
  * Uses RateLimitRepository for persistence.
+ * 알고리즘과 무관하게 fixed window 로 동작한다.
  */
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "ratelimit.store", havingValue = "mongo", matchIfMissing = true)
 public class RateLimitMongoStore implements RateLimitStore {
     
     private final RateLimitRepository rateLimitRepository;
+    private final MongoTemplate mongoTemplate;
     
     @Override
-    public Optional<RateLimit> findByClientId(String clientId) {
-        return rateLimitRepository.findByClientId(clientId);
+    @Transactional
+    public RateLimitCheckResult consume(String clientId, int maxRequests, Duration window, RateLimitAlgorithm algorithm) {
+        long windowSeconds = Math.max(1L, window.getSeconds());
+        Instant now = Instant.now();
+        long nowEpochSeconds = now.getEpochSecond();
+        Instant expiresAt = now.plus(window);
+
+        //TODO : 010 : find 후 setCount/save 를 나누지 말고 Mongo $inc 같은 원자 연산을 사용하면 동시 요청 시 경쟁 조건과 불필요한 round-trip 을 줄일 수 있다.
+        /// [개선 010] ratelimit.store=redis 선택 시 RateLimitRedisStore 의 Lua 스크립트로 1 round trip 원자 처리
+        RateLimit rateLimit = rateLimitRepository.findByClientId(clientId).orElse(null);
+        int currentCount = rateLimit != null ? rateLimit.getCount() : 0;
+
+        if (rateLimit != null && currentCount >= maxRequests) {
+            long retryAfterSeconds = Math.max(1L,
+                rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
+            long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
+            return RateLimitCheckResult.rejected(
+                    maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
+        }
+
+        // Create or update rate limit
+        if (rateLimit == null) {
+            rateLimit = RateLimit.builder()
+                    .clientId(clientId)
+                    .count(1)
+                    .expiresAt(expiresAt)
+                    .build();
+        } else {
+            rateLimit.setCount(currentCount + 1);
+        }
+        rateLimitRepository.save(rateLimit);
+
+        int newCount = currentCount + 1;
+        int remaining = Math.max(0, maxRequests - newCount);
+        long ttlSeconds = Math.max(1L, rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
+        long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
+
+        return RateLimitCheckResult.allowed(
+                maxRequests, remaining, windowSeconds, resetEpochSeconds, ttlSeconds);
     }
     
+    /**
+     * $inc upsert 로 카운터를 올린다. TTL monitor 가 아직 지우지 않은 만료 문서는 새 윈도우로 초기화한다.
+     */
     @Override
-    public RateLimit save(RateLimit rateLimit) {
-        return rateLimitRepository.save(rateLimit);
+    public long incrementBy(String clientId, long delta, Duration window) {
+        Instant now = Instant.now();
+        RateLimit rateLimit = mongoTemplate.findAndModify(
+                new Query(Criteria.where("clientId").is(clientId)),
+                new Update().inc("count", Math.toIntExact(delta)).setOnInsert("expiresAt", now.plus(window)),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                RateLimit.class);
+        if (rateLimit == null) {
+            return delta;
+        }
+        if (rateLimit.getExpiresAt() != null && !rateLimit.getExpiresAt().isAfter(now)) {
+            mongoTemplate.updateFirst(
+                    new Query(Criteria.where("clientId").is(clientId).and("expiresAt").lte(now)),
+                    new Update().set("count", Math.toIntExact(delta)).set("expiresAt", now.plus(window)),
+                    RateLimit.class);
+            return delta;
+        }
+        return rateLimit.getCount();
     }
 }
@@ -0,0 +1,125 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis implementation of RateLimitStore.
+ * 증가·TTL 설정·한도 비교를 Lua 스크립트 하나로 원자 처리해 요청당 1 round trip 으로 끝낸다.
+ * 시각은 Redis TIME 을 사용하므로 인스턴스 간 시계 차이의 영향을 받지 않는다.
+ * 두 스크립트 모두 {allowed, remaining, retryAfterMs, resetAfterMs, nowMs} 를 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ratelimit.store", havingValue = "redis")
+public class RateLimitRedisStore implements RateLimitStore {
+
+    private static final String FIXED_WINDOW_KEY_PREFIX = "ratelimit:fw:";
+    private static final String GCRA_KEY_PREFIX = "ratelimit:gcra:";
+    private static final String COUNTER_KEY_PREFIX = "ratelimit:counter:";
+
+    /** ARGV[1]=maxRequests, ARGV[2]=windowMs */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIXED_WINDOW_SCRIPT = new DefaultRedisScript<>("""
+            local max = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local ttl = redis.call('PTTL', KEYS[1])
+            if current >= max and ttl > 0 then
+                return {0, 0, ttl, ttl, now}
+            end
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 or ttl < 0 then
+                redis.call('PEXPIRE', KEYS[1], window)
+                ttl = window
+            end
+            return {1, max - count, ttl, ttl, now}
+            """, List.class);
+
+    /**
+     * TAT(theoretical arrival time) 하나만 저장하는 GCRA.
+     * 발행 간격 T = window / max, 버스트 허용치 = window - T 이므로 빈 상태에서 max 개까지 연속 허용된다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local max = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local interval = window / max
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            local newTat = tat + interval
+            local allowAt = newTat - window
+            if now < allowAt then
+                return {0, 0, math.ceil(allowAt - now), math.ceil(tat - now), now}
+            end
+            local resetAfter = math.ceil(newTat - now)
+            redis.call('SET', KEYS[1], string.format('%.3f', newTat), 'PX', resetAfter)
+            local remaining = math.floor((window - (newTat - now)) / interval)
+            return {1, remaining, resetAfter, resetAfter, now}
+            """, List.class);
+
+    /** ARGV[1]=delta, ARGV[2]=windowMs. 새 카운터에만 TTL 을 건다 */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if redis.call('PTTL', KEYS[1]) < 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return count
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public RateLimitCheckResult consume(String clientId, int maxRequests, Duration window, RateLimitAlgorithm algorithm) {
+        long windowMs = Math.max(1000L, window.toMillis());
+        long windowSeconds = windowMs / 1000;
+
+        List<?> reply = algorithm == RateLimitAlgorithm.GCRA
+                ? redisTemplate.execute(GCRA_SCRIPT, List.of(GCRA_KEY_PREFIX + clientId),
+                        String.valueOf(maxRequests), String.valueOf(windowMs))
+                : redisTemplate.execute(FIXED_WINDOW_SCRIPT, List.of(FIXED_WINDOW_KEY_PREFIX + clientId),
+                        String.valueOf(maxRequests), String.valueOf(windowMs));
+        if (reply == null || reply.size() < 5) {
+            throw new IllegalStateException("Unexpected rate limit script reply: " + reply);
+        }
+
+        boolean allowed = toLong(reply.get(0)) == 1L;
+        int remaining = (int) Math.max(0L, toLong(reply.get(1)));
+        long retryAfterSeconds = Math.max(1L, ceilSeconds(toLong(reply.get(2))));
+        long resetEpochSeconds = ceilSeconds(toLong(reply.get(4)) + toLong(reply.get(3)));
+
+        if (!allowed) {
+            return RateLimitCheckResult.rejected(maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
+        }
+        return RateLimitCheckResult.allowed(
+                maxRequests, remaining, windowSeconds, resetEpochSeconds, retryAfterSeconds);
+    }
+
+    @Override
+    public long incrementBy(String clientId, long delta, Duration window) {
+        Long count = redisTemplate.execute(INCREMENT_SCRIPT, List.of(COUNTER_KEY_PREFIX + clientId),
+                String.valueOf(delta), String.valueOf(Math.max(1000L, window.toMillis())));
+        return count != null ? count : delta;
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static long ceilSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -1,27 +1,32 @@
 package com.ktb.chatapp.service.ratelimit;
 
-import com.ktb.chatapp.model.RateLimit;
-import java.util.Optional;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
 
 /**
  * Data store interface for rate limit storage.
- * Provides operations for storing and retrieving rate limit data.
+ * Provides an atomic check-and-consume operation for rate limit counters.
  */
 public interface RateLimitStore {
     
     /**
-     * Find rate limit by client ID
+     * Consume one request for the client and report whether it is allowed
      *
      * @param clientId the client identifier
-     * @return Optional containing the RateLimit if found, empty otherwise
+     * @param maxRequests maximum requests allowed per window
+     * @param window the rate limit window
+     * @param algorithm the rate limit algorithm
+     * @return the check result including remaining quota and reset time
      */
-    Optional<RateLimit> findByClientId(String clientId);
+    RateLimitCheckResult consume(String clientId, int maxRequests, Duration window, RateLimitAlgorithm algorithm);
     
     /**
-     * Save or update rate limit
+     * Add locally consumed requests to the shared fixed-window counter
      *
-     * @param rateLimit the rate limit to save
-     * @return the saved rate limit
+     * @param clientId the client identifier
+     * @param delta number of requests consumed since the last call
+     * @param window the rate limit window, applied when a new counter is created
+     * @return cluster-wide count in the current window after the increment
      */
-    RateLimit save(RateLimit rateLimit);
+    long incrementBy(String clientId, long delta, Duration window);
 }
@@ -0,0 +1,64 @@
+package com.ktb.chatapp.service.search;
+
+import com.ktb.chatapp.model.Room;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mongo text 인덱스 기반 방 검색.
+ * 노드 메모리를 쓰지 않고 여러 노드가 같은 인덱스를 보지만, 단어(토큰) 단위로 일치하므로
+ * "proj" 로 "project" 를 찾는 부분 문자열 검색은 되지 않는다. 형태소 분석 없이 쓰도록 언어는 none 으로 둔다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "room.search.backend", havingValue = "text")
+public class MongoTextRoomSearchIndex implements RoomSearchIndex {
+
+    static final String INDEX_NAME = "name_text_idx";
+
+    private final MongoTemplate mongoTemplate;
+    private final Timer searchTimer;
+
+    public MongoTextRoomSearchIndex(MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.searchTimer = Timer.builder("room.search.time")
+                .description("Room name search latency including page fetch")
+                .tag("backend", "text")
+                .register(meterRegistry);
+    }
+
+    /**
+     * text 인덱스는 컬렉션당 하나만 둘 수 있고 쓰기 비용이 있으므로 이 백엔드를 쓸 때만 만든다.
+     */
+    @PostConstruct
+    public void createIndex() {
+        mongoTemplate.indexOps(Room.class).createIndex(new TextIndexDefinition.TextIndexDefinitionBuilder()
+                .named(INDEX_NAME)
+                .onField("name")
+                .withDefaultLanguage("none")
+                .build());
+        log.info("Room search text index ensured - index: {}", INDEX_NAME);
+    }
+
+    @Override
+    public Page<Room> search(String keyword, Pageable pageable) {
+        return searchTimer.record(() -> {
+            TextCriteria criteria = TextCriteria.forLanguage("none").matchingPhrase(keyword);
+            List<Room> content = mongoTemplate.find(TextQuery.queryText(criteria).with(pageable), Room.class);
+            return PageableExecutionUtils.getPage(content, pageable,
+                    () -> mongoTemplate.count(TextQuery.queryText(criteria), Room.class));
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.ktb.chatapp.service.search;
+
+import com.ktb.chatapp.model.Room;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 방 이름 검색 백엔드.
+ * room.search.backend 로 선택한다 (trigram: 메모리 n-gram 역색인, text: Mongo text 인덱스).
+ */
+public interface RoomSearchIndex {
+
+    /**
+     * @param keyword 공백이 제거된 검색어
+     * @param pageable 페이지/정렬 조건
+     * @return 이름에 검색어가 포함된 방 페이지
+     */
+    Page<Room> search(String keyword, Pageable pageable);
+}
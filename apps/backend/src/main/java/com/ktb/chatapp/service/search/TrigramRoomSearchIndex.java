@@ -0,0 +1,241 @@
+package com.ktb.chatapp.service.search;
+
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 이름 trigram 역색인.
+ * 이름을 소문자 3글자 조각으로 나눠 조각 → 방 ID 집합을 메모리에 두고, 검색어 조각 중 가장 작은 집합만 훑어
+ * 부분 문자열 일치를 확인한다. 대소문자 무시 정규식으로 컬렉션 전체를 스캔하던 검색을 메모리 조회 + _id 조회로 바꾼다.
+ *
+ * 기동 완료 시 rooms 를 한 번 읽어 색인을 만들고, 그 전까지는 기존 정규식 검색을 쓴다.
+ * 이 노드에서 만든 방은 RoomCreatedEvent 로, 다른 노드에서 만든 방은 RoomMembershipCache 의
+ * 무효화 브로드캐스트(RoomParticipantsChangedEvent)로 처음 보는 ID 일 때 읽어와 추가한다.
+ * 방 이름은 생성 후 바뀌지 않으므로 추가만 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "room.search.backend", havingValue = "trigram", matchIfMissing = true)
+public class TrigramRoomSearchIndex implements RoomSearchIndex {
+
+    static final int GRAM = 3;
+
+    private final RoomRepository roomRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Timer searchTimer;
+    private volatile boolean ready;
+
+    public TrigramRoomSearchIndex(
+            RoomRepository roomRepository,
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.roomRepository = roomRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.searchTimer = Timer.builder("room.search.time")
+                .description("Room name search latency including page fetch")
+                .tag("backend", "trigram")
+                .register(meterRegistry);
+        Gauge.builder("room.search.index.rooms", entries, Map::size)
+                .description("Rooms held in the trigram index")
+                .register(meterRegistry);
+        Gauge.builder("room.search.index.grams", postings, Map::size)
+                .description("Distinct trigrams held in the trigram index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Query query = new Query();
+        query.fields().include("name").include("createdAt");
+        try (Stream<Room> rooms = mongoTemplate.stream(query, Room.class)) {
+            rooms.forEach(room -> add(room.getId(), room.getName(), room.getCreatedAt()));
+            ready = true;
+            log.info("Room search index built - rooms: {}, grams: {}, elapsed: {}ms",
+                    entries.size(), postings.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 색인이 없어도 정규식 검색으로 동작한다
+            log.error("Room search index build failed, falling back to regex search", e);
+        }
+    }
+
+    @EventListener
+    public void onRoomCreated(RoomCreatedEvent event) {
+        var room = event.getRoomResponse();
+        add(room.getId(), room.getName(), room.getCreatedAtDateTime());
+    }
+
+    @EventListener
+    public void onParticipantsChanged(RoomParticipantsChangedEvent event) {
+        String roomId = event.getRoomId();
+        if (roomId == null || entries.containsKey(roomId)) {
+            return;
+        }
+        roomRepository.findWithoutParticipantIds(roomId)
+                .ifPresent(room -> add(room.getId(), room.getName(), room.getCreatedAt()));
+    }
+
+    @Override
+    public Page<Room> search(String keyword, Pageable pageable) {
+        if (!ready) {
+            return roomRepository.findByNameContainingIgnoreCase(keyword, pageable);
+        }
+        return searchTimer.record(() -> searchIndexed(keyword, pageable));
+    }
+
+    void add(String roomId, String name, LocalDateTime createdAt) {
+        if (roomId == null || name == null) {
+            return;
+        }
+        Entry entry = new Entry(roomId, name, name.toLowerCase(Locale.ROOT), createdAt);
+        if (entries.putIfAbsent(roomId, entry) != null) {
+            return;
+        }
+        for (String gram : grams(entry.lowerName())) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(roomId);
+        }
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    private Page<Room> searchIndexed(String keyword, Pageable pageable) {
+        List<Entry> matches = match(keyword.toLowerCase(Locale.ROOT));
+        if (matches.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Comparator<Entry> comparator = comparator(pageable.getSort());
+        if (comparator == null) {
+            // 참가자 수처럼 자주 바뀌는 정렬 키는 색인에 두지 않고 후보 _id 범위 안에서 Mongo 가 정렬한다
+            List<String> ids = matches.stream().map(Entry::id).toList();
+            List<Room> content = mongoTemplate.find(
+                    new Query(Criteria.where("_id").in(ids)).with(pageable), Room.class);
+            return new PageImpl<>(content, pageable, ids.size());
+        }
+
+        matches.sort(comparator);
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<String> pageIds = matches.subList(from, to).stream().map(Entry::id).toList();
+        return new PageImpl<>(fetchInOrder(pageIds), pageable, matches.size());
+    }
+
+    /**
+     * 검색어가 GRAM 보다 짧으면 조각을 만들 수 없으므로 메모리의 이름 전체를 훑는다.
+     * 그 외에는 검색어 조각 중 가장 작은 posting 만 확인한다 (나머지 조각은 contains 검증이 대신한다).
+     */
+    private List<Entry> match(String keyword) {
+        Collection<String> candidates;
+        if (keyword.length() < GRAM) {
+            candidates = entries.keySet();
+        } else {
+            candidates = null;
+            for (String gram : grams(keyword)) {
+                Set<String> posting = postings.get(gram);
+                if (posting == null) {
+                    return new ArrayList<>();
+                }
+                if (candidates == null || posting.size() < candidates.size()) {
+                    candidates = posting;
+                }
+            }
+        }
+
+        List<Entry> matches = new ArrayList<>();
+        for (String roomId : candidates) {
+            Entry entry = entries.get(roomId);
+            if (entry != null && entry.lowerName().contains(keyword)) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 색인에 보관한 필드(createdAt, name, id)만으로 정렬할 수 있으면 comparator, 아니면 null.
+     * null 은 Mongo 와 같이 가장 작은 값으로 취급한다.
+     */
+    private Comparator<Entry> comparator(Sort sort) {
+        Comparator<Entry> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Entry> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(Entry::createdAt,
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "name" -> Comparator.comparing(Entry::name);
+                case "id", "_id" -> Comparator.comparing(Entry::id);
+                default -> null;
+            };
+            if (next == null) {
+                return null;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        // 같은 정렬 키끼리도 페이지 경계가 흔들리지 않도록 id 로 마무리
+        Comparator<Entry> byId = Comparator.comparing(Entry::id);
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+
+    private List<Room> fetchInOrder(List<String> pageIds) {
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Room> byId = new HashMap<>();
+        roomRepository.findAllById(pageIds).forEach(room -> byId.put(room.getId(), room));
+        List<Room> content = new ArrayList<>(pageIds.size());
+        for (String roomId : pageIds) {
+            Room room = byId.get(roomId);
+            if (room != null) {
+                content.add(room);
+            }
+        }
+        return content;
+    }
+
+    static Set<String> grams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    record Entry(String id, String name, String lowerName, LocalDateTime createdAt) {
+    }
+}
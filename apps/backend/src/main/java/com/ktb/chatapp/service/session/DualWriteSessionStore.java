@@ -0,0 +1,78 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장소 이전(Mongo → Redis)용 dual-write SessionStore.
+ * 쓰기는 기존 저장소(source)와 새 저장소(target) 모두에 반영한다.
+ * 롤링 전환 중에는 아직 dual 모드가 아닌 노드가 source 에만 쓰므로, 전환 완료 전까지 조회는 source 를 기준으로 하고
+ * target 은 source 와 다를 때(없거나 sessionId 가 다를 때) 채우거나 지우는 backfill 용도로만 읽는다.
+ * 모든 노드가 dual 모드가 되고 SESSION_TTL 이 지나면 살아있는 세션이 모두 target 과 일치하므로 target 단독 모드로 전환할 수 있다.
+ */
+@Slf4j
+public class DualWriteSessionStore implements SessionStore {
+
+    private final SessionStore source;
+    private final SessionStore target;
+
+    public DualWriteSessionStore(SessionStore source, SessionStore target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        Optional<Session> current = source.findByUserId(userId);
+        backfill(userId, current);
+        return current;
+    }
+
+    @Override
+    public Session save(Session session) {
+        Session saved = source.save(session);
+        target.save(saved);
+        return saved;
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        source.delete(userId, sessionId);
+        target.delete(userId, sessionId);
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        source.deleteAll(userId);
+        target.deleteAll(userId);
+    }
+
+    @Override
+    public void updateLastActivity(Collection<SessionActivity> activities) {
+        source.updateLastActivity(activities);
+        target.updateLastActivity(activities);
+    }
+
+    /**
+     * target 을 source 의 현재 세션에 맞춘다. 실패해도 조회 결과(source)에는 영향을 주지 않는다.
+     */
+    private void backfill(String userId, Optional<Session> current) {
+        try {
+            Optional<Session> migrated = target.findByUserId(userId);
+            if (current.isPresent()) {
+                String sessionId = current.get().getSessionId();
+                if (migrated.isEmpty() || !Objects.equals(migrated.get().getSessionId(), sessionId)) {
+                    target.save(current.get());
+                }
+            } else if (migrated.isPresent()) {
+                // source 에서만 삭제된 세션 (dual 모드가 아닌 노드의 로그아웃 등)
+                target.deleteAll(userId);
+            }
+        } catch (Exception e) {
+            log.warn("Session backfill failed for userId: {}", userId, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ktb.chatapp.service.session;
+
+import java.time.Instant;
+
+/**
+ * 아직 저장소에 반영되지 않은 세션 활동 시각.
+ *
+ * @param userId user id
+ * @param sessionId 활동이 발생한 세션 id (다른 세션에는 반영하지 않음)
+ * @param lastActivity 마지막 활동 시각 (epoch millis)
+ * @param expiresAt 활동 시각 기준으로 연장된 만료 시각
+ */
+public record SessionActivity(String userId, String sessionId, long lastActivity, Instant expiresAt) {
+}
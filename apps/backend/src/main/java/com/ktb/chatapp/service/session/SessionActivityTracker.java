@@ -0,0 +1,132 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 lastActivity 의 write-behind 트래커.
+ * 메시지마다 Session 문서 전체를 저장하는 대신 사용자별 최신 활동 시각만 메모리에 모으고,
+ * 주기적으로 SessionStore.updateLastActivity 로 일괄 반영한다. (SESSION_TTL 30분 대비 수 초 지연은 허용)
+ */
+@Slf4j
+@Component
+public class SessionActivityTracker {
+
+    private static final long SESSION_TTL_SEC = DurationStyle.detectAndParse(Session.SESSION_TTL).getSeconds();
+
+    private final SessionStore sessionStore;
+    private final ConcurrentHashMap<String, SessionActivity> pending = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+
+    @Value("${session.activity.batch-size:1000}")
+    private int batchSize;
+
+    public SessionActivityTracker(SessionStore sessionStore, MeterRegistry meterRegistry) {
+        this.sessionStore = sessionStore;
+        this.flushTimer = Timer.builder("session.activity.flush.time")
+                .description("Session lastActivity write-behind flush time")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("session.activity.flushed")
+                .description("Session lastActivity updates written to the store")
+                .register(meterRegistry);
+
+        Gauge.builder("session.activity.pending", pending, Map::size)
+                .description("Session lastActivity updates waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활동 시각 기록. 같은 사용자에 대한 기록은 최신 값 하나로 병합된다.
+     */
+    public void touch(String userId, String sessionId, long timestamp) {
+        SessionActivity activity = new SessionActivity(
+                userId,
+                sessionId,
+                timestamp,
+                Instant.ofEpochMilli(timestamp).plusSeconds(SESSION_TTL_SEC)
+        );
+        pending.merge(userId, activity, SessionActivityTracker::latest);
+    }
+
+    /**
+     * 아직 flush 되지 않은 활동 시각 조회
+     *
+     * @return 해당 세션의 대기 중인 lastActivity, 없으면 0
+     */
+    public long pendingLastActivity(String userId, String sessionId) {
+        SessionActivity activity = pending.get(userId);
+        if (activity == null || !activity.sessionId().equals(sessionId)) {
+            return 0L;
+        }
+        return activity.lastActivity();
+    }
+
+    /**
+     * 세션 삭제/교체 시 대기 중인 활동 기록 폐기
+     */
+    public void discard(String userId) {
+        pending.remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${session.activity.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<SessionActivity> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (SessionActivity activity : pending.values()) {
+            // 스냅샷 이후 다시 touch 된 엔트리는 남겨두고 다음 주기에 반영
+            if (pending.remove(activity.userId(), activity)) {
+                batch.add(activity);
+            }
+            if (batch.size() >= batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<SessionActivity> batch) {
+        try {
+            flushTimer.record(() -> sessionStore.updateLastActivity(batch));
+            flushedCounter.increment(batch.size());
+            log.debug("Flushed {} session activity updates", batch.size());
+        } catch (Exception e) {
+            log.error("Session activity flush failed - {} entries re-queued", batch.size(), e);
+            // 실패 이후 새로 기록된 활동이 있으면 그 값을 우선한다
+            batch.forEach(activity -> pending.merge(activity.userId(), activity,
+                    (current, failed) -> latest(failed, current)));
+        }
+    }
+
+    private static SessionActivity latest(SessionActivity current, SessionActivity candidate) {
+        if (!current.sessionId().equals(candidate.sessionId())) {
+            return candidate;
+        }
+        return current.lastActivity() >= candidate.lastActivity() ? current : candidate;
+    }
+}
@@ -2,8 +2,14 @@ package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
 import com.ktb.chatapp.repository.SessionRepository;
+import java.util.Collection;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 /**
@@ -15,6 +21,7 @@ import org.springframework.stereotype.Component;
 public class SessionMongoStore implements SessionStore {
     
     private final SessionRepository sessionRepository;
+    private final MongoTemplate mongoTemplate;
     
     @Override
     public Optional<Session> findByUserId(String userId) {
@@ -38,4 +45,26 @@ public class SessionMongoStore implements SessionStore {
     public void deleteAll(String userId) {
         sessionRepository.deleteByUserId(userId);
     }
+    
+    /**
+     * 활동 시각을 unordered bulkWrite 한 번으로 반영한다.
+     * $max 를 사용하므로 늦게 도착한 오래된 값이 최신 값을 덮어쓰지 않는다.
+     */
+    @Override
+    public void updateLastActivity(Collection<SessionActivity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Session.class);
+        for (SessionActivity activity : activities) {
+            Query query = new Query(Criteria.where("userId").is(activity.userId())
+                    .and("sessionId").is(activity.sessionId()));
+            Update update = new Update()
+                    .max("lastActivity", activity.lastActivity())
+                    .max("expiresAt", activity.expiresAt());
+            bulkOps.updateOne(query, update);
+        }
+        bulkOps.execute();
+    }
 }
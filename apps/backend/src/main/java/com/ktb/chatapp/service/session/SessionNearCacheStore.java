@@ -0,0 +1,158 @@
+package com.ktb.chatapp.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.config.SessionCacheProperties;
+import com.ktb.chatapp.model.Session;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * SessionStore 앞단의 in-process near-cache 데코레이터.
+ * validateSession 의 findByUserId 를 메모리 조회로 처리하고,
+ * 세션 교체(createSession)/삭제(removeSession) 시 Redis pub/sub 으로 다른 노드의 캐시를 무효화한다.
+ * 같은 세션의 lastActivity 갱신은 브로드캐스트하지 않으며, 노드 간 차이는 expireAfterWrite 로 제한한다.
+ */
+@Slf4j
+public class SessionNearCacheStore implements SessionStore, InitializingBean, DisposableBean {
+
+    static final String INVALIDATION_TOPIC = "session:near-cache:invalidate";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final SessionStore delegate;
+    private final Cache<String, Session> cache;
+    private final RTopic invalidationTopic;
+    private final String nodeId = UUID.randomUUID().toString();
+    private int listenerId = -1;
+
+    public SessionNearCacheStore(
+            SessionStore delegate,
+            RedissonClient redissonClient,
+            SessionCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "session.near-cache");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            listenerId = invalidationTopic.addListener(String.class, (channel, message) -> onInvalidation(message));
+        } catch (Exception e) {
+            log.warn("Session near-cache invalidation subscribe failed - entries will only expire by TTL", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (listenerId != -1) {
+            invalidationTopic.removeListener(listenerId);
+        }
+    }
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        Session cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+
+        Optional<Session> loaded = delegate.findByUserId(userId);
+        loaded.ifPresent(session -> cache.put(userId, copyOf(session)));
+        return loaded;
+    }
+
+    @Override
+    public Session save(Session session) {
+        Session cached = cache.getIfPresent(session.getUserId());
+        boolean sessionReplaced = cached == null || !cached.getSessionId().equals(session.getSessionId());
+
+        Session saved = delegate.save(session);
+        cache.put(saved.getUserId(), copyOf(saved));
+
+        // 새 세션 발급 시에만 다른 노드에 전파 (lastActivity 갱신은 전파하지 않음)
+        if (sessionReplaced) {
+            publishInvalidation(saved.getUserId());
+        }
+        return saved;
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        delegate.deleteAll(userId);
+        cache.invalidate(userId);
+        publishInvalidation(userId);
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        delegate.delete(userId, sessionId);
+        cache.invalidate(userId);
+        publishInvalidation(userId);
+    }
+
+    @Override
+    public void updateLastActivity(Collection<SessionActivity> activities) {
+        delegate.updateLastActivity(activities);
+        for (SessionActivity activity : activities) {
+            cache.asMap().computeIfPresent(activity.userId(), (userId, cached) -> {
+                if (!cached.getSessionId().equals(activity.sessionId())
+                        || cached.getLastActivity() >= activity.lastActivity()) {
+                    return cached;
+                }
+                Session updated = copyOf(cached);
+                updated.setLastActivity(activity.lastActivity());
+                updated.setExpiresAt(activity.expiresAt());
+                return updated;
+            });
+        }
+    }
+
+    private void publishInvalidation(String userId) {
+        try {
+            invalidationTopic.publish(nodeId + MESSAGE_DELIMITER + userId);
+        } catch (Exception e) {
+            log.warn("Failed to publish session invalidation for userId: {}", userId, e);
+        }
+    }
+
+    private void onInvalidation(String message) {
+        int delimiterIndex = message.indexOf(MESSAGE_DELIMITER);
+        if (delimiterIndex < 0) {
+            return;
+        }
+        String sourceNodeId = message.substring(0, delimiterIndex);
+        if (nodeId.equals(sourceNodeId)) {
+            return;
+        }
+        cache.invalidate(message.substring(delimiterIndex + 1));
+    }
+
+    private Session copyOf(Session session) {
+        return Session.builder()
+                .id(session.getId())
+                .userId(session.getUserId())
+                .sessionId(session.getSessionId())
+                .createdAt(session.getCreatedAt())
+                .lastActivity(session.getLastActivity())
+                .metadata(session.getMetadata())
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
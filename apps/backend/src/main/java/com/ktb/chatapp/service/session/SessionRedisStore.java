@@ -0,0 +1,190 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis implementation of SessionStore.
+ * 사용자당 하나의 hash(session:{userId})에 세션을 저장하고 expiresAt 으로 native TTL(PEXPIREAT)을 건다.
+ * 조회/저장/조건부 삭제/전체 삭제가 각각 한 번의 round trip 으로 끝난다.
+ */
+public class SessionRedisStore implements SessionStore {
+
+    static final String KEY_PREFIX = "session:";
+
+    private static final long SESSION_TTL_MS = DurationStyle.detectAndParse(Session.SESSION_TTL).toMillis();
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_SESSION_ID = "sessionId";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_LAST_ACTIVITY = "lastActivity";
+    private static final String FIELD_EXPIRES_AT = "expiresAt";
+    private static final String FIELD_USER_AGENT = "userAgent";
+    private static final String FIELD_IP_ADDRESS = "ipAddress";
+    private static final String FIELD_DEVICE_INFO = "deviceInfo";
+
+    /** 기존 hash 를 통째로 교체하고 만료 시각을 건다. ARGV[1]=expiresAt(ms), 나머지는 field/value 쌍 */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            redis.call('PEXPIREAT', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /** sessionId 가 일치할 때만 삭제 (Mongo 구현의 read-then-delete 를 원자적으로 처리) */
+    private static final RedisScript<Long> DELETE_IF_MATCH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'sessionId') == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /** sessionId 가 일치하고 기존 값보다 최신일 때만 lastActivity/expiresAt 을 올린다 ($max 와 같은 의미) */
+    private static final byte[] TOUCH_SCRIPT = """
+            if redis.call('HGET', KEYS[1], 'sessionId') ~= ARGV[1] then
+                return 0
+            end
+            local current = tonumber(redis.call('HGET', KEYS[1], 'lastActivity') or '0')
+            if current >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'lastActivity', ARGV[2], 'expiresAt', ARGV[3])
+            redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final HashOperations<String, String, String> hashOperations;
+
+    public SessionRedisStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.hashOperations = redisTemplate.opsForHash();
+    }
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        Map<String, String> hash = hashOperations.entries(key(userId));
+        if (hash.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toSession(userId, hash));
+    }
+
+    @Override
+    public Session save(Session session) {
+        if (session.getId() == null) {
+            session.setId(session.getSessionId());
+        }
+        Instant expiresAt = session.getExpiresAt() != null
+                ? session.getExpiresAt()
+                : Instant.ofEpochMilli(session.getLastActivity() + SESSION_TTL_MS);
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(expiresAt.toEpochMilli()));
+        addField(args, FIELD_ID, session.getId());
+        addField(args, FIELD_SESSION_ID, session.getSessionId());
+        addField(args, FIELD_CREATED_AT, String.valueOf(session.getCreatedAt()));
+        addField(args, FIELD_LAST_ACTIVITY, String.valueOf(session.getLastActivity()));
+        addField(args, FIELD_EXPIRES_AT, String.valueOf(expiresAt.toEpochMilli()));
+        SessionMetadata metadata = session.getMetadata();
+        if (metadata != null) {
+            addField(args, FIELD_USER_AGENT, metadata.userAgent());
+            addField(args, FIELD_IP_ADDRESS, metadata.ipAddress());
+            addField(args, FIELD_DEVICE_INFO, metadata.deviceInfo());
+        }
+
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key(session.getUserId())), args.toArray());
+        return session;
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        redisTemplate.execute(DELETE_IF_MATCH_SCRIPT, List.of(key(userId)), sessionId);
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    /**
+     * 배치 전체를 한 번의 파이프라인으로 전송한다.
+     */
+    @Override
+    public void updateLastActivity(Collection<SessionActivity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SessionActivity activity : activities) {
+                connection.scriptingCommands().eval(
+                        TOUCH_SCRIPT,
+                        ReturnType.INTEGER,
+                        1,
+                        bytes(key(activity.userId())),
+                        bytes(activity.sessionId()),
+                        bytes(String.valueOf(activity.lastActivity())),
+                        bytes(String.valueOf(activity.expiresAt().toEpochMilli()))
+                );
+            }
+            return null;
+        });
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void addField(List<String> args, String field, String value) {
+        if (value != null) {
+            args.add(field);
+            args.add(value);
+        }
+    }
+
+    private static Session toSession(String userId, Map<String, String> hash) {
+        SessionMetadata metadata = null;
+        if (hash.containsKey(FIELD_USER_AGENT) || hash.containsKey(FIELD_IP_ADDRESS)
+                || hash.containsKey(FIELD_DEVICE_INFO)) {
+            metadata = new SessionMetadata(
+                    hash.get(FIELD_USER_AGENT),
+                    hash.get(FIELD_IP_ADDRESS),
+                    hash.get(FIELD_DEVICE_INFO)
+            );
+        }
+
+        String expiresAt = hash.get(FIELD_EXPIRES_AT);
+        return Session.builder()
+                .id(hash.get(FIELD_ID))
+                .userId(userId)
+                .sessionId(hash.get(FIELD_SESSION_ID))
+                .createdAt(parseLong(hash.get(FIELD_CREATED_AT)))
+                .lastActivity(parseLong(hash.get(FIELD_LAST_ACTIVITY)))
+                .metadata(metadata)
+                .expiresAt(expiresAt != null ? Instant.ofEpochMilli(Long.parseLong(expiresAt)) : null)
+                .build();
+    }
+
+    private static long parseLong(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -33,4 +34,12 @@ public interface SessionStore {
     void deleteAll(String userId);
     
     void delete(String userId, String sessionId);
+    
+    /**
+     * Apply coalesced last activity updates.
+     * lastActivity/expiresAt must never move backwards and only the matching session is updated.
+     *
+     * @param activities pending activities, at most one per user
+     */
+    void updateLastActivity(Collection<SessionActivity> activities);
 }
@@ -4,10 +4,10 @@ import com.corundumstudio.socketio.AuthTokenListener;
 import com.corundumstudio.socketio.AuthTokenResult;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.JwtService;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
+import com.ktb.chatapp.service.UserCacheService;
 import com.ktb.chatapp.websocket.socketio.handler.ConnectionLoginHandler;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -29,8 +29,9 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
 
     private final JwtService jwtService;
     private final SessionService sessionService;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     private final ObjectProvider<ConnectionLoginHandler> socketIOChatHandlerProvider;
+    private final SocketIOEventDispatcher socketIOEventDispatcher;
 
     @Override
     public AuthTokenResult getAuthTokenResult(Object _authToken, SocketIOClient client) {
@@ -61,8 +62,8 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
                 return new AuthTokenResult(false, Map.of("message", "Invalid session"));
             }
 
-            // Load user from database
-            User user = userRepository.findById(userId).orElse(null);
+            // Load user (핸드셰이크에서 캐시를 채워 이후 이벤트의 송신자 조회가 메모리에서 끝난다)
+            User user = userCacheService.getUser(userId).orElse(null);
             if (user == null) {
                 log.error("User not found: {}", userId);
                 return new AuthTokenResult(false, Map.of("message", "User not found"));
@@ -71,7 +72,10 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
             log.info("Socket.IO connection authorized for user: {} ({})", user.getName(), userId);
             
             var socketUser = new SocketUser(user.getId(), user.getName(), sessionId, client.getSessionId().toString());
-            socketIOChatHandlerProvider.getObject().onConnect(client, socketUser);
+            // 재입장 처리 등 블로킹 작업은 같은 소켓 lane 에서 실행해 이후 이벤트보다 먼저 끝나도록 한다
+            ConnectionLoginHandler connectionLoginHandler = socketIOChatHandlerProvider.getObject();
+            socketIOEventDispatcher.dispatch(client, "connect",
+                    () -> connectionLoginHandler.onConnect(client, socketUser));
             return AuthTokenResult.AuthTokenResultSuccess;
         } catch (Exception e) {
             log.error("Socket.IO authentication error: {}", e.getMessage(), e);
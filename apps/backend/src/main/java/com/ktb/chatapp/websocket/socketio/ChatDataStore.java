@@ -1,10 +1,12 @@
 package com.ktb.chatapp.websocket.socketio;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Data store interface for chat-related data storage.
- * Provides key-value storage operations for chat user and room data.
+ * Provides key-value storage operations for chat user and room data,
+ * and set operations for membership data that is updated one member at a time.
  */
 public interface ChatDataStore {
     
@@ -32,6 +34,39 @@ public interface ChatDataStore {
      * @param key the storage key
      */
     void delete(String key);
-    
-    int size();
+
+    /**
+     * Add a member to the set stored at key
+     *
+     * @param key the storage key
+     * @param member the member to add
+     * @return true if the member was added, false if it was already present
+     */
+    boolean sadd(String key, String member);
+
+    /**
+     * Remove a member from the set stored at key. The key is removed when the set becomes empty.
+     *
+     * @param key the storage key
+     * @param member the member to remove
+     * @return true if the member was removed, false if it was not present
+     */
+    boolean srem(String key, String member);
+
+    /**
+     * Check whether a member belongs to the set stored at key
+     *
+     * @param key the storage key
+     * @param member the member to check
+     * @return true if the member is present
+     */
+    boolean sismember(String key, String member);
+
+    /**
+     * Retrieve all members of the set stored at key
+     *
+     * @param key the storage key
+     * @return a copy of the members, or an empty set if the key does not exist
+     */
+    Set<String> smembers(String key);
 }
@@ -12,6 +12,7 @@ public class ConnectedUsers {
     private static final String USER_SOCKET_KEY_PREFIX = "conn_users:userid:";
     
     private final ChatDataStore chatDataStore;
+    private final ConnectionCounter connectionCounter;
     
     public SocketUser get(String userId) {
         return chatDataStore.get(buildKey(userId), SocketUser.class).orElse(null);
@@ -19,14 +20,26 @@ public class ConnectedUsers {
     
     public void set(String userId, SocketUser sockerUser) {
         chatDataStore.set(buildKey(userId), sockerUser);
+        connectionCounter.connected(userId, sockerUser.socketId());
     }
     
     public void del(String userId) {
         chatDataStore.delete(buildKey(userId));
+        connectionCounter.disconnected(userId);
+    }
+
+    /**
+     * 활성 연결이 다른 소켓으로 교체된 뒤 이전 소켓이 끊긴 경우. 저장소는 그대로 두고 이 노드의 카운트만 정리한다.
+     */
+    public void release(String userId, String socketId) {
+        connectionCounter.disconnected(userId, socketId);
     }
     
-    public int size() {
-        return chatDataStore.size();
+    /**
+     * 클러스터 전체 동시 접속자 수 (노드별 카운터 합계, O(1))
+     */
+    public long size() {
+        return connectionCounter.clusterSize();
     }
     
     private String buildKey(String userId) {
@@ -0,0 +1,124 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시 접속자 카운터.
+ * 이 노드에 활성 연결을 가진 사용자를 메모리에서 세고, 노드별 개수를 Redis hash 에 주기적으로 기록해 클러스터 합계를 만든다.
+ * heartbeat 가 nodeTimeout 동안 갱신되지 않은 노드는 죽은 것으로 보고 hash 에서 제거한다.
+ * 게이지와 로그는 메모리 값만 읽으므로 KEYS 스캔이나 Redis 왕복이 없다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionCounter {
+
+    static final String COUNT_KEY = "socketio:connections:count";
+    static final String HEARTBEAT_KEY = "socketio:connections:heartbeat";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    // userId → 이 노드의 활성 socketId
+    private final ConcurrentHashMap<String, String> localConnections = new ConcurrentHashMap<>();
+    // 마지막 heartbeat 시점의 다른 노드 합계
+    private final AtomicLong remoteConnections = new AtomicLong();
+
+    @Value("${socketio.connections.node-timeout-ms:30000}")
+    private long nodeTimeoutMs;
+
+    public ConnectionCounter(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        Gauge.builder("socketio.concurrent.users", this, ConnectionCounter::clusterSize)
+                .description("Current number of concurrent Socket.IO users")
+                .register(meterRegistry);
+        Gauge.builder("socketio.concurrent.users.local", localConnections, Map::size)
+                .description("Concurrent Socket.IO users connected to this node")
+                .register(meterRegistry);
+    }
+
+    public void connected(String userId, String socketId) {
+        localConnections.put(userId, socketId);
+    }
+
+    public void disconnected(String userId) {
+        localConnections.remove(userId);
+    }
+
+    /**
+     * 해당 소켓이 이 노드의 활성 연결일 때만 제거한다 (다른 노드/소켓으로 교체된 경우는 유지).
+     */
+    public void disconnected(String userId, String socketId) {
+        localConnections.remove(userId, socketId);
+    }
+
+    public int localSize() {
+        return localConnections.size();
+    }
+
+    public long clusterSize() {
+        return remoteConnections.get() + localConnections.size();
+    }
+
+    @Scheduled(fixedDelayString = "${socketio.connections.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            stringRedisTemplate.opsForHash().put(COUNT_KEY, nodeId, String.valueOf(localConnections.size()));
+            stringRedisTemplate.opsForHash().put(HEARTBEAT_KEY, nodeId, String.valueOf(now));
+
+            Map<Object, Object> heartbeats = stringRedisTemplate.opsForHash().entries(HEARTBEAT_KEY);
+            Map<Object, Object> counts = stringRedisTemplate.opsForHash().entries(COUNT_KEY);
+
+            long remote = 0;
+            List<Object> deadNodes = new ArrayList<>();
+            for (Map.Entry<Object, Object> entry : counts.entrySet()) {
+                Object node = entry.getKey();
+                if (nodeId.equals(node)) {
+                    continue;
+                }
+                Object lastBeat = heartbeats.get(node);
+                if (lastBeat == null || now - Long.parseLong(lastBeat.toString()) > nodeTimeoutMs) {
+                    deadNodes.add(node);
+                    continue;
+                }
+                remote += Long.parseLong(entry.getValue().toString());
+            }
+            remoteConnections.set(remote);
+
+            if (!deadNodes.isEmpty()) {
+                Object[] fields = deadNodes.toArray();
+                stringRedisTemplate.opsForHash().delete(COUNT_KEY, fields);
+                stringRedisTemplate.opsForHash().delete(HEARTBEAT_KEY, fields);
+                log.info("Removed stale connection counters - nodes: {}", deadNodes);
+            }
+        } catch (Exception e) {
+            // 다음 heartbeat 까지 직전 합계를 유지
+            log.warn("Connection counter heartbeat failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void unregister() {
+        try {
+            stringRedisTemplate.opsForHash().delete(COUNT_KEY, nodeId);
+            stringRedisTemplate.opsForHash().delete(HEARTBEAT_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("Connection counter unregister failed - nodeId: {}", nodeId, e);
+        }
+    }
+}
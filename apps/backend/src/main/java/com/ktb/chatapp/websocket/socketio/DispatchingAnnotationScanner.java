@@ -0,0 +1,114 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.AckRequest;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.annotation.OnConnect;
+import com.corundumstudio.socketio.annotation.OnDisconnect;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * SpringAnnotationScanner 대체 구현.
+ * &#64;OnEvent / &#64;OnConnect / &#64;OnDisconnect 메서드를 SocketIOServer 에 직접 등록하되,
+ * 실제 호출은 {@link SocketIOEventDispatcher} 를 거치도록 감싸 netty worker 스레드를 블로킹하지 않게 한다.
+ * AckRequest 를 받는 핸들러는 리스너 반환 직후 라이브러리가 ack 를 보내므로 worker 스레드에서 그대로 실행한다.
+ */
+@Slf4j
+public class DispatchingAnnotationScanner implements BeanPostProcessor {
+
+    private final SocketIOServer socketIOServer;
+    private final SocketIOEventDispatcher dispatcher;
+
+    public DispatchingAnnotationScanner(SocketIOServer socketIOServer, SocketIOEventDispatcher dispatcher) {
+        this.socketIOServer = socketIOServer;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Class<?> beanClass = ClassUtils.getUserClass(bean);
+        ReflectionUtils.doWithMethods(beanClass, method -> register(bean, method),
+                method -> method.isAnnotationPresent(OnEvent.class)
+                        || method.isAnnotationPresent(OnConnect.class)
+                        || method.isAnnotationPresent(OnDisconnect.class));
+        return bean;
+    }
+
+    private void register(Object bean, Method method) {
+        ReflectionUtils.makeAccessible(method);
+        String handlerName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+        if (method.isAnnotationPresent(OnConnect.class)) {
+            socketIOServer.addConnectListener(client ->
+                    dispatcher.dispatch(client, "connect", () -> invoke(bean, method, client, null, null)));
+            log.info("Socket.IO connect listener registered: {}", handlerName);
+        }
+        if (method.isAnnotationPresent(OnDisconnect.class)) {
+            socketIOServer.addDisconnectListener(client ->
+                    dispatcher.dispatch(client, "disconnect", () -> invoke(bean, method, client, null, null)));
+            log.info("Socket.IO disconnect listener registered: {}", handlerName);
+        }
+        OnEvent onEvent = method.getAnnotation(OnEvent.class);
+        if (onEvent != null) {
+            registerEvent(bean, method, onEvent.value(), dataClass(method));
+            log.info("Socket.IO event listener registered: {} -> {}", onEvent.value(), handlerName);
+        }
+    }
+
+    private <T> void registerEvent(Object bean, Method method, String event, Class<T> dataClass) {
+        boolean inline = acceptsAck(method);
+        socketIOServer.addEventListener(event, dataClass, (client, data, ackRequest) -> {
+            if (inline) {
+                invoke(bean, method, client, data, ackRequest);
+                return;
+            }
+            dispatcher.dispatch(client, event, () -> invoke(bean, method, client, data, ackRequest));
+        });
+    }
+
+    private Class<?> dataClass(Method method) {
+        for (Class<?> type : method.getParameterTypes()) {
+            if (!SocketIOClient.class.isAssignableFrom(type) && !AckRequest.class.isAssignableFrom(type)) {
+                return ClassUtils.resolvePrimitiveIfNecessary(type);
+            }
+        }
+        return Object.class;
+    }
+
+    private boolean acceptsAck(Method method) {
+        for (Class<?> type : method.getParameterTypes()) {
+            if (AckRequest.class.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void invoke(Object bean, Method method, SocketIOClient client, Object data, AckRequest ackRequest) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (SocketIOClient.class.isAssignableFrom(types[i])) {
+                args[i] = client;
+            } else if (AckRequest.class.isAssignableFrom(types[i])) {
+                args[i] = ackRequest;
+            } else {
+                args[i] = data;
+            }
+        }
+        try {
+            method.invoke(bean, args);
+        } catch (InvocationTargetException e) {
+            ReflectionUtils.rethrowRuntimeException(e.getTargetException());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
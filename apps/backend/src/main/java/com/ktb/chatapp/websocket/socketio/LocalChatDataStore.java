@@ -1,15 +1,19 @@
 package com.ktb.chatapp.websocket.socketio;
 
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Local in-memory implementation of ChatDataStore using ConcurrentHashMap.
  * Thread-safe storage for chat-related data without external dependencies.
+ * Sets are stored as concurrent key sets so that member updates never copy the whole set.
  */
 public class LocalChatDataStore implements ChatDataStore {
     
     private final ConcurrentHashMap<String, Object> storage = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> sets = new ConcurrentHashMap<>();
     
     @Override
     public <T> Optional<T> get(String key, Class<T> type) {
@@ -33,10 +37,41 @@ public class LocalChatDataStore implements ChatDataStore {
     @Override
     public void delete(String key) {
         storage.remove(key);
+        sets.remove(key);
     }
-    
+
+    @Override
+    public boolean sadd(String key, String member) {
+        boolean[] added = new boolean[1];
+        // srem 이 빈 집합을 제거하는 것과 겹쳐도 유실되지 않도록 같은 키의 compute 안에서 추가
+        sets.compute(key, (k, members) -> {
+            Set<String> target = members != null ? members : ConcurrentHashMap.newKeySet();
+            added[0] = target.add(member);
+            return target;
+        });
+        return added[0];
+    }
+
+    @Override
+    public boolean srem(String key, String member) {
+        boolean[] removed = new boolean[1];
+        // 비게 된 집합은 같은 원자 연산 안에서 키까지 제거 (Redis SREM 과 동일)
+        sets.computeIfPresent(key, (k, members) -> {
+            removed[0] = members.remove(member);
+            return members.isEmpty() ? null : members;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public boolean sismember(String key, String member) {
+        Set<String> members = sets.get(key);
+        return members != null && members.contains(member);
+    }
+
     @Override
-    public int size() {
-        return storage.size();
+    public Set<String> smembers(String key) {
+        Set<String> members = sets.get(key);
+        return members != null ? new HashSet<>(members) : new HashSet<>();
     }
 }
@@ -0,0 +1,191 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.config.SocketIOBroadcastProperties;
+import com.ktb.chatapp.dto.ParticipantsDeltaResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.PARTICIPANTS_DELTA;
+
+/**
+ * 방 단위 참가자 변경 브로드캐스터.
+ * participantsWindow 동안의 입장/퇴장을 사용자별 마지막 상태로 병합해 PARTICIPANTS_DELTA 한 프레임으로 보낸다.
+ * 입장/퇴장마다 전체 참가자 목록을 방 전체에 보내던 것을 window 당 변경분 한 프레임으로 줄인다.
+ * 전체 목록은 입장한 클라이언트에게만 JOIN_ROOM_SUCCESS 로 내려간다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ParticipantUpdateBroadcaster {
+
+    private final SocketIOServer socketIOServer;
+    private final ObjectMapper objectMapper;
+    private final WindowedCoalescer<String, RoomChanges> coalescer;
+
+    private final Counter bytesCounter;
+    private final Counter bytesSavedCounter;
+    // 값과 무관한 JSON 키/구분자 크기. 기동 시 한 번 직렬화해 구한다
+    private final int deltaOverheadBytes;
+    private final int userOverheadBytes;
+    // 전체 목록 크기 추정용 사용자 한 명의 크기. 첫 입장 전(퇴장만 본 노드)에는 대표 사용자 크기로 추정한다
+    private volatile double userBytes;
+
+    public ParticipantUpdateBroadcaster(
+            SocketIOServer socketIOServer,
+            SocketIOBroadcastProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.socketIOServer = socketIOServer;
+        this.objectMapper = objectMapper;
+        this.coalescer = new WindowedCoalescer<>(
+                "participants", properties::getParticipantsWindow, this::send, meterRegistry);
+
+        this.bytesCounter = Counter.builder("socketio.participants_broadcast.bytes")
+                .description("Estimated delta payload bytes per room broadcast")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.bytesSavedCounter = Counter.builder("socketio.participants_broadcast.bytes.saved")
+                .description("Estimated payload bytes avoided versus a full participant list per event")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        UserResponse sample = representativeUser();
+        this.userBytes = serializedSize(sample);
+        this.userOverheadBytes = Math.max(0, (int) userBytes - valueLength(sample));
+        this.deltaOverheadBytes = serializedSize(new ParticipantsDeltaResponse(
+                "", List.of(), List.of(), 0, System.currentTimeMillis()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coalescer.shutdown();
+    }
+
+    /**
+     * @param participantCount 변경 반영 후 방 참가자 수
+     */
+    public void joined(String roomId, UserResponse user, int participantCount) {
+        submit(roomId, user.getId(), user, participantCount);
+    }
+
+    /**
+     * @param participantCount 변경 반영 후 방 참가자 수
+     */
+    public void left(String roomId, String userId, int participantCount) {
+        submit(roomId, userId, null, participantCount);
+    }
+
+    /**
+     * 변경을 방의 다음 프레임에 합친다.
+     *
+     * @param user 입장이면 사용자 정보, 퇴장이면 null
+     */
+    private void submit(String roomId, String userId, UserResponse user, int participantCount) {
+        coalescer.submit(roomId, RoomChanges::new, changes -> changes.add(userId, user, participantCount));
+    }
+
+    private void send(String roomId, RoomChanges changes, int events) {
+        List<UserResponse> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        changes.byUser.forEach((userId, user) -> {
+            if (user != null) {
+                added.add(user);
+            } else {
+                removed.add(userId);
+            }
+        });
+        ParticipantsDeltaResponse payload = new ParticipantsDeltaResponse(
+                roomId, added, removed, changes.participantCount, System.currentTimeMillis());
+
+        // 지표를 먼저 기록해 프레임을 받은 쪽에서 관측할 때 이미 반영되어 있게 한다
+        recordBytes(payload, changes.fullListUsers);
+
+        socketIOServer.getRoomOperations(roomId).sendEvent(PARTICIPANTS_DELTA, payload);
+    }
+
+    /**
+     * 이전 방식은 이벤트마다 변경 후 참가자 전체를 보냈으므로, 그 크기를 (참가자 수 x 사용자 한 명 크기)로 추정해
+     * 보낸 delta 크기와의 차이를 절감량으로 기록한다.
+     * 지표만을 위해 프레임마다 다시 직렬화하지 않도록 delta 크기는 고정 크기에 문자열 값 길이를 더해 추정한다.
+     */
+    private void recordBytes(ParticipantsDeltaResponse payload, long fullListUsers) {
+        long addedBytes = 0;
+        for (UserResponse user : payload.getAdded()) {
+            // 구분자 하나 포함
+            addedBytes += userOverheadBytes + valueLength(user) + 1;
+        }
+        long removedBytes = 0;
+        for (String userId : payload.getRemoved()) {
+            // 따옴표 두 개와 구분자
+            removedBytes += userId.length() + 3;
+        }
+        if (!payload.getAdded().isEmpty()) {
+            userBytes = (double) addedBytes / payload.getAdded().size();
+        }
+
+        long deltaBytes = deltaOverheadBytes + payload.getRoomId().length() + addedBytes + removedBytes;
+        bytesCounter.increment(deltaBytes);
+        bytesSavedCounter.increment(Math.max(0, fullListUsers * userBytes - deltaBytes));
+    }
+
+    private static int valueLength(UserResponse user) {
+        return length(user.getId()) + length(user.getName()) + length(user.getEmail()) + length(user.getProfileImage());
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * ObjectId 와 일반적인 이름/이메일 길이의 사용자 한 명. 실제 입장 프레임을 보면 그 크기로 대체된다.
+     */
+    private static UserResponse representativeUser() {
+        return UserResponse.builder()
+                .id("000000000000000000000000")
+                .name("participant")
+                .email("participant@example.com")
+                .profileImage("")
+                .build();
+    }
+
+    /**
+     * 기동 시 고정 크기를 구할 때만 쓴다.
+     */
+    private int serializedSize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value).length;
+        } catch (Exception e) {
+            log.debug("Participants broadcast size measurement failed", e);
+            return 0;
+        }
+    }
+
+    /**
+     * 방 하나의 window 동안 병합된 입장/퇴장.
+     */
+    private static final class RoomChanges {
+
+        // userId -> 입장이면 사용자 정보, 퇴장이면 null (같은 사용자의 변경은 마지막 상태만 남긴다)
+        private final Map<String, UserResponse> byUser = new LinkedHashMap<>();
+        private int participantCount;
+        private long fullListUsers;
+
+        void add(String userId, UserResponse user, int participantCount) {
+            byUser.remove(userId);
+            byUser.put(userId, user);
+            this.participantCount = participantCount;
+            this.fullListUsers += participantCount;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.config.SocketIOBroadcastProperties;
+import com.ktb.chatapp.dto.MessageReactionDeltaResponse;
+import com.ktb.chatapp.dto.ReactionDelta;
+import com.ktb.chatapp.service.message.ReactionChange;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE_REACTION_DELTA;
+
+/**
+ * 메시지 단위 리액션 delta 브로드캐스터.
+ * reactionWindow 동안의 리액션 변경을 메시지별로 모아 (리액션, 현재 개수, 추가/제거된 사용자)만 담은
+ * MESSAGE_REACTION_DELTA 한 프레임으로 보낸다. 인기 메시지에 토글이 몰려도 메시지당 window 에 한 프레임이고,
+ * 전체 reactions 맵은 직렬화하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactionBroadcaster {
+
+    private final SocketIOServer socketIOServer;
+    private final WindowedCoalescer<String, MessageDeltas> coalescer;
+
+    public ReactionBroadcaster(
+            SocketIOServer socketIOServer,
+            SocketIOBroadcastProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.socketIOServer = socketIOServer;
+        this.coalescer = new WindowedCoalescer<>(
+                "reaction", properties::getReactionWindow, this::send, meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coalescer.shutdown();
+    }
+
+    /**
+     * 리액션 변경을 메시지의 다음 프레임에 합친다.
+     */
+    public void submit(ReactionChange change) {
+        coalescer.submit(change.messageId(), () -> new MessageDeltas(change.roomId()), deltas -> deltas.add(change));
+    }
+
+    private void send(String messageId, MessageDeltas deltas, int events) {
+        List<ReactionDelta> payload = new ArrayList<>(deltas.byReaction.size());
+        deltas.byReaction.forEach((reaction, delta) -> payload.add(new ReactionDelta(
+                reaction, delta.count, new ArrayList<>(delta.added), new ArrayList<>(delta.removed))));
+
+        socketIOServer.getRoomOperations(deltas.roomId)
+                .sendEvent(MESSAGE_REACTION_DELTA, new MessageReactionDeltaResponse(messageId, payload));
+    }
+
+    /**
+     * 메시지 하나의 window 동안 병합된 리액션 변경.
+     */
+    private static final class MessageDeltas {
+
+        private final String roomId;
+        private final Map<String, PendingDelta> byReaction = new LinkedHashMap<>();
+
+        MessageDeltas(String roomId) {
+            this.roomId = roomId;
+        }
+
+        void add(ReactionChange change) {
+            PendingDelta delta = byReaction.computeIfAbsent(change.reaction(), key -> new PendingDelta());
+            // 같은 사용자의 토글은 마지막 상태만 남긴다
+            if (change.added()) {
+                delta.removed.remove(change.userId());
+                delta.added.add(change.userId());
+            } else {
+                delta.added.remove(change.userId());
+                delta.removed.add(change.userId());
+            }
+            // compute 순서와 상태 변경 순서가 다를 수 있어 가장 최근 상태의 개수를 남긴다
+            if (change.version() >= delta.version) {
+                delta.count = change.count();
+                delta.version = change.version();
+            }
+        }
+    }
+
+    private static final class PendingDelta {
+
+        private final Set<String> added = new LinkedHashSet<>();
+        private final Set<String> removed = new LinkedHashSet<>();
+        private int count;
+        private long version;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.config.SocketIOBroadcastProperties;
+import com.ktb.chatapp.dto.MessagesReadBatchResponse;
+import com.ktb.chatapp.dto.MessagesReadResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ_BATCH;
+
+/**
+ * 방 단위 읽음 브로드캐스트 집계기.
+ * readWindow 동안 들어온 읽음 이벤트를 사용자별 messageIds 로 병합해 방마다 MESSAGES_READ_BATCH 한 프레임으로 보낸다.
+ * 모두가 읽고 있는 N명 방에서 이벤트마다 N개 프레임을 보내던 것을 window 당 N개로 줄인다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadReceiptBroadcaster {
+
+    private final SocketIOServer socketIOServer;
+    private final SocketIOBroadcastProperties properties;
+    private final WindowedCoalescer<String, RoomReads> coalescer;
+    private final Counter framesSavedCounter;
+
+    public ReadReceiptBroadcaster(
+            SocketIOServer socketIOServer,
+            SocketIOBroadcastProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.socketIOServer = socketIOServer;
+        this.properties = properties;
+        this.coalescer = new WindowedCoalescer<>("read", properties::getReadWindow, this::send, meterRegistry);
+
+        this.framesSavedCounter = Counter.builder("socketio.read_broadcast.frames.saved")
+                .description("Room broadcasts avoided by merging read events")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coalescer.shutdown();
+    }
+
+    /**
+     * 읽음 이벤트를 방의 다음 프레임에 합친다.
+     */
+    public void submit(String roomId, String userId, Collection<String> messageIds) {
+        coalescer.submit(roomId, RoomReads::new, reads -> reads.add(userId, messageIds));
+    }
+
+    private void send(String roomId, RoomReads reads, int events) {
+        if (properties.getReadWindow().toMillis() <= 0) {
+            // window 를 끈 경우 이벤트마다 기존 MESSAGES_READ 로 보낸다
+            reads.messageIdsByUser.forEach((userId, messageIds) -> socketIOServer.getRoomOperations(roomId)
+                    .sendEvent(MESSAGES_READ, new MessagesReadResponse(userId, List.copyOf(messageIds))));
+            return;
+        }
+
+        List<MessagesReadResponse> updates = new ArrayList<>(reads.messageIdsByUser.size());
+        reads.messageIdsByUser.forEach((userId, messageIds) ->
+                updates.add(new MessagesReadResponse(userId, new ArrayList<>(messageIds))));
+
+        framesSavedCounter.increment(events - 1);
+        socketIOServer.getRoomOperations(roomId)
+                .sendEvent(MESSAGES_READ_BATCH, new MessagesReadBatchResponse(updates, System.currentTimeMillis()));
+    }
+
+    /**
+     * 방 하나의 window 동안 병합된 읽음 이벤트.
+     */
+    private static final class RoomReads {
+
+        private final Map<String, Set<String>> messageIdsByUser = new LinkedHashMap<>();
+
+        void add(String userId, Collection<String> messageIds) {
+            messageIdsByUser.computeIfAbsent(userId, key -> new LinkedHashSet<>()).addAll(messageIds);
+        }
+    }
+}
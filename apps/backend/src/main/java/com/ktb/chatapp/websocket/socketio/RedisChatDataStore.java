@@ -3,9 +3,15 @@ package com.ktb.chatapp.websocket.socketio;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -13,6 +19,8 @@ import java.util.concurrent.TimeUnit;
 public class RedisChatDataStore implements ChatDataStore {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    // 집합 멤버는 JSON 직렬화 없이 평문 문자열로 저장
+    private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
     private static final String KEY_PREFIX = "chat:data:";
     private static final long DEFAULT_TTL = 24;
@@ -56,13 +64,52 @@ public class RedisChatDataStore implements ChatDataStore {
     }
 
     @Override
-    public int size() {
+    public boolean sadd(String key, String member) {
+        String redisKey = KEY_PREFIX + key;
         try {
-            var keys = redisTemplate.keys(KEY_PREFIX + "*");
-            return keys != null ? keys.size() : 0;
+            // SADD + EXPIRE 를 한 번의 왕복으로 (값 키와 같은 TTL 유지)
+            byte[] rawKey = redisKey.getBytes(StandardCharsets.UTF_8);
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.setCommands().sAdd(rawKey, member.getBytes(StandardCharsets.UTF_8));
+                connection.keyCommands().expire(rawKey, TimeUnit.HOURS.toSeconds(DEFAULT_TTL));
+                return null;
+            });
+            return !results.isEmpty() && results.getFirst() instanceof Long added && added > 0;
         } catch (Exception e) {
-            log.error("Failed to get size", e);
-            return 0;
+            log.error("Failed to add set member for key: {}", key, e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean srem(String key, String member) {
+        try {
+            Long removed = stringRedisTemplate.opsForSet().remove(KEY_PREFIX + key, member);
+            return removed != null && removed > 0;
+        } catch (Exception e) {
+            log.error("Failed to remove set member for key: {}", key, e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean sismember(String key, String member) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(KEY_PREFIX + key, member));
+        } catch (Exception e) {
+            log.error("Failed to check set member for key: {}", key, e);
+            return false;
+        }
+    }
+
+    @Override
+    public Set<String> smembers(String key) {
+        try {
+            Set<String> members = stringRedisTemplate.opsForSet().members(KEY_PREFIX + key);
+            return members != null ? new HashSet<>(members) : new HashSet<>();
+        } catch (Exception e) {
+            log.error("Failed to get set members for key: {}", key, e);
+            return new HashSet<>();
         }
     }
 }
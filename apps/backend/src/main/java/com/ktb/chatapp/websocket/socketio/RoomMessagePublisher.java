@@ -0,0 +1,50 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.service.RoomActivityCounter;
+import com.ktb.chatapp.service.message.MessagePersistencePipeline;
+import com.ktb.chatapp.service.message.RecentMessageCache;
+import com.ktb.chatapp.service.message.RoomSequenceGenerator;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE;
+
+/**
+ * 방 메시지 저장 + MESSAGE 브로드캐스트를 방 단위로 직렬화한다.
+ * 시퀀스 발급, 저장, 브로드캐스트가 같은 room lane 에서 이어서 실행되므로
+ * 한 노드 안에서는 sequence 순서와 클라이언트 수신 순서가 일치한다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomMessagePublisher {
+
+    private final SocketIOServer socketIOServer;
+    private final RoomOrderedExecutor roomOrderedExecutor;
+    private final RoomSequenceGenerator roomSequenceGenerator;
+    private final MessagePersistencePipeline messagePersistencePipeline;
+    private final RecentMessageCache recentMessageCache;
+    private final RoomActivityCounter roomActivityCounter;
+
+    /**
+     * @param message 저장할 메시지 (roomId 필수)
+     * @param responseMapper 저장된 메시지를 브로드캐스트 payload 로 변환
+     * @return 저장된 메시지 (id, sequence 부여됨)
+     */
+    public Message publish(Message message, Function<Message, MessageResponse> responseMapper) {
+        String roomId = message.getRoomId();
+        return roomOrderedExecutor.execute(roomId, () -> {
+            message.setSequence(roomSequenceGenerator.next(roomId));
+            Message savedMessage = messagePersistencePipeline.persist(message);
+            recentMessageCache.append(savedMessage);
+            roomActivityCounter.increment(roomId);
+            socketIOServer.getRoomOperations(roomId).sendEvent(MESSAGE, responseMapper.apply(savedMessage));
+            return savedMessage;
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.config.SocketIODispatchProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * roomId 해시로 고정된 단일 스레드 lane 을 골라 작업을 실행하는 executor.
+ * 같은 방의 작업은 항상 같은 lane 에서 순서대로 실행되고, 다른 방의 작업은 lane 수만큼 병렬로 실행된다.
+ * 호출자는 결과를 기다리므로 virtual thread(SocketIOEventDispatcher) 위에서 호출하는 것을 전제로 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomOrderedExecutor {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+
+    public RoomOrderedExecutor(SocketIODispatchProperties properties, MeterRegistry meterRegistry) {
+        int laneCount = Math.max(1, properties.getRoomLanes());
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    Thread.ofPlatform().name("room-lane-" + i).daemon(true).factory());
+        }
+
+        this.waitTimer = Timer.builder("socketio.room.lane.wait")
+                .description("Time a room task waits for its lane")
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("socketio.room.lane.time")
+                .description("Room task execution time on its lane")
+                .register(meterRegistry);
+        Gauge.builder("socketio.room.lane.pending", lanes,
+                        l -> Arrays.stream(l).mapToInt(lane -> lane.getQueue().size()).sum())
+                .description("Room tasks waiting across all lanes")
+                .register(meterRegistry);
+        log.info("Room ordered executor started with {} lanes", laneCount);
+    }
+
+    /**
+     * roomId 에 해당하는 lane 에서 작업을 실행하고 결과를 반환한다.
+     * 작업에서 발생한 RuntimeException 은 호출자에게 그대로 전달된다.
+     */
+    public <T> T execute(String roomId, Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> {
+            waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            return executionTimer.record(task);
+        }, lanes[laneIndex(roomId)]);
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    int laneIndex(String roomId) {
+        return Math.floorMod(roomId.hashCode(), lanes.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                    log.warn("Room lane shutdown timed out - pending: {}", lane.getQueue().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
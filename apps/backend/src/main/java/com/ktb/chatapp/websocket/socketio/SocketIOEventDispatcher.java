@@ -0,0 +1,176 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ktb.chatapp.config.SocketIODispatchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.ERROR;
+
+/**
+ * Socket.IO 이벤트를 netty worker 스레드에서 떼어 virtual thread 에서 실행하는 디스패처.
+ * 소켓마다 직렬 큐(lane)를 두어 같은 클라이언트의 이벤트는 도착 순서대로 하나씩 처리하고,
+ * 서로 다른 클라이언트의 이벤트는 maxConcurrency 범위 안에서 병렬로 처리한다.
+ * lane 은 대기 중인 이벤트가 있을 때만 존재하므로 disconnect 후 별도 정리가 필요 없다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SocketIOEventDispatcher {
+
+    private final SocketIODispatchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Map<UUID, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> handlerTimers = new ConcurrentHashMap<>();
+
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public SocketIOEventDispatcher(SocketIODispatchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("socketio-handler-", 0).factory());
+        this.permits = new Semaphore(properties.getMaxConcurrency());
+
+        this.queueWaitTimer = Timer.builder("socketio.dispatch.queue.wait")
+                .description("Time from event arrival until its handler starts")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("socketio.dispatch.rejected")
+                .description("Events rejected because the per-socket queue was full")
+                .register(meterRegistry);
+        Gauge.builder("socketio.dispatch.active", permits,
+                        p -> properties.getMaxConcurrency() - p.availablePermits())
+                .description("Handlers currently running")
+                .register(meterRegistry);
+        Gauge.builder("socketio.dispatch.lanes", lanes, Map::size)
+                .description("Sockets with pending or running events")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 핸들러를 해당 소켓의 lane 에 넣는다. 비활성화 상태면 호출 스레드에서 바로 실행한다.
+     */
+    public void dispatch(SocketIOClient client, String event, Runnable handler) {
+        if (!properties.isEnabled()) {
+            handlerTimer(event).record(() -> runSafely(event, handler));
+            return;
+        }
+
+        Task task = new Task(event, handler, System.nanoTime());
+        UUID socketId = client.getSessionId();
+        boolean[] start = new boolean[1];
+        boolean[] rejected = new boolean[1];
+
+        lanes.compute(socketId, (id, lane) -> {
+            if (lane == null) {
+                // lane 이 없다는 것은 이 소켓을 처리 중인 drain 이 없다는 뜻
+                lane = new Lane();
+                start[0] = true;
+            } else if (lane.queue.size() >= properties.getMaxQueuedPerClient()) {
+                rejected[0] = true;
+                return lane;
+            }
+            lane.queue.add(task);
+            return lane;
+        });
+
+        if (rejected[0]) {
+            rejectedCounter.increment();
+            log.warn("Socket.IO event rejected - socketId: {}, event: {}", socketId, event);
+            client.sendEvent(ERROR, Map.of(
+                    "code", "TOO_MANY_REQUESTS",
+                    "message", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
+            ));
+            return;
+        }
+        if (start[0]) {
+            executor.execute(() -> drain(socketId));
+        }
+    }
+
+    private void drain(UUID socketId) {
+        Task task;
+        while ((task = next(socketId)) != null) {
+            execute(task);
+        }
+    }
+
+    /**
+     * 다음 이벤트를 꺼낸다. 큐가 비었으면 같은 원자 연산 안에서 lane 을 제거해
+     * 이후 도착한 이벤트가 새 drain 을 시작하도록 한다.
+     */
+    private Task next(UUID socketId) {
+        Task[] next = new Task[1];
+        lanes.computeIfPresent(socketId, (id, lane) -> {
+            next[0] = lane.queue.poll();
+            return next[0] != null ? lane : null;
+        });
+        return next[0];
+    }
+
+    private void execute(Task task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Socket.IO event dispatch interrupted - event: {}", task.event());
+            return;
+        }
+        try {
+            queueWaitTimer.record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+            handlerTimer(task.event()).record(() -> runSafely(task.event(), task.handler()));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void runSafely(String event, Runnable handler) {
+        try {
+            handler.run();
+        } catch (Exception e) {
+            log.error("Socket.IO event handler failed - event: {}", event, e);
+        }
+    }
+
+    private Timer handlerTimer(String event) {
+        return handlerTimers.computeIfAbsent(event, name -> Timer.builder("socketio.dispatch.handler.time")
+                .description("Socket.IO event handler execution time")
+                .tag("event", name)
+                .register(meterRegistry));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Socket.IO dispatcher shutdown timed out - pending sockets: {}", lanes.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Task(String event, Runnable handler, long enqueuedAt) {
+    }
+
+    private static final class Lane {
+        private final ArrayDeque<Task> queue = new ArrayDeque<>();
+    }
+}
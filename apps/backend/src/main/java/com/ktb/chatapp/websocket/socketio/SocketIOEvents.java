@@ -92,6 +92,12 @@ public final class SocketIOEvents {
      */
     public static final String PARTICIPANTS_UPDATE = "participantsUpdate";
 
+    /**
+     * 참가자 변경분 (socketio.broadcast.participants-window 동안의 입장/퇴장을 방마다 한 프레임으로)
+     * Payload: { roomId, added: List<UserDto>, removed: List<userId>, participantCount, timestamp }
+     */
+    public static final String PARTICIPANTS_DELTA = "participantsDelta";
+
     /**
      * 채팅방 생성 알림
      * Payload: RoomResponse
@@ -122,12 +128,24 @@ public final class SocketIOEvents {
      */
     public static final String MESSAGES_READ = "messagesRead";
 
+    /**
+     * 방 단위로 모은 메시지 읽음 상태 업데이트 (socketio.broadcast.read-window 동안의 이벤트를 한 프레임으로)
+     * Payload: { updates: [{ userId, messageIds }], timestamp }
+     */
+    public static final String MESSAGES_READ_BATCH = "messagesReadBatch";
+
     /**
      * 메시지 리액션 업데이트
      * Payload: { messageId, reactions }
      */
     public static final String MESSAGE_REACTION_UPDATE = "messageReactionUpdate";
 
+    /**
+     * 메시지 리액션 변경분 (socketio.broadcast.reaction-window 동안의 변경을 메시지당 한 프레임으로)
+     * Payload: { messageId, deltas: [{ reaction, count, added, removed }] }
+     */
+    public static final String MESSAGE_REACTION_DELTA = "messageReactionDelta";
+
     /**
      * 중복 로그인 감지
      * Payload: { type, deviceInfo, ipAddress, timestamp }
@@ -1,6 +1,5 @@
 package com.ktb.chatapp.websocket.socketio;
 
-import java.util.HashSet;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -11,7 +10,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class UserRooms {
 
-    private static final String USER_ROOM_KEY_PREFIX = "userroom:roomids:";
+    // 값(JSON) 키였던 "userroom:roomids:" 와 타입이 달라 WRONGTYPE 이 나지 않도록 집합 키는 별도 prefix 사용
+    private static final String USER_ROOM_KEY_PREFIX = "userroom:roomset:";
 
     private final ChatDataStore chatDataStore;
 
@@ -21,11 +21,8 @@ public class UserRooms {
      * @param userId the user ID
      * @return the set of room IDs the user is currently in, or empty set if not in any room
      */
-    @SuppressWarnings("unchecked")
     public Set<String> get(String userId) {
-        return chatDataStore.get(buildKey(userId), Set.class)
-                .map(obj -> (Set<String>) obj)
-                .orElse(new HashSet<>());
+        return chatDataStore.smembers(buildKey(userId));
     }
 
     /**
@@ -35,9 +32,7 @@ public class UserRooms {
      * @param roomId the room ID to add to the user's room set
      */
     public void add(String userId, String roomId) {
-        Set<String> rooms = new HashSet<>(get(userId));
-        rooms.add(roomId);
-        chatDataStore.set(buildKey(userId), rooms);
+        chatDataStore.sadd(buildKey(userId), roomId);
     }
 
     /**
@@ -47,13 +42,8 @@ public class UserRooms {
      * @param roomId the room ID to remove
      */
     public void remove(String userId, String roomId) {
-        Set<String> rooms = new HashSet<>(get(userId));
-        rooms.remove(roomId);
-        if (rooms.isEmpty()) {
-            chatDataStore.delete(buildKey(userId));
-        } else {
-            chatDataStore.set(buildKey(userId), rooms);
-        }
+        // 마지막 방이 빠지면 키도 함께 제거된다
+        chatDataStore.srem(buildKey(userId), roomId);
     }
 
     /**
@@ -73,7 +63,7 @@ public class UserRooms {
      * @return true if the user is in the room, false otherwise
      */
     public boolean isInRoom(String userId, String roomId) {
-        return get(userId).contains(roomId);
+        return chatDataStore.sismember(buildKey(userId), roomId);
     }
 
     private String buildKey(String userId) {
@@ -81,6 +71,6 @@ public class UserRooms {
     }
     
     public void removeAllRooms(String userId) {
-        get(userId).forEach(roomId -> remove(userId, roomId));
+        clear(userId);
     }
 }
@@ -0,0 +1,130 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키(방, 메시지) 단위로 window 동안의 변경을 하나의 배치로 병합해 window 가 끝날 때 한 프레임으로 보낸다.
+ * window 의 첫 변경이 flush 를 예약하고, window 가 0 이하이면 변경마다 바로 보낸다.
+ * 배치의 병합 방식과 프레임 내용은 브로드캐스터마다 다르므로 생성/병합/전송만 넘겨받는다.
+ *
+ * <p>지표는 socketio.{name}_broadcast.* 로 등록하며, 프레임을 받은 쪽에서 관측할 때 이미 반영되어 있도록 전송 전에 기록한다.
+ *
+ * @param <K> 병합 단위 키
+ * @param <B> window 동안 병합된 변경. ConcurrentHashMap.compute 안에서만 수정된다
+ */
+@Slf4j
+final class WindowedCoalescer<K, B> {
+
+    @FunctionalInterface
+    interface Sender<K, B> {
+
+        /**
+         * @param events 배치에 병합된 변경 수
+         */
+        void send(K key, B batch, int events);
+    }
+
+    private final String name;
+    private final Supplier<Duration> window;
+    private final Sender<K, B> sender;
+    private final ConcurrentHashMap<K, Pending<B>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter eventCounter;
+    private final Counter frameCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    /**
+     * @param name   지표 이름과 스레드 이름에 쓰는 브로드캐스터 이름 (예: read → socketio.read_broadcast.*)
+     * @param window 매 변경마다 읽으므로 설정 값의 getter 를 넘긴다
+     */
+    WindowedCoalescer(String name, Supplier<Duration> window, Sender<K, B> sender, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.window = window;
+        this.sender = sender;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(name + "-broadcast").daemon(true).factory());
+
+        String prefix = "socketio." + name + "_broadcast";
+        this.eventCounter = Counter.builder(prefix + ".events")
+                .description("Changes submitted for broadcast")
+                .register(meterRegistry);
+        this.frameCounter = Counter.builder(prefix + ".frames")
+                .description("Broadcast frames sent for merged changes")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(prefix + ".batch.size")
+                .description("Changes merged into one broadcast frame")
+                .register(meterRegistry);
+    }
+
+    void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 변경을 키의 다음 프레임에 합친다. window 의 첫 변경이 flush 를 예약한다.
+     *
+     * @param newBatch 키에 대기 중인 배치가 없을 때 새 배치를 만든다
+     * @param merge    배치에 변경을 반영한다
+     */
+    void submit(K key, Supplier<B> newBatch, Consumer<B> merge) {
+        eventCounter.increment();
+        long windowMillis = window.get().toMillis();
+        if (windowMillis <= 0) {
+            B batch = newBatch.get();
+            merge.accept(batch);
+            send(key, batch, 1);
+            return;
+        }
+
+        pending.compute(key, (k, current) -> {
+            Pending<B> merged = current;
+            if (merged == null) {
+                merged = new Pending<>(newBatch.get());
+                scheduler.schedule(() -> flush(key), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            merge.accept(merged.batch);
+            merged.events++;
+            return merged;
+        });
+    }
+
+    private void flush(K key) {
+        // 꺼낸 뒤 들어온 변경은 새 엔트리로 다음 window 에 보낸다
+        Pending<B> flushed = pending.remove(key);
+        if (flushed == null) {
+            return;
+        }
+        try {
+            send(key, flushed.batch, flushed.events);
+        } catch (Exception e) {
+            log.error("{} broadcast flush failed - key: {}, events: {}", name, key, flushed.events, e);
+        }
+    }
+
+    private void send(K key, B batch, int events) {
+        frameCounter.increment();
+        batchSizeSummary.record(events);
+        sender.send(key, batch, events);
+    }
+
+    private static final class Pending<B> {
+
+        private final B batch;
+        private int events;
+
+        Pending(B batch) {
+            this.batch = batch;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import com.ktb.chatapp.model.AiType;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.service.RoomActivityCounter;
+import com.ktb.chatapp.service.message.RecentMessageCache;
 import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -31,14 +33,20 @@ public class AiService {
     private final ChatClient chatClient;
     private final ApplicationEventPublisher eventPublisher;
     private final MessageRepository messageRepository;
+    private final RecentMessageCache recentMessageCache;
+    private final RoomActivityCounter roomActivityCounter;
 
     public AiService(
             ChatClient.Builder chatClientBuilder,
             ApplicationEventPublisher eventPublisher,
-            MessageRepository messageRepository) {
+            MessageRepository messageRepository,
+            RecentMessageCache recentMessageCache,
+            RoomActivityCounter roomActivityCounter) {
         this.chatClient = chatClientBuilder.build();
         this.eventPublisher = eventPublisher;
         this.messageRepository = messageRepository;
+        this.recentMessageCache = recentMessageCache;
+        this.roomActivityCounter = roomActivityCounter;
     }
 
     public void handleAIMentions(String roomId, String userId, MessageContent messageContent) {
@@ -108,6 +116,8 @@ public class AiService {
         try {
             // 메시지 저장
             Message savedMessage = messageRepository.save(getMessage(event));
+            recentMessageCache.append(savedMessage);
+            roomActivityCounter.increment(savedMessage.getRoomId());
             log.info("AI message saved - messageId: {}, savedId: {}, roomId: {}",
                 event.getMessageId(), savedMessage.getId(), event.getRoomId());
 
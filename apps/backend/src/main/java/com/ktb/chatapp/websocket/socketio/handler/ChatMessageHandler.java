@@ -1,7 +1,6 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.ChatMessageRequest;
 import com.ktb.chatapp.dto.FileResponse;
@@ -10,12 +9,11 @@ import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
 import com.ktb.chatapp.model.*;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.*;
+import com.ktb.chatapp.service.ratelimit.RateLimitAlgorithm;
 import com.ktb.chatapp.util.BannedWordChecker;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
+import com.ktb.chatapp.websocket.socketio.RoomMessagePublisher;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -39,10 +37,9 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ChatMessageHandler {
-    private final SocketIOServer socketIOServer;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final RoomMessagePublisher roomMessagePublisher;
+    private final RoomMembershipCache roomMembershipCache;
+    private final UserCacheService userCacheService;
     private final FileRepository fileRepository;
     private final AiService aiService;
     private final SessionService sessionService;
@@ -89,8 +86,9 @@ public class ChatMessageHandler {
         }
 
         // Rate limit check
-        RateLimitCheckResult rateLimitResult =
-                rateLimitService.checkRateLimit(socketUser.id(), 10000, Duration.ofMinutes(1));
+        // 메시지마다 원격 저장소를 거치지 않도록 로컬 토큰 버킷으로 판정 (클러스터 사용량은 주기적으로 보정)
+        RateLimitCheckResult rateLimitResult = rateLimitService.checkRateLimit(
+                socketUser.id(), 10000, Duration.ofMinutes(1), RateLimitAlgorithm.LOCAL_TOKEN_BUCKET);
         if (!rateLimitResult.allowed()) {
             recordError("rate_limit_exceeded");
             Counter.builder("socketio.messages.rate_limit")
@@ -109,7 +107,7 @@ public class ChatMessageHandler {
         }
         
         try {
-            User sender = userRepository.findById(socketUser.id()).orElse(null);
+            User sender = userCacheService.getUser(socketUser.id()).orElse(null);
             if (sender == null) {
                 recordError("user_not_found");
                 client.sendEvent(ERROR, Map.of(
@@ -122,9 +120,10 @@ public class ChatMessageHandler {
 
             String roomId = data.getRoom();
             //TODO : 011 : 자주 접근하는 room/participant 정보는 캐싱하거나 in-memory 구조로 보관해 DB 조회를 줄여야 대규모 실시간 트래픽에서 성능이 유지된다.
-            Room room = roomRepository.findById(roomId).orElse(null);
+            /// [개선 011] RoomMembershipCache 로 참가 여부를 메모리에서 확인 (Mongo 조회 제거)
+            RoomMembershipCache.CachedRoom room = roomMembershipCache.getRoom(roomId).orElse(null);
 
-            if (room == null || !room.getParticipantIds().contains(socketUser.id())) {
+            if (room == null || !roomMembershipCache.isParticipant(roomId, socketUser.id())) {
                 recordError("room_access_denied");
                 client.sendEvent(ERROR, Map.of(
                     "code", "MESSAGE_ERROR",
@@ -140,7 +139,7 @@ public class ChatMessageHandler {
                     data.getMessageType(),
                     roomId,
                     socketUser.id(),
-                    room.getParticipantIds() != null ? room.getParticipantIds().size() : 0,
+                    room.getParticipantCount(),
                     data.hasFileData());
 
             //TODO 32 (MEDIUM): 금칙어 검증이 매 메시지마다 전체 단어 리스트를 순회하므로 Trie/Automation 캐시를 두거나 최근 검증 결과를 재사용해 CPU 사용량을 줄여야 한다.
@@ -168,21 +167,19 @@ public class ChatMessageHandler {
                 return;
             }
 
-            Message savedMessage = messageRepository.save(message);
-            log.info("Message persisted - id: {}, room: {}, userId: {}, type: {}, contentPreview: {}",
+            // 방 lane 에서 sequence 발급 → 저장 → 브로드캐스트를 이어서 실행해 방 내 순서를 보장
+            // ASYNC 모드에서는 ID/timestamp 만 부여하고 저장은 writer 스레드가 배치로 처리
+            Message savedMessage = roomMessagePublisher.publish(message,
+                    persisted -> createMessageResponse(persisted, sender));
+            log.info("Message broadcast completed - messageId: {}, sequence: {}, room: {}, userId: {}, type: {}, recipients: {}, contentPreview: {}",
                     savedMessage.getId(),
+                    savedMessage.getSequence(),
                     roomId,
                     socketUser.id(),
                     savedMessage.getType(),
+                    room.getParticipantCount(),
                     previewContent(savedMessage.getContent()));
 
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGE, createMessageResponse(savedMessage, sender));
-            log.info("Message broadcast completed - messageId: {}, room: {}, recipients: {}",
-                    savedMessage.getId(),
-                    roomId,
-                    room.getParticipantIds() != null ? room.getParticipantIds().size() : 0);
-
             // AI 멘션 처리
             aiService.handleAIMentions(roomId, socketUser.id(), messageContent);
 
@@ -257,6 +254,7 @@ public class ChatMessageHandler {
         messageResponse.setContent(message.getContent());
         messageResponse.setType(message.getType());
         messageResponse.setTimestamp(message.toTimestampMillis());
+        messageResponse.setSequence(message.getSequence());
         messageResponse.setReactions(message.getReactions() != null ? message.getReactions() : Collections.emptyMap());
         messageResponse.setSender(UserResponse.from(sender));
 
@@ -6,8 +6,6 @@ import com.corundumstudio.socketio.annotation.OnDisconnect;
 import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
-import io.micrometer.core.instrument.Gauge;
-import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
@@ -39,18 +37,12 @@ public class ConnectionLoginHandler {
             ConnectedUsers connectedUsers,
             UserRooms userRooms,
             RoomJoinHandler roomJoinHandler,
-            RoomLeaveHandler roomLeaveHandler,
-            MeterRegistry meterRegistry) {
+            RoomLeaveHandler roomLeaveHandler) {
         this.socketIOServer = socketIOServer;
         this.connectedUsers = connectedUsers;
         this.userRooms = userRooms;
         this.roomJoinHandler = roomJoinHandler;
         this.roomLeaveHandler = roomLeaveHandler;
-
-        // Register gauge metric for concurrent users
-        Gauge.builder("socketio.concurrent.users", connectedUsers::size)
-                .description("Current number of concurrent Socket.IO users")
-                .register(meterRegistry);
     }
     
     /**
@@ -103,6 +95,7 @@ public class ConnectionLoginHandler {
             if (socketUser != null && socketId.equals(socketUser.socketId())) {
                 connectedUsers.del(userId);
             } else {
+                connectedUsers.release(userId, socketId);
                 log.warn("Socket.IO disconnect: User {} has a different active connection. Skipping cleanup.", userId);
             }
 
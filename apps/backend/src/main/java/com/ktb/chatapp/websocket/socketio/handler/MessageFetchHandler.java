@@ -4,8 +4,7 @@ import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
-import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.service.RoomMembershipCache;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +24,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageFetchHandler {
 
-    private final RoomRepository roomRepository;
+    private final RoomMembershipCache roomMembershipCache;
     private final MessageLoader messageLoader;
 
     @OnEvent(FETCH_PREVIOUS_MESSAGES)
@@ -42,8 +41,7 @@ public class MessageFetchHandler {
         
         try {
             // 권한 체크
-            Room room = roomRepository.findById(data.roomId()).orElse(null);
-            if (room == null || !room.getParticipantIds().contains(userId)) {
+            if (!roomMembershipCache.isParticipant(data.roomId(), userId)) {
                 client.sendEvent(ERROR, Map.of(
                         "code", "LOAD_ERROR",
                         "message", "채팅방 접근 권한이 없습니다."
@@ -53,8 +51,8 @@ public class MessageFetchHandler {
 
             client.sendEvent(MESSAGE_LOAD_START);
 
-            log.debug("Starting message load for user {} in room {}, limit: {}, before: {}",
-                    userId, data.roomId(), data.limit(), data.before());
+            log.debug("Starting message load for user {} in room {}, limit: {}, before: {}, cursor: {}",
+                    userId, data.roomId(), data.limit(), data.before(), data.cursor());
 
             log.debug("Loading messages for room {}", data.roomId());
             FetchMessagesResponse result = messageLoader.loadMessages(data, userId);
@@ -2,25 +2,26 @@ package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.MessageCursor;
 import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSummary;
+import com.ktb.chatapp.model.RoomReadState;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.FileCacheService;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.UserCacheService;
+import com.ktb.chatapp.service.message.RecentMessageCache;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 import static java.util.Collections.emptyList;
@@ -31,19 +32,26 @@ import static java.util.Collections.emptyList;
 public class MessageLoader {
 
     private final MessageRepository messageRepository;
-    private final UserRepository userRepository;
+    private final UserCacheService userCacheService;
     private final MessageResponseMapper messageResponseMapper;
     private final FileCacheService fileCacheService;
     private final MessageReadStatusService messageReadStatusService;
+    private final RecentMessageCache recentMessageCache;
 
     private static final int BATCH_SIZE = 30;
 
+    // 응답에 포함하는 reader 최대 수. 이보다 큰 방은 readerCount 로 안 읽은 인원을 계산한다.
+    private static final int READER_PREVIEW_LIMIT = 50;
+
     /**
      * 메시지 로드
      */
     public FetchMessagesResponse loadMessages(FetchMessagesRequest data, String userId) {
         try {
-            return loadMessagesInternal(data.roomId(), data.limit(BATCH_SIZE), data.before(LocalDateTime.now()), userId);
+            MessageCursor cursor = data.hasCursor() ? MessageCursor.decode(data.cursor()) : null;
+            boolean latestPage = cursor == null && data.before() == null;
+            return loadMessagesInternal(data.roomId(), data.limit(BATCH_SIZE), cursor, data.before(LocalDateTime.now()),
+                    latestPage, userId);
         } catch (Exception e) {
             log.error("Error loading initial messages for room {}", data.roomId(), e);
             return FetchMessagesResponse.builder()
@@ -57,65 +65,80 @@ public class MessageLoader {
      * 메시지 로드 내부 로직
      *
      * 흐름:
-     * 1. 페이징 설정 (timestamp 내림차순으로 최신 메시지부터 조회)
-     * 2. DB에서 메시지 조회 (roomId, isDeleted=false, timestamp < before 조건)
+     * 1. RecentMessageCache 에서 조회, 버퍼 범위를 벗어나면 Mongo keyset 조회
+     *    ((timestamp, _id) 내림차순, cursor 가 없으면 timestamp < before 조건)
+     *    응답에 필요한 필드만 projection 한 MessageSummary 로 받는다
+     * 2. limit+1 개를 조회해 초과분 존재 여부로 hasMore 판단 (count 쿼리 없음)
      * 3. 메시지 순서 재정렬 (DESC → ASC: 채팅 UI는 오래된 메시지가 위에 표시)
-     * 4. 읽음 상태 업데이트 (현재 사용자가 메시지를 읽음 처리)
+     * 4. 읽음 상태 업데이트 (현재 사용자의 읽은 지점을 페이지의 최신 메시지까지 올림, upsert 1회)
+     *    메시지별 reader 는 방 참여자들의 읽은 지점(RoomReadState)으로 계산
      * 5. MessageResponse 생성 (사용자 정보, 파일 정보 포함)
      * 6. 응답 반환 (메시지 목록 + hasMore 플래그)
      *
      * 성능 특성:
-     * - DB 쿼리: 2회 (메시지 조회 1회 + User batch 조회 1회)
+     * - DB 쿼리: 메시지 조회 1회 + 읽은 지점 upsert/조회 각 1회 + User batch 조회 1회, 방 메시지 수와 무관
+     * - 최신 페이지는 버퍼가 적재된 뒤부터 메시지 조회 없이 메모리에서 응답
      * - N+1 문제 해결: User는 batch loading으로 해결 (TODO 014 완료)
      * - 남은 N+1: File 조회 M회 (TODO 018 참고)
-     * - 메모리: O(limit) - 메시지 목록 + User Map 적재
+     * - 메모리: O(limit + 참여자 수) - 메시지 목록 + User Map + 읽은 지점 목록 적재
      *
      * @param roomId 조회할 채팅방 ID
      * @param limit 조회할 메시지 수 (페이지 크기)
-     * @param before 이 시각 이전의 메시지만 조회 (페이지네이션 커서)
+     * @param cursor 이전 응답의 nextCursor (null 이면 before 기준)
+     * @param before 이 시각 이전의 메시지만 조회 (cursor 가 없을 때만 사용)
+     * @param latestPage 최신 페이지 요청 여부 (Mongo 조회 결과로 버퍼를 적재)
      * @param userId 현재 사용자 ID (읽음 상태 업데이트용)
-     * @return 메시지 목록과 추가 페이지 존재 여부
+     * @return 메시지 목록과 추가 페이지 존재 여부, 다음 페이지 커서
      */
     private FetchMessagesResponse loadMessagesInternal(
             String roomId,
             int limit,
+            MessageCursor cursor,
             LocalDateTime before,
+            boolean latestPage,
             String userId) {
-        /// 페이징 설정 (timestamp 내림차순으로 최신 메시지부터 조회)
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("timestamp").descending());
-
-        /// 2. DB에서 메시지 조회 (roomId, isDeleted=false, timestamp < before 조건)
-        Page<Message> messagePage = messageRepository
-                .findByRoomIdAndIsDeletedAndTimestampBefore(roomId, false, before, pageable);
+        /// (timestamp, _id) 내림차순으로 limit+1 개 조회 - 초과분이 있으면 다음 페이지가 존재
+        Optional<List<MessageSummary>> cached = recentMessageCache.page(roomId, cursor, before, limit);
+        List<MessageSummary> page = cached.orElseGet(() -> cursor != null
+                ? messageRepository.findSummaryPageBefore(roomId, cursor.timestampAt(), cursor.id(), limit + 1)
+                : messageRepository.findSummaryPageBefore(roomId, before, limit + 1));
+        if (cached.isEmpty() && latestPage) {
+            recentMessageCache.seed(roomId, page, page.size() <= limit);
+        }
 
-        List<Message> messages = messagePage.getContent();
+        boolean hasMore = page.size() > limit;
+        List<MessageSummary> messages = hasMore ? page.subList(0, limit) : page;
 
         /// 메시지 순서 재정렬 (DESC → ASC: 채팅 UI는 오래된 메시지가 위에 표시)
-        List<Message> sortedMessages = messages.reversed();
+        List<MessageSummary> sortedMessages = messages.reversed();
 
-        /// [개선 014, 023] 한 번의 순회로 messageIds와 senderIds를 동시에 추출하여 Stream 이중 순회 제거
+        /// [개선 014, 023] 한 번의 순회로 senderIds와 fileIds를 동시에 추출하여 Stream 이중 순회 제거
 
-        List<String> messageIds = new ArrayList<>(sortedMessages.size());
         List<String> senderIds = new ArrayList<>(sortedMessages.size());
 
         List<String> fileIds = new ArrayList<>(sortedMessages.size());
 
-        for (Message message : sortedMessages) {
-            messageIds.add(message.getId());
-            if (message.getSenderId() != null) {
-                senderIds.add(message.getSenderId());
+        for (MessageSummary message : sortedMessages) {
+            if (message.senderId() != null) {
+                senderIds.add(message.senderId());
             }
-            if (message.getFileId() != null) {
-                fileIds.add(message.getFileId());
+            if (message.fileId() != null) {
+                fileIds.add(message.fileId());
             }
         }
 
         //TODO : 022 : messageReadStatusService.updateReadStatus 를 비동기(@Async)로 처리하면 메시지 로드 응답 속도를 개선할 수 있다 (읽음 상태는 eventual consistency 허용 가능)
-        messageReadStatusService.updateReadStatus(messageIds, userId);
+        /// [개선 022] ReadStatusAggregator 에 넘기고 바로 반환, 본인 읽은 지점은 getReadStates 에서 flush 전에도 반영
+        if (!sortedMessages.isEmpty()) {
+            messageReadStatusService.updateReadStatus(roomId, sortedMessages.getLast().timestamp(), userId);
+        }
+        List<RoomReadState> readStates = sortedMessages.isEmpty()
+                ? emptyList()
+                : messageReadStatusService.getReadStates(roomId);
 
         /// [개선 014] Batch loading으로 User N+1 문제 해결: N회 쿼리 → 1회 쿼리
-        Map<String, User> userMap = userRepository.findAllById(senderIds).stream()
-                .collect(Collectors.toMap(User::getId, user -> user));
+        /// 송신자 프로필은 UserCacheService 에서 조회 (미스분만 findAllById 한 번)
+        Map<String, User> userMap = userCacheService.getUsers(senderIds);
 
         Map<String, File> fileMap = fileCacheService.getFiles(fileIds);
 
@@ -123,16 +146,20 @@ public class MessageLoader {
         /// [개선 018] : mapToMessageResponse을 사용하는 곳으로 파일 캐싱으로 해결
         List<MessageResponse> messageResponses = sortedMessages.stream()
                 .map(message -> {
-                    var user = userMap.get(message.getSenderId());
+                    var user = userMap.get(message.senderId());
+                    List<Message.MessageReader> readers = readersOf(message, readStates);
                     return messageResponseMapper.mapToMessageResponse(
                             message,
                             user,
-                            fileMap.get(message.getFileId())
+                            fileMap.get(message.fileId()),
+                            readers.size() > READER_PREVIEW_LIMIT ? readers.subList(0, READER_PREVIEW_LIMIT) : readers,
+                            readers.size()
                     );
                 })
                 .collect(Collectors.toList());
 
-        boolean hasMore = messagePage.hasNext();
+        // 가장 오래된 메시지 위치가 다음 페이지의 시작점
+        String nextCursor = hasMore ? MessageCursor.of(sortedMessages.getFirst()).encode() : null;
 
         log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, hasMore: {}",
                 roomId, limit, messageResponses.size(), hasMore);
@@ -140,7 +167,17 @@ public class MessageLoader {
         return FetchMessagesResponse.builder()
                 .messages(messageResponses)
                 .hasMore(hasMore)
+                .nextCursor(nextCursor)
                 .build();
     }
 
+    private static List<Message.MessageReader> readersOf(MessageSummary message, List<RoomReadState> readStates) {
+        List<Message.MessageReader> readers = new ArrayList<>();
+        for (RoomReadState state : readStates) {
+            if (state.hasRead(message.timestamp())) {
+                readers.add(new Message.MessageReader(state.getUserId(), state.getUpdatedAt()));
+            }
+        }
+        return readers;
+    }
 }
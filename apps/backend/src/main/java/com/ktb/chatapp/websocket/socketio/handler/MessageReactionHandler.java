@@ -1,14 +1,14 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageReactionRequest;
-import com.ktb.chatapp.dto.MessageReactionResponse;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.service.message.ReactionAggregator;
+import com.ktb.chatapp.service.message.ReactionChange;
+import com.ktb.chatapp.websocket.socketio.ReactionBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -26,8 +26,8 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReactionHandler {
     
-    private final SocketIOServer socketIOServer;
-    private final MessageRepository messageRepository;
+    private final ReactionAggregator reactionAggregator;
+    private final ReactionBroadcaster reactionBroadcaster;
     
     @OnEvent(MESSAGE_REACTION)
     public void handleMessageReaction(SocketIOClient client, MessageReactionRequest data) {
@@ -38,34 +38,37 @@ public class MessageReactionHandler {
                 return;
             }
 
-            Message message = messageRepository.findById(data.getMessageId()).orElse(null);
-            if (message == null) {
-                client.sendEvent(ERROR, Map.of("message", "메시지를 찾을 수 없습니다."));
+            String reaction = data.getReaction();
+            if (!isValidReaction(reaction)) {
+                client.sendEvent(ERROR, Map.of("message", "지원하지 않는 리액션입니다."));
                 return;
             }
 
+            boolean add;
             switch (data.getType()) {
-                case "add" -> message.addReaction(data.getReaction(), userId);
-                case "remove" -> message.removeReaction(data.getReaction(), userId);
+                case "add" -> add = true;
+                case "remove" -> add = false;
                 case null, default -> {
                     client.sendEvent(ERROR, Map.of("message", "지원하지 않는 리액션 타입입니다."));
                     return;
                 }
             }
 
-            log.debug("Message reaction processed - type: {}, reaction: {}, messageId: {}, userId: {}",
-                data.getType(), data.getReaction(), message.getId(), userId);
-
-            //TODO : 004 : 리액션 추가/삭제를 전체 Message 문서를 저장하는 대신 Mongo partial update ($set/$pull)를 사용하면 write latency 와 document contention 을 줄일 수 있다.
-            messageRepository.save(message);
+            /// [개선 004] 문서 전체 findById → save 대신 메모리 상태에서 토글하고 $addToSet/$pull 은 집계기가 비동기로 bulk 기록
+            Optional<ReactionChange> toggled = reactionAggregator.toggle(data.getMessageId(), reaction, userId, add);
+            if (toggled.isEmpty()) {
+                client.sendEvent(ERROR, Map.of("message", "메시지를 찾을 수 없습니다."));
+                return;
+            }
+            ReactionChange change = toggled.get();
 
-            MessageReactionResponse response = new MessageReactionResponse(
-                message.getId(),
-                message.getReactions()
-            );
+            log.debug("Message reaction processed - type: {}, reaction: {}, messageId: {}, userId: {}, count: {}",
+                data.getType(), reaction, change.messageId(), userId, change.count());
 
-            socketIOServer.getRoomOperations(message.getRoomId())
-                .sendEvent(MESSAGE_REACTION_UPDATE, response);
+            // 이미 같은 상태인 토글은 방에 알릴 변경이 없다
+            if (change.changed()) {
+                reactionBroadcaster.submit(change);
+            }
 
         } catch (Exception e) {
             log.error("Error handling messageReaction", e);
@@ -75,6 +78,14 @@ public class MessageReactionHandler {
         }
     }
     
+    /**
+     * 리액션은 reactions.<reaction> 필드 경로로 쓰이므로 경로 구분자('.')나 연산자 접두어('$')를 허용하지 않는다.
+     */
+    private boolean isValidReaction(String reaction) {
+        return reaction != null && !reaction.isBlank() && reaction.length() <= 32
+                && reaction.indexOf('.') < 0 && !reaction.startsWith("$");
+    }
+
     private String getUserId(SocketIOClient client) {
         var user = (SocketUser) client.get("user");
         return user.id();
@@ -1,16 +1,14 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MarkAsReadRequest;
-import com.ktb.chatapp.dto.MessagesReadResponse;
 import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.RoomMembershipCache;
+import com.ktb.chatapp.websocket.socketio.ReadReceiptBroadcaster;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import java.util.Map;
@@ -31,12 +29,12 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReadHandler {
     
-    private final SocketIOServer socketIOServer;
     private final MessageReadStatusService messageReadStatusService;
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
-    private final RoomRepository roomRepository;
+    private final RoomMembershipCache roomMembershipCache;
     private final UserRooms userRooms;
+    private final ReadReceiptBroadcaster readReceiptBroadcaster;
     
     @OnEvent(MARK_MESSAGES_AS_READ)
     public void handleMarkAsRead(SocketIOClient client, MarkAsReadRequest data) {
@@ -71,14 +69,14 @@ public class MessageReadHandler {
                 return;
             }
 
-            Room room = roomRepository.findById(roomId).orElse(null);
+            RoomMembershipCache.CachedRoom room = roomMembershipCache.getRoom(roomId).orElse(null);
             if (room == null) {
                 log.warn("Room {} not found in cache for user {}", roomId, userId);
                 client.sendEvent(ERROR, Map.of("message", "Room not found"));
                 return;
             }
 
-            if (!room.getParticipantIds().contains(userId)) {
+            if (!roomMembershipCache.isParticipant(roomId, userId)) {
                 log.warn("User {} not in participants list of room {}. Participants: {}",
                     userId, roomId, room.getParticipantIds());
                 client.sendEvent(ERROR, Map.of("message", "Room access denied"));
@@ -86,13 +84,11 @@ public class MessageReadHandler {
             }
 
             // TODO : 022 : updateReadStatus 를 비동기(@Async)로 처리 (고려) => 최종 일관성 문제 있을 수 있음!!!!
-            messageReadStatusService.updateReadStatus(data.getMessageIds(), userId);
+            /// [개선 022] ReadStatusAggregator 에 넘기고 바로 반환 (flush 시 메시지 ID 병합 + bulk upsert)
+            messageReadStatusService.updateReadStatus(roomId, data.getMessageIds(), userId);
 
-            MessagesReadResponse response = new MessagesReadResponse(userId, data.getMessageIds());
-
-            // Broadcast to room
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGES_READ, response);
+            // Broadcast to room (read-window 동안 방 단위로 모아 한 프레임으로 전송)
+            readReceiptBroadcaster.submit(roomId, userId, data.getMessageIds());
 
         } catch (Exception e) {
             log.error("Error handling markMessagesAsRead", e);
@@ -5,9 +5,11 @@ import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
 import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSummary;
 import com.ktb.chatapp.model.User;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -39,12 +41,54 @@ public class MessageResponseMapper {
                 .content(message.getContent())
                 .type(message.getType())
                 .timestamp(message.toTimestampMillis())
+                .sequence(message.getSequence())
                 .roomId(message.getRoomId())
                 .reactions(message.getReactions() != null ?
                         message.getReactions() : new HashMap<>())
                 .readers(message.getReaders() != null ?
-                        message.getReaders() : new ArrayList<>());
+                        message.getReaders() : new ArrayList<>())
+                .readerCount(message.getReaders() != null ? message.getReaders().size() : 0);
 
+        // 메타데이터 설정
+        if (message.getMetadata() != null) {
+            builder.metadata(message.getMetadata());
+        }
+
+        return withSenderAndFile(builder, sender, file);
+    }
+
+    /**
+     * 히스토리 조회용 MessageSummary 변환. readers 는 잘려 있을 수 있으므로 readerCount 를 함께 내려준다.
+     *
+     * @param readers RoomReadState 로 계산한 reader 목록 (앞쪽 일부)
+     * @param readerCount 전체 reader 수
+     */
+    public MessageResponse mapToMessageResponse(
+            MessageSummary message,
+            User sender,
+            File file,
+            List<Message.MessageReader> readers,
+            int readerCount) {
+        MessageResponse.MessageResponseBuilder builder = MessageResponse.builder()
+                .id(message.id())
+                .content(message.content())
+                .type(message.type())
+                .timestamp(message.toTimestampMillis())
+                .sequence(message.sequence())
+                .roomId(message.roomId())
+                .reactions(message.reactions() != null ?
+                        message.reactions() : new HashMap<>())
+                .readers(readers)
+                .readerCount(readerCount);
+
+        if (message.metadata() != null) {
+            builder.metadata(message.metadata());
+        }
+
+        return withSenderAndFile(builder, sender, file);
+    }
+
+    private MessageResponse withSenderAndFile(MessageResponse.MessageResponseBuilder builder, User sender, File file) {
         // 발신자 정보 설정
         if (sender != null) {
             builder.sender(UserResponse.builder()
@@ -68,11 +112,6 @@ public class MessageResponseMapper {
                     .build());
         }
 
-        // 메타데이터 설정
-        if (message.getMetadata() != null) {
-            builder.metadata(message.getMetadata());
-        }
-
         return builder.build();
     }
 }
@@ -1,7 +1,6 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
@@ -9,11 +8,12 @@ import com.ktb.chatapp.dto.JoinRoomSuccessResponse;
 import com.ktb.chatapp.dto.UserResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
-import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.service.FileCacheService;
+import com.ktb.chatapp.service.RoomMembershipCache;
+import com.ktb.chatapp.service.UserCacheService;
+import com.ktb.chatapp.websocket.socketio.ParticipantUpdateBroadcaster;
+import com.ktb.chatapp.websocket.socketio.RoomMessagePublisher;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import java.time.LocalDateTime;
@@ -42,15 +42,15 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class RoomJoinHandler {
 
-    private final SocketIOServer socketIOServer;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final RoomMessagePublisher roomMessagePublisher;
+    private final RoomMembershipCache roomMembershipCache;
+    private final UserCacheService userCacheService;
     private final UserRooms userRooms;
     private final MessageLoader messageLoader;
     private final MessageResponseMapper messageResponseMapper;
     private final FileCacheService fileCacheService;
     private final RoomLeaveHandler roomLeaveHandler;
+    private final ParticipantUpdateBroadcaster participantUpdateBroadcaster;
 
     /**
      * 방 입장 이벤트 핸들러
@@ -62,12 +62,12 @@ public class RoomJoinHandler {
      * 4. 중복 입장 체크 (이미 입장한 경우 조기 반환)
      * 5. 참가자 목록 업데이트 (MongoDB $addToSet)
      * 6. Socket.IO room 입장 + 메모리 상태 업데이트
-     * 7. 입장 시스템 메시지 생성 및 저장
+     * 7. 입장 시스템 메시지 생성
      * 8. 초기 메시지 30개 로드
      * 9. 참가자 정보 조회 (N+1 문제 있음 - TODO 020)
      * 10. 클라이언트에 JOIN_ROOM_SUCCESS 응답
-     * 11. 방 전체에 입장 메시지 브로드캐스트
-     * 12. 방 전체에 참가자 목록 업데이트 브로드캐스트
+     * 11. 입장 메시지 저장 및 방 전체 브로드캐스트 (room lane 에서 sequence 부여)
+     * 12. 방 전체에 참가자 변경(delta) 브로드캐스트
      *
      * @param client Socket.IO 클라이언트
      * @param roomId 입장할 채팅방 ID
@@ -83,12 +83,13 @@ public class RoomJoinHandler {
                 return;
             }
             
-            if (userRepository.findById(userId).isEmpty()) {
+            Optional<User> userOpt = userCacheService.getUser(userId);
+            if (userOpt.isEmpty()) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
                 return;
             }
 
-            Optional<Room> roomOpt = roomRepository.findById(roomId);
+            Optional<RoomMembershipCache.CachedRoom> roomOpt = roomMembershipCache.getRoom(roomId);
             if (roomOpt.isEmpty()) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
                 return;
@@ -102,8 +103,8 @@ public class RoomJoinHandler {
                 return;
             }
 
-            // 캐시 만료
-            roomRepository.addParticipant(roomId, userId);
+            // Mongo $addToSet + 로컬 캐시 반영, 다른 노드 캐시 무효화
+            roomMembershipCache.addParticipant(roomId, userId);
 
             // Join socket room and add to user's room set
             client.joinRoom(roomId);
@@ -121,23 +122,22 @@ public class RoomJoinHandler {
                 .metadata(new HashMap<>())
                 .build();
 
-            joinMessage = messageRepository.save(joinMessage);
-
             FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
             FetchMessagesResponse messageLoadResult = messageLoader.loadMessages(req, userId);
 
             //TODO : 019 : 방 재조회 없이 Mongo update 결과를 반환받거나 캐시에서 참가자 목록을 유지하면 재입장 시 불필요한 findById 를 줄일 수 있다.
             // 업데이트된 room 다시 조회하여 최신 participantIds 가져오기
             /// [개선 019] Room 재조회 제거: 초기 조회한 Room 재사용 + 메모리에서 참가자 추가
-            Room room = roomOpt.get();
-            room.addParticipant(userId);
+            /// [개선 011] 참가자 추가는 RoomMembershipCache 에서 이미 반영됨
+            RoomMembershipCache.CachedRoom room = roomOpt.get();
 
             // 참가자 정보 조회
             //TODO : 020 : 참가자 정보를 매번 userRepository.findById 로 순차 조회하는 대신 findAllById 또는 Redis 캐시를 사용해 대규모 방의 참가자 리스트 응답 시간을 줄일 수 있다. -> 100명 이상 대규모 방에서는 추가 최적화 필요 (TODO 020: 캐싱 + Projection)
 
             //TODO : 024 : Stream에서 map(userRepository::findById)는 참가자 수만큼 DB 쿼리를 발생시키므로 N+1 문제가 발생한다. userRepository.findAllById()로 batch 조회하라.
             /// [개선 024] Batch loading으로 참가자 N+1 문제 해결: N회 쿼리 → 1회 쿼리
-            List<UserResponse> participants = userRepository.findAllById(room.getParticipantIds())
+            List<UserResponse> participants = userCacheService.getUsers(room.getParticipantIds())
+                    .values()
                     .stream()
                     .map(UserResponse::from)
                     .toList();
@@ -147,23 +147,22 @@ public class RoomJoinHandler {
                 .participants(participants)
                 .messages(messageLoadResult.getMessages())
                 .hasMore(messageLoadResult.isHasMore())
+                .nextCursor(messageLoadResult.getNextCursor())
                 .activeStreams(Collections.emptyList())
                 .build();
 
             client.sendEvent(JOIN_ROOM_SUCCESS, response);
 
-            // 입장 메시지 브로드캐스트
+            // 입장 메시지 저장 + 브로드캐스트 (같은 방의 채팅 메시지와 sequence 순서를 맞춘다)
             /// [개선 018] : mapToMessageResponse을 사용하는 곳으로 파일 캐싱으로 해결
-            socketIOServer.getRoomOperations(roomId)
-                .sendEvent(MESSAGE, messageResponseMapper.mapToMessageResponse(
-                        joinMessage,
-                        null,
-                        fileCacheService.getFile(joinMessage.getFileId()).orElse(null)
-                ));
-
-            // 참가자 목록 업데이트 브로드캐스트
-            socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participants);
+            roomMessagePublisher.publish(joinMessage, saved -> messageResponseMapper.mapToMessageResponse(
+                    saved,
+                    null,
+                    fileCacheService.getFile(saved.getFileId()).orElse(null)
+            ));
+
+            // 참가자 변경 브로드캐스트: 전체 목록은 입장한 클라이언트에게만 보내고 방에는 입장한 사용자만 delta 로 보낸다
+            participantUpdateBroadcaster.joined(roomId, UserResponse.from(userOpt.get()), room.getParticipantCount());
 
             log.info("User {} joined room {} successfully. Message count: {}, hasMore: {}",
                 userName, roomId, messageLoadResult.getMessages().size(), messageLoadResult.isHasMore());
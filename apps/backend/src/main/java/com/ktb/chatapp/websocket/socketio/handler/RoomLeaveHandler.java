@@ -3,23 +3,20 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
-import com.ktb.chatapp.dto.MessageResponse;
-import com.ktb.chatapp.dto.UserResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.FileCacheService;
+import com.ktb.chatapp.service.RoomMembershipCache;
+import com.ktb.chatapp.service.UserCacheService;
+import com.ktb.chatapp.websocket.socketio.ParticipantUpdateBroadcaster;
+import com.ktb.chatapp.websocket.socketio.RoomMessagePublisher;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -38,12 +35,13 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 public class RoomLeaveHandler {
 
     private final SocketIOServer socketIOServer;
-    private final MessageRepository messageRepository;
-    private final UserRepository userRepository;
+    private final RoomMessagePublisher roomMessagePublisher;
+    private final UserCacheService userCacheService;
     private final UserRooms userRooms;
     private final MessageResponseMapper messageResponseMapper;
-    private final RoomRepository roomRepository;
+    private final RoomMembershipCache roomMembershipCache;
     private final FileCacheService fileCacheService;
+    private final ParticipantUpdateBroadcaster participantUpdateBroadcaster;
 
     @OnEvent(LEAVE_ROOM)
     public void handleLeaveRoom(SocketIOClient client, String roomId) {
@@ -61,16 +59,16 @@ public class RoomLeaveHandler {
                 return;
             }
 
-            User user = userRepository.findById(userId).orElse(null);
-            Room room = roomRepository.findById(roomId).orElse(null);
+            User user = userCacheService.getUser(userId).orElse(null);
+            RoomMembershipCache.CachedRoom room = roomMembershipCache.getRoom(roomId).orElse(null);
 
             if (user == null || room == null) {
                 log.warn("Room {} not found or user {} has no access", roomId, userId);
                 return;
             }
 
-            // 캐시 만료
-            roomRepository.removeParticipant(roomId, userId);
+            // Mongo $pull + 로컬 캐시 반영, 다른 노드 캐시 무효화
+            roomMembershipCache.removeParticipant(roomId, userId);
 
             client.leaveRoom(roomId);
             userRooms.remove(userId, roomId);
@@ -80,7 +78,8 @@ public class RoomLeaveHandler {
             log.debug("Leave room cleanup - roomId: {}, userId: {}", roomId, userId);
             
             sendSystemMessage(roomId, userName + "님이 퇴장하였습니다.");
-            broadcastParticipantList(roomId);
+            // 전체 참가자 목록 대신 퇴장한 사용자 ID 만 방 단위로 모아 보낸다
+            participantUpdateBroadcaster.left(roomId, userId, room.getParticipantCount());
             socketIOServer.getRoomOperations(roomId)
                     .sendEvent(USER_LEFT, Map.of(
                             "userId", userId,
@@ -106,45 +105,18 @@ public class RoomLeaveHandler {
             systemMessage.setReaders(new ArrayList<>());
             systemMessage.setMetadata(new HashMap<>());
 
-            Message savedMessage = messageRepository.save(systemMessage);
-
             /// [개선 018] : mapToMessageResponse을 사용하는 곳으로 파일 캐싱으로 해결
-            MessageResponse response = messageResponseMapper.mapToMessageResponse(
-                    savedMessage,
+            roomMessagePublisher.publish(systemMessage, saved -> messageResponseMapper.mapToMessageResponse(
+                    saved,
                     null,
-                    fileCacheService.getFile(savedMessage.getFileId()).orElse(null)
-            );
-
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGE, response);
+                    fileCacheService.getFile(saved.getFileId()).orElse(null)
+            ));
 
         } catch (Exception e) {
             log.error("Error sending system message", e);
         }
     }
     
-    private void broadcastParticipantList(String roomId) {
-        Optional<Room> roomOpt = roomRepository.findById(roomId);
-        if (roomOpt.isEmpty()) {
-            return;
-        }
-
-        // TODO : 025 : Stream에서 map(userRepository::findById)는 참가자 수만큼 DB 쿼리를 발생시키므로 N+1 문제가 발생한다.
-        /// [개선 025] 인메모리 조인(Mapping)으로 수정
-        var participantIds = roomOpt.get().getParticipantIds();
-        if (participantIds.isEmpty()) {
-            return;
-        }
-
-        var participantList = userRepository.findAllById(participantIds)
-                .stream()
-                .map(UserResponse::from)
-                .toList();
-
-        socketIOServer.getRoomOperations(roomId)
-                .sendEvent(PARTICIPANTS_UPDATE, participantList);
-    }
-
     private SocketUser getUserDto(SocketIOClient client) {
         return client.get("user");
     }
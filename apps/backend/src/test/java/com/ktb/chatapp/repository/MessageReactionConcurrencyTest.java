@@ -0,0 +1,132 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageReactions;
+import com.ktb.chatapp.model.MessageType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리액션 부분 업데이트 동시성 검증.
+ * 100명이 동시에 같은 메시지에 리액션해도 findAndModify($addToSet/$pull) 로 갱신하므로 유실이 없어야 한다.
+ */
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false"
+})
+@DisplayName("메시지 리액션 동시성 테스트")
+class MessageReactionConcurrencyTest {
+
+    private static final String ROOM_ID = "reaction-room";
+    private static final int REACTORS = 100;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private Message message;
+
+    @BeforeEach
+    void setUp() {
+        message = messageRepository.save(Message.builder()
+                .roomId(ROOM_ID)
+                .senderId("sender")
+                .content("react to me")
+                .type(MessageType.text)
+                .timestamp(LocalDateTime.now())
+                .isDeleted(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("100명이 동시에 리액션을 추가해도 모두 반영된다")
+    void addReaction_LosesNothingUnderContention() throws Exception {
+        List<MessageReactions> results = runConcurrently(i ->
+                messageRepository.addReaction(message.getId(), i % 2 == 0 ? "👍" : "❤️", "user-" + i).orElseThrow());
+
+        assertThat(results).allSatisfy(result -> assertThat(result.roomId()).isEqualTo(ROOM_ID));
+
+        Message stored = messageRepository.findById(message.getId()).orElseThrow();
+        assertThat(stored.getReactions().get("👍")).hasSize(REACTORS / 2);
+        assertThat(stored.getReactions().get("❤️")).hasSize(REACTORS / 2);
+        // 문서의 다른 필드는 건드리지 않는다
+        assertThat(stored.getContent()).isEqualTo("react to me");
+    }
+
+    @Test
+    @DisplayName("추가와 제거가 동시에 일어나도 각 사용자의 마지막 의도만 남는다")
+    void addAndRemoveReaction_AreAppliedIndependently() throws Exception {
+        runConcurrently(i -> messageRepository.addReaction(message.getId(), "👍", "user-" + i).orElseThrow());
+
+        // 절반은 제거, 나머지 절반은 다른 리액션을 추가
+        runConcurrently(i -> i % 2 == 0
+                ? messageRepository.removeReaction(message.getId(), "👍", "user-" + i).orElseThrow()
+                : messageRepository.addReaction(message.getId(), "🎉", "user-" + i).orElseThrow());
+
+        Message stored = messageRepository.findById(message.getId()).orElseThrow();
+        assertThat(stored.getReactions().get("👍"))
+                .hasSize(REACTORS / 2)
+                .allSatisfy(userId -> assertThat(Integer.parseInt(userId.substring("user-".length())) % 2).isEqualTo(1));
+        assertThat(stored.getReactions().get("🎉")).hasSize(REACTORS / 2);
+    }
+
+    @Test
+    @DisplayName("마지막 사용자가 리액션을 제거하면 빈 리액션 키는 정리된다")
+    void removeReaction_UnsetsEmptyReaction() {
+        messageRepository.addReaction(message.getId(), "👍", "user-1");
+
+        MessageReactions result = messageRepository.removeReaction(message.getId(), "👍", "user-1").orElseThrow();
+
+        assertThat(result.reactions()).doesNotContainKey("👍");
+        assertThat(messageRepository.findById(message.getId()).orElseThrow().getReactions()).doesNotContainKey("👍");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 메시지는 empty 를 반환한다")
+    void addReaction_ReturnsEmptyForMissingMessage() {
+        assertThat(messageRepository.addReaction("000000000000000000000000", "👍", "user-1")).isEmpty();
+    }
+
+    private List<MessageReactions> runConcurrently(IntFunction<MessageReactions> reactor)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(REACTORS)) {
+            List<Future<MessageReactions>> futures = new ArrayList<>(REACTORS);
+            IntStream.range(0, REACTORS).forEach(i -> futures.add(executor.submit(() -> {
+                start.await();
+                return reactor.apply(i);
+            })));
+            start.countDown();
+
+            List<MessageReactions> results = new ArrayList<>(REACTORS);
+            for (Future<MessageReactions> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
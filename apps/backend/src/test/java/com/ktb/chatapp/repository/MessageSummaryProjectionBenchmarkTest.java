@@ -0,0 +1,144 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSummary;
+import com.ktb.chatapp.model.MessageType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 히스토리 조회 시 전체 Message 문서 조회와 MessageSummary projection 조회의
+ * 전송 바이트 / 디코딩 시간을 비교한다. 결과는 로그로 남긴다.
+ * 시간은 환경에 따라 편차가 커서 검증하지 않고, 바이트 감소만 검증한다.
+ */
+@Slf4j
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false"
+})
+@DisplayName("MessageSummary projection 벤치마크")
+class MessageSummaryProjectionBenchmarkTest {
+
+    private static final String ROOM_ID = "benchmark-room";
+    private static final int MESSAGE_COUNT = 200;
+    private static final int READERS_PER_MESSAGE = 300;
+    private static final int PAGE_SIZE = 31;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private LocalDateTime before;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        List<Message> messages = IntStream.range(0, MESSAGE_COUNT)
+                .mapToObj(i -> Message.builder()
+                        .roomId(ROOM_ID)
+                        .senderId("sender-" + (i % 10))
+                        .content("benchmark message " + i)
+                        .type(MessageType.text)
+                        .timestamp(base.plusSeconds(i))
+                        .readers(IntStream.range(0, READERS_PER_MESSAGE)
+                                .mapToObj(r -> new Message.MessageReader("reader-" + r, base.plusSeconds(i + r)))
+                                .toList())
+                        .isDeleted(false)
+                        .build())
+                .toList();
+        mongoTemplate.insertAll(messages);
+        before = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(Criteria.where("room").is(ROOM_ID)), Message.class);
+    }
+
+    @Test
+    @DisplayName("projection 조회는 전체 문서 조회보다 전송 바이트가 크게 줄어든다")
+    void summaryProjection_TransfersFewerBytes() {
+        long fullBytes = fullDocumentBytes();
+        long summaryBytes = summaryDocumentBytes();
+
+        long fullNanos = measure(() -> mongoTemplate.find(fullPageQuery(), Message.class));
+        long summaryNanos = measure(() -> messageRepository.findSummaryPageBefore(ROOM_ID, before, PAGE_SIZE));
+
+        log.info("[message-history] page={} readers/message={} - full document: {} bytes, {} us/page"
+                        + " / summary: {} bytes, {} us/page",
+                PAGE_SIZE, READERS_PER_MESSAGE, fullBytes, fullNanos / 1_000, summaryBytes, summaryNanos / 1_000);
+
+        List<MessageSummary> page = messageRepository.findSummaryPageBefore(ROOM_ID, before, PAGE_SIZE);
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(summaryBytes).isLessThan(fullBytes / 4);
+    }
+
+    private Query fullPageQuery() {
+        return new Query(Criteria.where("room").is(ROOM_ID).and("isDeleted").is(false).and("timestamp").lt(before))
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "_id"))
+                .limit(PAGE_SIZE);
+    }
+
+    private long fullDocumentBytes() {
+        long bytes = 0;
+        for (RawBsonDocument document : mongoTemplate.getCollection("messages")
+                .withDocumentClass(RawBsonDocument.class)
+                .find(new Document("room", ROOM_ID).append("isDeleted", false))
+                .sort(new Document("timestamp", -1).append("_id", -1))
+                .limit(PAGE_SIZE)) {
+            bytes += document.getByteBuffer().remaining();
+        }
+        return bytes;
+    }
+
+    private long summaryDocumentBytes() {
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("room", ROOM_ID).append("isDeleted", false)),
+                new Document("$sort", new Document("timestamp", -1).append("_id", -1)),
+                new Document("$limit", PAGE_SIZE),
+                Document.parse(MessageRepository.SUMMARY_PROJECTION));
+        long bytes = 0;
+        for (RawBsonDocument document : mongoTemplate.getCollection("messages")
+                .withDocumentClass(RawBsonDocument.class)
+                .aggregate(pipeline)) {
+            bytes += document.getByteBuffer().remaining();
+        }
+        return bytes;
+    }
+
+    private static long measure(Supplier<List<?>> query) {
+        for (int i = 0; i < ITERATIONS / 5; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(query.get()).hasSize(PAGE_SIZE);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Room;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false",
+        "room.participant-count.backfill-enabled=false"
+})
+@DisplayName("Room participantCount 비정규화 테스트")
+class RoomParticipantCountTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        roomRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("중복 참가/중복 퇴장은 participantCount 를 바꾸지 않는다")
+    void addAndRemove_KeepCountInSyncWithParticipantIds() {
+        Room room = new Room();
+        room.setName("count-room");
+        room.addParticipant("creator");
+        room = roomRepository.save(room);
+
+        roomRepository.addParticipant(room.getId(), "user-1");
+        roomRepository.addParticipant(room.getId(), "user-1");
+        roomRepository.addParticipant(room.getId(), "user-2");
+        roomRepository.removeParticipant(room.getId(), "user-2");
+        roomRepository.removeParticipant(room.getId(), "user-2");
+
+        Room updated = roomRepository.findById(room.getId()).orElseThrow();
+        assertThat(updated.getParticipantIds()).containsExactlyInAnyOrder("creator", "user-1");
+        assertThat(updated.getParticipantCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("백필 전에 참가/퇴장한 레거시 방도 participantCount 가 participantIds 크기와 같다")
+    void addAndRemove_BeforeBackfill_RecountLegacyRoom() {
+        mongoTemplate.getCollection("rooms").insertOne(
+                new Document("name", "legacy").append("participantIds", List.of("a", "b", "c")));
+        String roomId = mongoTemplate.findAll(Room.class).get(0).getId();
+
+        roomRepository.addParticipant(roomId, "d");
+        assertThat(roomRepository.findById(roomId).orElseThrow().getParticipantCount()).isEqualTo(4);
+
+        roomRepository.removeParticipant(roomId, "a");
+        Room updated = roomRepository.findById(roomId).orElseThrow();
+        assertThat(updated.getParticipantIds()).containsExactlyInAnyOrder("b", "c", "d");
+        assertThat(updated.getParticipantCount()).isEqualTo(3);
+        assertThat(roomRepository.backfillParticipantCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("백필은 participantCount 가 없거나 어긋난 방만 participantIds 크기로 맞춘다")
+    void backfill_FillsMissingAndMismatchedCounts() {
+        mongoTemplate.getCollection("rooms").insertMany(List.of(
+                new Document("name", "legacy-3").append("participantIds", List.of("a", "b", "c")),
+                new Document("name", "legacy-0"),
+                new Document("name", "drifted").append("participantIds", List.of("a", "b")).append("participantCount", 5),
+                new Document("name", "current").append("participantIds", List.of("a")).append("participantCount", 1)));
+
+        assertThat(roomRepository.backfillParticipantCount()).isEqualTo(3);
+
+        List<Room> rooms = roomRepository.findAll(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "participantCount", "id"))).getContent();
+        assertThat(rooms)
+                .extracting(Room::getName, Room::getParticipantCount)
+                .containsExactly(
+                        tuple("legacy-3", 3),
+                        tuple("drifted", 2),
+                        tuple("current", 1),
+                        tuple("legacy-0", 0));
+        assertThat(roomRepository.backfillParticipantCount()).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.RoomReadState;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomReadStateRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false",
+        "message.read-status.async=false"
+})
+class MessageReadStatusServiceIntegrationTest {
+
+    @Autowired
+    private MessageReadStatusService messageReadStatusService;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private RoomReadStateRepository roomReadStateRepository;
+
+    private String roomId;
+    private String userId;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        Faker faker = new Faker();
+        roomId = faker.internet().uuid();
+        userId = faker.internet().uuid();
+        baseTime = LocalDateTime.now().minusHours(1).withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        roomReadStateRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("읽음 처리는 (방, 사용자)당 문서 하나만 유지하고 메시지 문서는 변경하지 않는다")
+    void updateReadStatus_UpsertsSingleStatePerRoomAndUser() {
+        List<Message> messages = List.of(saveMessage(0), saveMessage(1), saveMessage(2));
+
+        messageReadStatusService.updateReadStatus(roomId, List.of(messages.get(0).getId(), messages.get(1).getId()), userId);
+        messageReadStatusService.updateReadStatus(roomId, List.of(messages.get(2).getId()), userId);
+
+        List<RoomReadState> states = messageReadStatusService.getReadStates(roomId);
+        assertThat(states).singleElement().satisfies(state -> {
+            assertThat(state.getUserId()).isEqualTo(userId);
+            assertThat(state.hasRead(messages.get(2).getTimestamp())).isTrue();
+        });
+        assertThat(messageRepository.findAll()).allSatisfy(message -> assertThat(message.getReaders()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 메시지 읽음 이벤트는 읽은 지점을 되돌리지 않는다")
+    void updateReadStatus_DoesNotMoveWatermarkBackwards() {
+        LocalDateTime latest = baseTime.plusSeconds(10);
+
+        messageReadStatusService.updateReadStatus(roomId, latest, userId);
+        messageReadStatusService.updateReadStatus(roomId, baseTime, userId);
+
+        assertThat(messageReadStatusService.getReadStates(roomId))
+                .singleElement()
+                .satisfies(state -> assertThat(state.getLastReadAt()).isEqualTo(latest));
+    }
+
+    private Message saveMessage(int offsetSeconds) {
+        Message message = Message.builder()
+                .roomId(roomId)
+                .senderId("sender")
+                .content("message " + offsetSeconds)
+                .type(MessageType.text)
+                .timestamp(baseTime.plusSeconds(offsetSeconds))
+                .isDeleted(false)
+                .build();
+        return messageRepository.save(message);
+    }
+}
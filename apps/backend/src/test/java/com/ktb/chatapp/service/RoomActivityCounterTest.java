@@ -0,0 +1,61 @@
+package com.ktb.chatapp.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RoomActivityCounter 단위 테스트")
+class RoomActivityCounterTest {
+
+    private StringRedisTemplate redisTemplate;
+    private RoomActivityCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        counter = new RoomActivityCounter(redisTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("refresh 후에는 Redis 버킷 합계를 읽고, 이후 증가분은 다음 refresh 전에도 더해진다")
+    void count_MergesSnapshotAndLocalIncrements() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(Map.of("room-1", "5"), Map.of("room-1", "2", "room-2", "1")));
+
+        counter.increment("room-1");
+        counter.increment("room-1");
+        assertThat(counter.count("room-1")).isEqualTo(2);
+
+        counter.refresh();
+        counter.increment("room-1");
+
+        assertThat(counter.counts(List.of("room-1", "room-2", "room-3")))
+                .containsEntry("room-1", 8L)
+                .containsEntry("room-2", 1L)
+                .containsEntry("room-3", 0L);
+    }
+
+    @Test
+    @DisplayName("Redis 기록에 실패한 증가분은 버리지 않고 다음 주기로 넘긴다")
+    void refresh_KeepsIncrementsWhenFlushFails() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        counter.increment("room-1");
+        counter.refresh();
+
+        assertThat(counter.count("room-1")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ktb.chatapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.config.RoomListCacheProperties;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.dto.RoomsResponse;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RoomListCache 단위 테스트")
+class RoomListCacheTest {
+
+    private static final RoomListCache.Key KEY = new RoomListCache.Key(0, 10, "createdAt", "desc", "");
+
+    private RoomListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RoomListCache(new RoomListCacheProperties(), new ObjectMapper(), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 계산하고 같은 직렬화 결과를 공유한다")
+    void get_ComputesOncePerKeyUnderBurst() throws Exception {
+        int requests = 50;
+        CountDownLatch start = new CountDownLatch(1);
+        List<byte[]> bodies;
+        try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+            var futures = IntStream.range(0, requests)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return cache.get(KEY, this::slowLoad);
+                    }))
+                    .toList();
+            start.countDown();
+            bodies = futures.stream().map(future -> {
+                try {
+                    return future.get();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(bodies).allSatisfy(body -> assertThat(body).isSameAs(bodies.getFirst()));
+        assertThat(new String(bodies.getFirst())).contains("\"success\":true");
+    }
+
+    @Test
+    @DisplayName("참가자 변경 이벤트가 오면 다음 요청에서 다시 계산한다")
+    void onParticipantsChanged_InvalidatesCachedPages() {
+        cache.get(KEY, this::load);
+        cache.get(KEY, this::load);
+        assertThat(loads).hasValue(1);
+
+        cache.onParticipantsChanged(new RoomParticipantsChangedEvent(this, "room-1"));
+        cache.get(KEY, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("참가/퇴장만 일어나면 참가자 수 정렬 페이지와 그 방이 든 페이지만 다시 계산한다")
+    void onParticipantsChanged_InvalidatesOnlyAffectedPages() {
+        RoomListCache.Key otherPage = new RoomListCache.Key(1, 10, "createdAt", "desc", "");
+        RoomListCache.Key byParticipants = new RoomListCache.Key(0, 10, "participantsCount", "desc", "");
+        cache.get(KEY, () -> load("room-1"));
+        cache.get(otherPage, () -> load("room-2"));
+        cache.get(byParticipants, () -> load("room-2"));
+        assertThat(loads).hasValue(3);
+
+        cache.onParticipantsChanged(new RoomParticipantsChangedEvent(this, "room-1", true));
+        cache.get(KEY, () -> load("room-1"));
+        cache.get(otherPage, () -> load("room-2"));
+        cache.get(byParticipants, () -> load("room-2"));
+
+        // KEY(room-1 포함)와 참가자 수 정렬 페이지만 다시 계산
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("실패 응답은 캐시하지 않는다")
+    void get_DoesNotCacheFailures() {
+        byte[] failed = cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return RoomsResponse.builder().success(false).data(List.of()).build();
+        });
+        cache.get(KEY, this::load);
+
+        assertThat(new String(failed)).contains("\"success\":false");
+        assertThat(loads).hasValue(2);
+    }
+
+    private RoomsResponse load(String... roomIds) {
+        loads.incrementAndGet();
+        List<RoomResponse> rooms = Arrays.stream(roomIds)
+                .map(roomId -> RoomResponse.builder().id(roomId).name(roomId).createdAtDateTime(LocalDateTime.now()).build())
+                .toList();
+        return RoomsResponse.builder().success(true).data(rooms).build();
+    }
+
+    private RoomsResponse slowLoad() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return load();
+    }
+}
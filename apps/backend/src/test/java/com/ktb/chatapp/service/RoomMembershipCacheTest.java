@@ -0,0 +1,202 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.RoomCacheProperties;
+import com.ktb.chatapp.event.RoomParticipantsChangedEvent;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RoomMembershipCache 단위 테스트")
+class RoomMembershipCacheTest {
+
+    private RoomRepository roomRepository;
+    private RTopic topic;
+    private ApplicationEventPublisher eventPublisher;
+    private RoomMembershipCache cache;
+    private MessageListener<String> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        roomRepository = mock(RoomRepository.class);
+        topic = mock(RTopic.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(RoomMembershipCache.INVALIDATION_TOPIC, StringCodec.INSTANCE)).thenReturn(topic);
+
+        cache = new RoomMembershipCache(roomRepository, redissonClient, new RoomCacheProperties(),
+                eventPublisher, new SimpleMeterRegistry());
+        cache.afterPropertiesSet();
+
+        ArgumentCaptor<MessageListener<String>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), captor.capture());
+        listener = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("첫 조회만 Mongo 에서 적재하고 이후에는 캐시에서 응답한다")
+    void getRoom_LoadsOnceThenHits() {
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room("room-1", "user-1")));
+
+        assertThat(cache.isParticipant("room-1", "user-1")).isTrue();
+        assertThat(cache.getRoom("room-1")).map(RoomMembershipCache.CachedRoom::getName).contains("room-1");
+
+        verify(roomRepository, times(1)).findById("room-1");
+    }
+
+    @Test
+    @DisplayName("없는 방도 기억해 같은 roomId 로 Mongo 를 반복 조회하지 않는다")
+    void getRoom_CachesMisses() {
+        when(roomRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThat(cache.getRoom("missing")).isEmpty();
+        assertThat(cache.isParticipant("missing", "user-1")).isFalse();
+
+        verify(roomRepository, times(1)).findById("missing");
+    }
+
+    @Test
+    @DisplayName("없는 방으로 기억된 roomId 도 방이 생성되면 바로 조회된다")
+    void put_ClearsNegativeEntry() {
+        when(roomRepository.findById("room-1")).thenReturn(Optional.empty());
+        assertThat(cache.getRoom("room-1")).isEmpty();
+
+        cache.put(room("room-1", "user-1"));
+
+        assertThat(cache.isParticipant("room-1", "user-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이 노드의 참가/퇴장은 Mongo 반영 후 재적재 없이 캐시에 반영된다")
+    void addAndRemoveParticipant_UpdateLocalEntry() {
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room("room-1", "user-1")));
+        cache.getRoom("room-1");
+
+        cache.addParticipant("room-1", "user-2");
+        assertThat(cache.isParticipant("room-1", "user-2")).isTrue();
+
+        cache.removeParticipant("room-1", "user-1");
+        assertThat(cache.getRoom("room-1").orElseThrow().isParticipant("user-1")).isFalse();
+
+        verify(roomRepository).addParticipant("room-1", "user-2");
+        verify(roomRepository).removeParticipant("room-1", "user-1");
+        verify(roomRepository, times(1)).findById("room-1");
+        verify(eventPublisher, times(2)).publishEvent(any(RoomParticipantsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("자기 노드가 보낸 무효화는 무시한다")
+    void onInvalidation_IgnoresSelfOriginatedMessage() {
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room("room-1", "user-1")));
+        cache.getRoom("room-1");
+        cache.addParticipant("room-1", "user-2");
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(topic).publish(published.capture());
+        listener.onMessage(RoomMembershipCache.INVALIDATION_TOPIC, published.getValue());
+
+        assertThat(cache.isParticipant("room-1", "user-2")).isTrue();
+        verify(roomRepository, times(1)).findById("room-1");
+        verify(eventPublisher, times(1)).publishEvent(any(RoomParticipantsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화를 받으면 항목을 버리고 다음 조회 때 다시 적재한다")
+    void onInvalidation_ReloadsAfterRemoteChange() {
+        when(roomRepository.findById("room-1"))
+                .thenReturn(Optional.of(room("room-1", "user-1")))
+                .thenReturn(Optional.of(room("room-1", "user-1", "user-3")));
+        cache.getRoom("room-1");
+
+        listener.onMessage(RoomMembershipCache.INVALIDATION_TOPIC, "other-node:room-1");
+
+        assertThat(cache.isParticipant("room-1", "user-3")).isTrue();
+        verify(roomRepository, times(2)).findById("room-1");
+        verify(eventPublisher).publishEvent(any(RoomParticipantsChangedEvent.class));
+        verify(topic, never()).publish(anyString());
+    }
+
+    @Test
+    @DisplayName("참가자가 아니라고 답하기 전에 Mongo 에서 한 번 다시 적재해 유실된 무효화를 따라잡는다")
+    void isParticipant_ReloadsBeforeRejecting() {
+        when(roomRepository.findById("room-1"))
+                .thenReturn(Optional.of(room("room-1", "user-1")))
+                .thenReturn(Optional.of(room("room-1", "user-1", "user-2")));
+        cache.getRoom("room-1");
+
+        assertThat(cache.isParticipant("room-1", "user-2")).isTrue();
+        assertThat(cache.getRoom("room-1").orElseThrow().isParticipant("user-2")).isTrue();
+        verify(roomRepository, times(2)).findById("room-1");
+    }
+
+    @Test
+    @DisplayName("적재 중에 일어난 로컬 참가는 적재가 끝난 뒤 캐시 항목에 반영된다")
+    void addParticipant_AppliesAfterInFlightLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(roomRepository.findById("room-1")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            // 참가 쓰기 이전 상태
+            return Optional.of(room("room-1", "user-1"));
+        });
+
+        Thread loader = new Thread(() -> cache.getRoom("room-1"));
+        loader.start();
+        assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+
+        Thread joiner = new Thread(() -> cache.addParticipant("room-1", "user-2"));
+        joiner.start();
+        verify(roomRepository, timeout(1000)).addParticipant("room-1", "user-2");
+        release.countDown();
+        loader.join(1000);
+        joiner.join(1000);
+
+        assertThat(cache.getRoom("room-1").orElseThrow().isParticipant("user-2")).isTrue();
+        verify(roomRepository, times(1)).findById("room-1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 참가/퇴장 무효화는 participantsOnly 로 알려 방 목록 캐시가 전체를 버리지 않게 한다")
+    void onInvalidation_MarksParticipantsOnlyChange() {
+        listener.onMessage(RoomMembershipCache.INVALIDATION_TOPIC, "other-node:room-1:participants");
+
+        ArgumentCaptor<RoomParticipantsChangedEvent> event = ArgumentCaptor.forClass(RoomParticipantsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getRoomId()).isEqualTo("room-1");
+        assertThat(event.getValue().isParticipantsOnly()).isTrue();
+    }
+
+    private Room room(String roomId, String... participantIds) {
+        Room room = new Room();
+        room.setId(roomId);
+        room.setName(roomId);
+        room.setParticipantIds(new HashSet<>(List.of(participantIds)));
+        return room;
+    }
+}
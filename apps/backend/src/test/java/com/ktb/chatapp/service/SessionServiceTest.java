@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.service.session.SessionActivityTracker;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,9 @@ class SessionServiceTest {
     @Autowired
     private SessionService sessionService;
 
+    @Autowired
+    private SessionActivityTracker sessionActivityTracker;
+
     private static final String TEST_USER_ID = "test-user-123";
     private static final String TEST_USER_ID_2 = "test-user-456";
     private static final String TEST_IP = "127.0.0.1";
@@ -205,6 +209,27 @@ class SessionServiceTest {
         assertThat(activeSession.getLastActivity()).isGreaterThan(initialLastActivity);
     }
 
+    @Test
+    @DisplayName("lastActivity 업데이트 - flush 이후에도 저장소에 반영")
+    void updateLastActivity_PersistedAfterFlush() throws InterruptedException {
+        // Given
+        SessionMetadata metadata = createTestMetadata();
+        SessionCreationResult created = sessionService.createSession(TEST_USER_ID, metadata);
+        long initialLastActivity = created.getSessionData().getLastActivity();
+
+        Thread.sleep(100);
+
+        // When
+        sessionService.updateLastActivity(TEST_USER_ID);
+        sessionActivityTracker.flush();
+
+        // Then - 대기 중인 기록 없이 저장소 값만으로 갱신 확인
+        assertEquals(0L, sessionActivityTracker.pendingLastActivity(TEST_USER_ID, created.getSessionId()));
+        SessionData activeSession = sessionService.getActiveSession(TEST_USER_ID);
+        assertNotNull(activeSession);
+        assertThat(activeSession.getLastActivity()).isGreaterThan(initialLastActivity);
+    }
+
     @Test
     @DisplayName("lastActivity 업데이트 - null userId 처리")
     void updateLastActivity_NullUserId_NoException() {
@@ -0,0 +1,162 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.config.MessagePersistenceProperties;
+import com.ktb.chatapp.config.MessagePersistenceProperties.Durability;
+import com.ktb.chatapp.config.MessagePersistenceProperties.Mode;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MessagePersistencePipeline 단위 테스트")
+class MessagePersistencePipelineTest {
+
+    private MessageRepository messageRepository;
+    private MongoTemplate mongoTemplate;
+    private MessagePersistenceProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MessagePersistencePipeline pipeline;
+    // writer 는 flush 후 배치 리스트를 재사용하므로 insert 시점의 내용을 복사해 둔다
+    private final List<List<String>> insertedBatches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = mock(MessageRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        doAnswer(invocation -> {
+            Collection<Message> batch = invocation.getArgument(0);
+            insertedBatches.add(batch.stream().map(Message::getContent).toList());
+            return batch;
+        }).when(mongoTemplate).insert(anyCollection(), eq(Message.class));
+        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        properties = new MessagePersistenceProperties();
+        properties.setMode(Mode.ASYNC);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("batchSize 만큼 쌓이면 flushInterval 을 기다리지 않고 기록한다")
+    void flushesWhenBatchIsFull() {
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofSeconds(30));
+        pipeline = new MessagePersistencePipeline(messageRepository, mongoTemplate, properties, meterRegistry);
+
+        List<Message> accepted = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            accepted.add(pipeline.persist(message("m" + i)));
+        }
+        pipeline.start();
+
+        verify(mongoTemplate, timeout(1000)).insert(anyCollection(), eq(Message.class));
+        assertThat(insertedBatches).containsExactly(List.of("m0", "m1", "m2"));
+        assertThat(accepted).allSatisfy(message -> {
+            assertThat(message.getId()).isNotNull();
+            assertThat(message.getTimestamp()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("batchSize 에 못 미쳐도 flushInterval 이 지나면 기록한다")
+    void flushesAfterInterval() {
+        properties.setBatchSize(100);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        pipeline = new MessagePersistencePipeline(messageRepository, mongoTemplate, properties, meterRegistry);
+        pipeline.start();
+
+        pipeline.persist(message("m0"));
+        pipeline.persist(message("m1"));
+
+        verify(mongoTemplate, timeout(1000)).insert(anyCollection(), eq(Message.class));
+        assertThat(insertedBatches).containsExactly(List.of("m0", "m1"));
+        assertThat(meterRegistry.get("message.persistence.batch.size").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("STRICT: 큐가 가득 차면 호출 스레드가 직접 저장한다")
+    void strictFallsBackToSynchronousSaveWhenQueueIsFull() {
+        properties.setDurability(Durability.STRICT);
+        properties.setQueueCapacity(1);
+        properties.setEnqueueTimeout(Duration.ofMillis(10));
+        // writer 를 시작하지 않아 큐가 비워지지 않는다
+        pipeline = new MessagePersistencePipeline(messageRepository, mongoTemplate, properties, meterRegistry);
+
+        pipeline.persist(message("queued"));
+        Message overflow = pipeline.persist(message("overflow"));
+
+        verify(messageRepository).save(overflow);
+        assertThat(meterRegistry.counter("message.persistence.sync_fallback").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("message.persistence.dropped").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("BEST_EFFORT: 큐가 가득 차면 메시지를 버리고 dropped 지표를 올린다")
+    void bestEffortDropsWhenQueueIsFull() {
+        properties.setDurability(Durability.BEST_EFFORT);
+        properties.setQueueCapacity(1);
+        pipeline = new MessagePersistencePipeline(messageRepository, mongoTemplate, properties, meterRegistry);
+
+        pipeline.persist(message("queued"));
+        Message dropped = pipeline.persist(message("dropped"));
+
+        assertThat(dropped.getId()).isNotNull();
+        verify(messageRepository, never()).save(any(Message.class));
+        assertThat(meterRegistry.counter("message.persistence.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("message.persistence.sync_fallback").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("브로드캐스트된 메시지는 기록이 끝날 때까지 findPending 으로 조회된다")
+    void findPendingUntilFlushed() {
+        properties.setBatchSize(1);
+        pipeline = new MessagePersistencePipeline(messageRepository, mongoTemplate, properties, meterRegistry);
+
+        Message accepted = pipeline.persist(message("m0"));
+        assertThat(pipeline.findPending(accepted.getId())).containsSame(accepted);
+
+        pipeline.start();
+
+        verify(mongoTemplate, timeout(1000)).insert(anyCollection(), eq(Message.class));
+        // writer 가 배치를 마칠 때까지 기다린다
+        pipeline.stop();
+        assertThat(pipeline.findPending(accepted.getId())).isEmpty();
+    }
+
+    private Message message(String content) {
+        return Message.builder()
+                .roomId("room-1")
+                .senderId("sender")
+                .content(content)
+                .type(MessageType.text)
+                .isDeleted(false)
+                .build();
+    }
+}
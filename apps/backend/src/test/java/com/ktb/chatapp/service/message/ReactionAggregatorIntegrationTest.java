@@ -0,0 +1,103 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.MessageRepository;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false",
+        "message.reaction.async=true",
+        // 테스트에서 flush 시점을 직접 제어
+        "message.reaction.flush-interval=1h"
+})
+class ReactionAggregatorIntegrationTest {
+
+    @Autowired
+    private ReactionAggregator reactionAggregator;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    private Message message;
+
+    @BeforeEach
+    void setUp() {
+        message = messageRepository.save(Message.builder()
+                .roomId("reaction-aggregator-room")
+                .senderId("sender")
+                .content("popular message")
+                .type(MessageType.text)
+                .timestamp(LocalDateTime.now())
+                .isDeleted(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("토글은 메모리에서 개수를 계산하고 flush 전까지 메시지 문서를 변경하지 않는다")
+    void toggle_CountsInMemoryAndDefersWrite() {
+        IntStream.range(0, 10).forEach(i -> reactionAggregator.toggle(message.getId(), "👍", "user-" + i, true));
+
+        ReactionChange change = reactionAggregator.toggle(message.getId(), "👍", "user-10", true).orElseThrow();
+
+        assertThat(change.count()).isEqualTo(11);
+        assertThat(change.roomId()).isEqualTo("reaction-aggregator-room");
+        assertThat(messageRepository.findById(message.getId()).orElseThrow().getReactions()).isEmpty();
+
+        reactionAggregator.flush();
+
+        assertThat(messageRepository.findById(message.getId()).orElseThrow().getReactions().get("👍")).hasSize(11);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 토글은 마지막 상태만 기록하고, 비게 된 리액션 키는 정리한다")
+    void flush_KeepsLastIntentPerUser() {
+        reactionAggregator.toggle(message.getId(), "👍", "user-1", true);
+        reactionAggregator.flush();
+
+        reactionAggregator.toggle(message.getId(), "👍", "user-1", false);
+        reactionAggregator.toggle(message.getId(), "👍", "user-1", true);
+        ReactionChange last = reactionAggregator.toggle(message.getId(), "👍", "user-1", false).orElseThrow();
+        reactionAggregator.flush();
+
+        assertThat(last.count()).isZero();
+        assertThat(messageRepository.findById(message.getId()).orElseThrow().getReactions()).doesNotContainKey("👍");
+    }
+
+    @Test
+    @DisplayName("이미 같은 상태인 토글은 변경으로 보지 않는다")
+    void toggle_ReportsNoChangeForDuplicate() {
+        reactionAggregator.toggle(message.getId(), "👍", "user-1", true);
+
+        ReactionChange duplicate = reactionAggregator.toggle(message.getId(), "👍", "user-1", true).orElseThrow();
+
+        assertThat(duplicate.changed()).isFalse();
+        assertThat(duplicate.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 메시지는 empty 를 반환한다")
+    void toggle_ReturnsEmptyForMissingMessage() {
+        assertThat(reactionAggregator.toggle("000000000000000000000000", "👍", "user-1", true)).isEmpty();
+    }
+}
@@ -0,0 +1,165 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.config.ReactionProperties;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.MessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * bulk update 실패 시 토글을 버리지 않고, 그 사이 들어온 더 최신 토글을 덮어쓰지 않는지 검증한다.
+ */
+@DisplayName("ReactionAggregator 단위 테스트")
+class ReactionAggregatorTest {
+
+    private static final String MESSAGE_ID = "message-1";
+
+    private MongoTemplate mongoTemplate;
+    private MessagePersistencePipeline persistencePipeline;
+    private BulkOperations bulkOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private RTopic topic;
+    private ReactionAggregator aggregator;
+    private final List<Update> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        persistencePipeline = mock(MessagePersistencePipeline.class);
+        bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.findOne(any(Query.class), eq(Message.class)))
+                .thenReturn(Message.builder().id(MESSAGE_ID).roomId("room-1").build());
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Message.class)))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.updateOne(any(Query.class), any(Update.class))).thenAnswer(invocation -> {
+            written.add(invocation.getArgument(1));
+            return bulkOperations;
+        });
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        topic = mock(RTopic.class);
+        when(redissonClient.getTopic(anyString(), eq(StringCodec.INSTANCE))).thenReturn(topic);
+
+        // 테스트에서 flush 시점을 직접 제어
+        ReactionProperties properties = new ReactionProperties();
+        properties.setFlushInterval(Duration.ofHours(1));
+
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new ReactionAggregator(
+                mongoTemplate,
+                mock(MessageRepository.class),
+                persistencePipeline,
+                mock(RecentMessageCache.class),
+                properties,
+                new ObjectMapper(),
+                redissonClient,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("bulk update 에 실패한 토글은 다음 flush 에서 다시 기록한다")
+    void flush_RequeuesTogglesWhenBulkFails() {
+        when(bulkOperations.execute())
+                .thenThrow(new DataAccessResourceFailureException("mongo down"))
+                .thenReturn(null);
+
+        aggregator.toggle(MESSAGE_ID, "👍", "user-1", true);
+        aggregator.flush();
+
+        assertThat(meterRegistry.counter("message.reaction.failed").count()).isEqualTo(1);
+
+        written.clear();
+        aggregator.flush();
+
+        assertThat(meterRegistry.counter("message.reaction.writes").count()).isEqualTo(1);
+        assertThat(written).singleElement()
+                .satisfies(update -> assertThat(update.getUpdateObject()).containsKey("$addToSet"));
+    }
+
+    @Test
+    @DisplayName("저장 전인 메시지도 리액션을 받고, 기록은 메시지가 저장된 뒤로 미룬다")
+    void toggle_DefersWritesForUnpersistedMessage() {
+        Message unpersisted = Message.builder().id("message-2").roomId("room-1").build();
+        when(persistencePipeline.findPending("message-2")).thenReturn(Optional.of(unpersisted));
+        when(persistencePipeline.isPending("message-2")).thenReturn(true);
+
+        ReactionChange change = aggregator.toggle("message-2", "👍", "user-1", true).orElseThrow();
+        aggregator.flush();
+
+        assertThat(change.count()).isEqualTo(1);
+        verify(mongoTemplate, never()).findOne(any(Query.class), eq(Message.class));
+        verify(mongoTemplate, never()).bulkOps(any(BulkOperations.BulkMode.class), eq(Message.class));
+
+        when(persistencePipeline.isPending("message-2")).thenReturn(false);
+        aggregator.flush();
+
+        assertThat(written).singleElement()
+                .satisfies(update -> assertThat(update.getUpdateObject()).containsKey("$addToSet"));
+    }
+
+    @Test
+    @DisplayName("상태를 적재하기 전에 받은 다른 노드의 토글은 Mongo 기록 전이라도 적재된 개수에 반영된다")
+    @SuppressWarnings("unchecked")
+    void onSync_AppliesRemoteToggleReceivedBeforeLoad() throws Exception {
+        aggregator.start();
+        ArgumentCaptor<MessageListener<String>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), captor.capture());
+
+        ReactionChange remote = new ReactionChange(MESSAGE_ID, "room-1", "👍", "user-remote", true, 1, true, 1);
+        captor.getValue().onMessage(ReactionAggregator.SYNC_TOPIC,
+                new ObjectMapper().writeValueAsString(new ReactionAggregator.SyncEvent("other-node", remote)));
+
+        // Mongo 에는 아직 다른 노드의 토글이 없다
+        ReactionChange change = aggregator.toggle(MESSAGE_ID, "👍", "user-1", true).orElseThrow();
+
+        assertThat(change.count()).isEqualTo(2);
+        aggregator.stop();
+    }
+
+    @Test
+    @DisplayName("실패한 배치보다 나중에 들어온 같은 키의 토글이 우선한다")
+    void flush_KeepsNewerIntentOverFailedToggle() {
+        when(bulkOperations.execute())
+                .thenAnswer(invocation -> {
+                    // flush 도중 같은 사용자가 리액션을 취소
+                    aggregator.toggle(MESSAGE_ID, "👍", "user-1", false);
+                    throw new DataAccessResourceFailureException("mongo down");
+                })
+                .thenReturn(null);
+
+        aggregator.toggle(MESSAGE_ID, "👍", "user-1", true);
+        aggregator.flush();
+
+        written.clear();
+        aggregator.flush();
+
+        assertThat(written).first()
+                .satisfies(update -> assertThat(update.getUpdateObject()).containsKey("$pull"));
+    }
+}
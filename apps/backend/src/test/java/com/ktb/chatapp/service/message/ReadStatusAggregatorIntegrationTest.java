@@ -0,0 +1,114 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.RoomReadState;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomReadStateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false",
+        "message.read-status.async=true",
+        // 테스트에서 flush 시점을 직접 제어
+        "message.read-status.flush-interval=1h"
+})
+class ReadStatusAggregatorIntegrationTest {
+
+    private static final String ROOM_ID = "aggregator-room";
+    private static final String OTHER_ROOM_ID = "aggregator-other-room";
+
+    @Autowired
+    private ReadStatusAggregator readStatusAggregator;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private RoomReadStateRepository roomReadStateRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        baseTime = LocalDateTime.now().minusHours(1).withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        messageRepository.deleteAll();
+        roomReadStateRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 (방, 사용자)의 읽음 이벤트는 병합되어 가장 최신 지점 하나로 기록된다")
+    void flush_CoalescesEventsPerRoomAndUser() {
+        Message first = saveMessage(ROOM_ID, 0);
+        Message second = saveMessage(ROOM_ID, 1);
+        Message third = saveMessage(ROOM_ID, 2);
+        double writesBefore = meterRegistry.counter("message.read_status.writes").count();
+
+        readStatusAggregator.submit(ROOM_ID, "user-1", List.of(first.getId(), second.getId()));
+        readStatusAggregator.submit(ROOM_ID, "user-1", List.of(second.getId(), third.getId()));
+        readStatusAggregator.submit(ROOM_ID, "user-1", first.getTimestamp());
+        readStatusAggregator.submit(ROOM_ID, "user-2", second.getTimestamp());
+
+        assertThat(roomReadStateRepository.findByRoomId(ROOM_ID)).isEmpty();
+        assertThat(readStatusAggregator.pendingReadUpTo(ROOM_ID)).containsKeys("user-1", "user-2");
+
+        readStatusAggregator.flush();
+
+        assertThat(roomReadStateRepository.findByRoomId(ROOM_ID))
+                .extracting(RoomReadState::getUserId, RoomReadState::getLastReadAt)
+                .containsExactlyInAnyOrder(
+                        tuple("user-1", third.getTimestamp()),
+                        tuple("user-2", second.getTimestamp()));
+        assertThat(meterRegistry.counter("message.read_status.writes").count() - writesBefore).isEqualTo(2);
+        assertThat(readStatusAggregator.pendingReadUpTo(ROOM_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 방의 메시지 ID 로는 읽은 지점을 올릴 수 없다")
+    void flush_IgnoresMessagesFromOtherRooms() {
+        Message own = saveMessage(ROOM_ID, 0);
+        Message foreign = saveMessage(OTHER_ROOM_ID, 30);
+
+        readStatusAggregator.submit(ROOM_ID, "user-1", List.of(own.getId(), foreign.getId()));
+        readStatusAggregator.flush();
+
+        assertThat(roomReadStateRepository.findByRoomId(ROOM_ID))
+                .singleElement()
+                .satisfies(state -> assertThat(state.getLastReadAt()).isEqualTo(own.getTimestamp()));
+    }
+
+    private Message saveMessage(String roomId, int offsetSeconds) {
+        return messageRepository.save(Message.builder()
+                .roomId(roomId)
+                .senderId("sender")
+                .content("message " + offsetSeconds)
+                .type(MessageType.text)
+                .timestamp(baseTime.plusSeconds(offsetSeconds))
+                .isDeleted(false)
+                .build());
+    }
+}
@@ -0,0 +1,122 @@
+package com.ktb.chatapp.service.message;
+
+import com.ktb.chatapp.config.ReadStatusProperties;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.RoomReadState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mongo 장애 시 읽음 이벤트를 버리지 않고 다음 flush 로 넘기는지 검증한다.
+ */
+@DisplayName("ReadStatusAggregator 단위 테스트")
+class ReadStatusAggregatorTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    private MongoTemplate mongoTemplate;
+    private MessagePersistencePipeline persistencePipeline;
+    private BulkOperations bulkOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private ReadStatusAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        persistencePipeline = mock(MessagePersistencePipeline.class);
+        bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(RoomReadState.class)))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.upsert(anyList())).thenReturn(bulkOperations);
+
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new ReadStatusAggregator(
+                mongoTemplate, persistencePipeline, new ReadStatusProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("메시지 조회에 실패한 배치는 failed 로 집계하고 다음 flush 에서 다시 처리한다")
+    void flush_RequeuesBatchWhenMessageLookupFails() {
+        LocalDateTime readAt = LocalDateTime.now().withNano(0);
+        Message message = Message.builder().id("m1").roomId(ROOM_ID).timestamp(readAt).build();
+        when(mongoTemplate.find(any(Query.class), eq(Message.class)))
+                .thenThrow(new DataAccessResourceFailureException("mongo down"))
+                .thenReturn(List.of(message));
+
+        aggregator.submit(ROOM_ID, "user-1", List.of("m1"));
+        aggregator.flush();
+
+        assertThat(meterRegistry.counter("message.read_status.failed").count()).isEqualTo(1);
+
+        aggregator.flush();
+
+        verify(bulkOperations).execute();
+        assertThat(meterRegistry.counter("message.read_status.writes").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("아직 저장 파이프라인에 있는 메시지는 Mongo 조회 없이 읽은 지점을 계산한다")
+    void flush_ResolvesUnpersistedMessagesFromPipeline() {
+        LocalDateTime sentAt = LocalDateTime.now().withNano(0);
+        Message message = Message.builder().id("m1").roomId(ROOM_ID).timestamp(sentAt).build();
+        when(persistencePipeline.findPending("m1")).thenReturn(Optional.of(message));
+
+        aggregator.submit(ROOM_ID, "user-1", List.of("m1"));
+        aggregator.flush();
+
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Message.class));
+        verify(bulkOperations).execute();
+        assertThat(meterRegistry.counter("message.read_status.writes").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("upsert 재시도까지 실패한 키는 남겨 두고, 그 사이 들어온 더 최신 읽은 지점과 병합해 기록한다")
+    @SuppressWarnings("unchecked")
+    void flush_RequeuesAndMergesWhenUpsertFails() {
+        LocalDateTime first = LocalDateTime.now().minusMinutes(1).withNano(0);
+        LocalDateTime later = first.plusSeconds(30);
+        when(bulkOperations.execute())
+                .thenThrow(new DataAccessResourceFailureException("mongo down"))
+                .thenThrow(new DataAccessResourceFailureException("mongo down"))
+                .thenReturn(null);
+
+        aggregator.submit(ROOM_ID, "user-1", first);
+        aggregator.flush();
+
+        assertThat(meterRegistry.counter("message.read_status.failed").count()).isEqualTo(1);
+        assertThat(aggregator.pendingReadUpTo(ROOM_ID)).containsEntry("user-1", first);
+
+        aggregator.submit(ROOM_ID, "user-1", later);
+        aggregator.flush();
+
+        ArgumentCaptor<List<Pair<Query, Update>>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations, times(3)).upsert(upserts.capture());
+        assertThat(upserts.getValue()).singleElement().satisfies(pair ->
+                assertThat(pair.getSecond().getUpdateObject().get("$max", Document.class).get("lastReadAt"))
+                        .isEqualTo(later));
+        assertThat(aggregator.pendingReadUpTo(ROOM_ID)).isEmpty();
+    }
+}
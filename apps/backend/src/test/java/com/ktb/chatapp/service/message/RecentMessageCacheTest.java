@@ -0,0 +1,163 @@
+package com.ktb.chatapp.service.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.config.RecentMessageCacheProperties;
+import com.ktb.chatapp.dto.MessageCursor;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSummary;
+import com.ktb.chatapp.model.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RecentMessageCache 단위 테스트")
+class RecentMessageCacheTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    private RecentMessageCache cache;
+    private RTopic topic;
+    private ObjectMapper objectMapper;
+    private MessageListener<String> listener;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RecentMessageCacheProperties properties = new RecentMessageCacheProperties();
+        properties.setCapacity(50);
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        topic = mock(RTopic.class);
+        when(redissonClient.getTopic(anyString(), eq(StringCodec.INSTANCE))).thenReturn(topic);
+
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        cache = new RecentMessageCache(properties, objectMapper, redissonClient, new SimpleMeterRegistry());
+        cache.afterPropertiesSet();
+
+        ArgumentCaptor<MessageListener<String>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic).addListener(eq(String.class), captor.capture());
+        listener = captor.getValue();
+        baseTime = LocalDateTime.now().minusHours(1);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 조회하지 않고, 적재 후 최신 페이지를 내림차순으로 반환한다")
+    void page_ServesLatestPageAfterSeed() {
+        List<Message> messages = messages(40);
+        assertThat(cache.page(ROOM_ID, null, LocalDateTime.now(), 30)).isEmpty();
+
+        cache.seed(ROOM_ID, descending(messages), false);
+
+        Optional<List<MessageSummary>> page = cache.page(ROOM_ID, null, LocalDateTime.now(), 30);
+        assertThat(page).isPresent();
+        assertThat(page.get()).hasSize(31);
+        assertThat(page.get().getFirst().id()).isEqualTo(messages.getLast().getId());
+        assertThat(page.get().getLast().id()).isEqualTo(messages.get(9).getId());
+    }
+
+    @Test
+    @DisplayName("커서가 버퍼 범위를 벗어나면 empty 를 반환해 Mongo 로 넘긴다")
+    void page_MissesWhenCursorLeavesWindow() {
+        List<Message> messages = messages(40);
+        cache.seed(ROOM_ID, descending(messages), false);
+
+        MessageCursor cursor = MessageCursor.of(messages.get(20));
+
+        assertThat(cache.page(ROOM_ID, cursor, null, 30)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("방 전체를 가지고 있으면 limit 보다 적어도 메모리에서 응답한다")
+    void page_ServesShortPageWhenComplete() {
+        List<Message> messages = messages(10);
+        cache.seed(ROOM_ID, descending(messages), true);
+
+        Optional<List<MessageSummary>> page = cache.page(ROOM_ID, MessageCursor.of(messages.get(5)), null, 30);
+
+        assertThat(page).isPresent();
+        assertThat(page.get()).extracting(MessageSummary::id)
+                .containsExactly(messages.get(4).getId(), messages.get(3).getId(), messages.get(2).getId(),
+                        messages.get(1).getId(), messages.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("적재 후 추가된 메시지는 다음 최신 페이지에 포함되고 capacity 를 넘으면 오래된 것부터 밀려난다")
+    void append_AddsToBufferAndTrimsToCapacity() {
+        List<Message> messages = messages(50);
+        cache.seed(ROOM_ID, descending(messages), true);
+
+        Message latest = message(50);
+        cache.append(latest);
+
+        Optional<List<MessageSummary>> page = cache.page(ROOM_ID, null, LocalDateTime.now(), 30);
+        assertThat(page).isPresent();
+        assertThat(page.get().getFirst().id()).isEqualTo(latest.getId());
+
+        // 가장 오래된 메시지가 밀려나 complete 가 풀렸으므로 버퍼 끝을 넘는 요청은 Mongo 로 넘긴다
+        assertThat(cache.page(ROOM_ID, MessageCursor.of(messages.get(5)), null, 30)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 쿼리 도중 도착한 다른 노드의 메시지는 버려지지 않고 seed 결과와 합쳐진다")
+    void onSync_KeepsRemoteAppendArrivingBeforeSeed() throws Exception {
+        List<Message> stored = messages(10);
+        // 다른 노드에서 보냈지만 적재 쿼리 결과에는 없는 메시지 (아직 Mongo 에 기록 전)
+        Message remote = message(10);
+
+        listener.onMessage(RecentMessageCache.SYNC_TOPIC, objectMapper.writeValueAsString(
+                new RecentMessageCache.SyncEvent("other-node", RecentMessageCache.SyncOp.APPEND,
+                        MessageSummary.from(remote))));
+        assertThat(cache.page(ROOM_ID, null, LocalDateTime.now(), 30)).isEmpty();
+
+        cache.seed(ROOM_ID, descending(stored), true);
+
+        Optional<List<MessageSummary>> page = cache.page(ROOM_ID, null, LocalDateTime.now(), 30);
+        assertThat(page).isPresent();
+        assertThat(page.get()).hasSize(11);
+        assertThat(page.get().getFirst().id()).isEqualTo(remote.getId());
+    }
+
+    private List<Message> messages(int count) {
+        List<Message> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(message(i));
+        }
+        return messages;
+    }
+
+    private Message message(int index) {
+        return Message.builder()
+                .id(new ObjectId().toHexString())
+                .roomId(ROOM_ID)
+                .senderId("sender")
+                .content("message " + index)
+                .type(MessageType.text)
+                .timestamp(baseTime.plusSeconds(index))
+                .isDeleted(false)
+                .build();
+    }
+
+    private static List<MessageSummary> descending(List<Message> ascending) {
+        return new ArrayList<>(ascending.reversed().stream().map(MessageSummary::from).toList());
+    }
+}
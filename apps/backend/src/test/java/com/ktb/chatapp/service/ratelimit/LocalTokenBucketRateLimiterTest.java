@@ -0,0 +1,79 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalTokenBucketRateLimiter 단위 테스트")
+class LocalTokenBucketRateLimiterTest {
+
+    @Mock private RateLimitStore rateLimitStore;
+
+    private LocalTokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LocalTokenBucketRateLimiter(rateLimitStore, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("버킷 용량까지는 원격 호출 없이 허용하고 초과 시 차단한다")
+    void tryConsume_RejectsWhenBucketIsEmpty() {
+        Duration window = Duration.ofMinutes(1);
+
+        for (int i = 0; i < 3; i++) {
+            RateLimitCheckResult result = limiter.tryConsume("user-1", 3, window);
+            assertThat(result.allowed()).isTrue();
+            assertThat(result.remaining()).isEqualTo(2 - i);
+        }
+
+        RateLimitCheckResult rejected = limiter.tryConsume("user-1", 3, window);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isPositive();
+        verifyNoInteractions(rateLimitStore);
+    }
+
+    @Test
+    @DisplayName("reconcile 시 로컬 소비량을 합산하고 클러스터 사용량으로 잔여 토큰을 보정한다")
+    void reconcile_ClampsToClusterRemaining() {
+        Duration window = Duration.ofMinutes(1);
+        when(rateLimitStore.incrementBy(eq("local:user-1"), anyLong(), any())).thenReturn(9L);
+
+        limiter.tryConsume("user-1", 10, window);
+        limiter.tryConsume("user-1", 10, window);
+        limiter.reconcile();
+
+        verify(rateLimitStore).incrementBy("local:user-1", 2L, window);
+        // 다른 노드가 7개를 소비했으므로 남은 1개만 허용
+        assertThat(limiter.tryConsume("user-1", 10, window).allowed()).isTrue();
+        assertThat(limiter.tryConsume("user-1", 10, window).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("reconcile 실패 시 소비량을 다음 주기로 넘긴다")
+    void reconcile_RetriesFailedDelta() {
+        Duration window = Duration.ofMinutes(1);
+        when(rateLimitStore.incrementBy(eq("local:user-1"), anyLong(), any()))
+                .thenThrow(new IllegalStateException("store down"))
+                .thenReturn(1L);
+
+        limiter.tryConsume("user-1", 10, window);
+        limiter.reconcile();
+        limiter.reconcile();
+
+        verify(rateLimitStore, times(2)).incrementBy("local:user-1", 1L, window);
+    }
+}
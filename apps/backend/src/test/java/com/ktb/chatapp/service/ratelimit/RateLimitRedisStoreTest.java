@@ -0,0 +1,139 @@
+package com.ktb.chatapp.service.ratelimit;
+
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RateLimitRedisStore 의 Lua 스크립트(fixed window, GCRA, incrementBy)를 실제 Redis 로 검증한다.
+ */
+@Testcontainers
+@DisplayName("RateLimitRedisStore 테스트")
+class RateLimitRedisStoreTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RateLimitRedisStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        store = new RateLimitRedisStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("fixed window 는 한도까지 허용하고 초과 요청은 남은 TTL 을 retry-after 로 거절한다")
+    void fixedWindow_AllowsUpToLimitThenRejects() {
+        Duration window = Duration.ofSeconds(10);
+
+        RateLimitCheckResult first = store.consume("client", 3, window, RateLimitAlgorithm.FIXED_WINDOW);
+        RateLimitCheckResult second = store.consume("client", 3, window, RateLimitAlgorithm.FIXED_WINDOW);
+        RateLimitCheckResult third = store.consume("client", 3, window, RateLimitAlgorithm.FIXED_WINDOW);
+        RateLimitCheckResult rejected = store.consume("client", 3, window, RateLimitAlgorithm.FIXED_WINDOW);
+
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.remaining()).isEqualTo(2);
+        assertThat(second.remaining()).isEqualTo(1);
+        assertThat(third.allowed()).isTrue();
+        assertThat(third.remaining()).isZero();
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 10L);
+        assertThat(rejected.windowSeconds()).isEqualTo(10);
+        // 거절된 요청은 카운트를 올리지 않는다
+        assertThat(redisTemplate.opsForValue().get("ratelimit:fw:client")).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("fixed window 는 TTL 이 지나면 다시 한도만큼 허용한다")
+    void fixedWindow_ResetsAfterWindow() throws InterruptedException {
+        Duration window = Duration.ofSeconds(1);
+        store.consume("client", 1, window, RateLimitAlgorithm.FIXED_WINDOW);
+        assertThat(store.consume("client", 1, window, RateLimitAlgorithm.FIXED_WINDOW).allowed()).isFalse();
+
+        TimeUnit.MILLISECONDS.sleep(1100);
+
+        RateLimitCheckResult afterReset = store.consume("client", 1, window, RateLimitAlgorithm.FIXED_WINDOW);
+        assertThat(afterReset.allowed()).isTrue();
+        assertThat(afterReset.remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("GCRA 는 빈 상태에서 한도만큼 연속 허용하고, 다음 요청은 발행 간격 이내의 retry-after 로 거절한다")
+    void gcra_AllowsBurstThenRejectsWithRetryAfter() {
+        // 발행 간격 T = 10s / 5 = 2s
+        Duration window = Duration.ofSeconds(10);
+
+        for (int i = 0; i < 5; i++) {
+            RateLimitCheckResult result = store.consume("client", 5, window, RateLimitAlgorithm.GCRA);
+            assertThat(result.allowed()).isTrue();
+            assertThat(result.remaining()).isEqualTo(4 - i);
+        }
+        RateLimitCheckResult rejected = store.consume("client", 5, window, RateLimitAlgorithm.GCRA);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1L, 2L);
+        assertThat(redisTemplate.getExpire("ratelimit:gcra:client", TimeUnit.MILLISECONDS)).isBetween(1L, 10_000L);
+    }
+
+    @Test
+    @DisplayName("GCRA 는 발행 간격이 지나면 한 건을 다시 허용한다")
+    void gcra_RefillsAfterInterval() throws InterruptedException {
+        // 발행 간격 T = 1s / 2 = 500ms
+        Duration window = Duration.ofSeconds(1);
+        store.consume("client", 2, window, RateLimitAlgorithm.GCRA);
+        store.consume("client", 2, window, RateLimitAlgorithm.GCRA);
+        assertThat(store.consume("client", 2, window, RateLimitAlgorithm.GCRA).allowed()).isFalse();
+
+        TimeUnit.MILLISECONDS.sleep(600);
+
+        assertThat(store.consume("client", 2, window, RateLimitAlgorithm.GCRA).allowed()).isTrue();
+        assertThat(store.consume("client", 2, window, RateLimitAlgorithm.GCRA).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("incrementBy 는 새 카운터에만 TTL 을 걸고 이후 증가에서는 TTL 을 연장하지 않는다")
+    void incrementBy_SetsTtlOnlyOnNewCounter() {
+        String key = "ratelimit:counter:client";
+
+        assertThat(store.incrementBy("client", 3, Duration.ofSeconds(30))).isEqualTo(3);
+        assertThat(redisTemplate.getExpire(key, TimeUnit.MILLISECONDS)).isBetween(1L, 30_000L);
+
+        redisTemplate.expire(key, Duration.ofSeconds(5));
+        assertThat(store.incrementBy("client", 2, Duration.ofSeconds(30))).isEqualTo(5);
+
+        assertThat(redisTemplate.getExpire(key, TimeUnit.MILLISECONDS)).isBetween(1L, 5_000L);
+    }
+}
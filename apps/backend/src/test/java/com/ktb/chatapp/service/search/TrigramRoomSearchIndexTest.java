@@ -0,0 +1,105 @@
+package com.ktb.chatapp.service.search;
+
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TrigramRoomSearchIndex 단위 테스트")
+class TrigramRoomSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private RoomRepository roomRepository;
+    private TrigramRoomSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        roomRepository = mock(RoomRepository.class);
+        index = new TrigramRoomSearchIndex(roomRepository, mock(MongoTemplate.class), new SimpleMeterRegistry());
+        when(roomRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<String> ids = invocation.getArgument(0);
+            List<Room> rooms = new ArrayList<>();
+            ids.forEach(id -> rooms.add(Room.builder().id(id).name(id).build()));
+            return rooms;
+        });
+    }
+
+    @Test
+    @DisplayName("대소문자와 무관하게 부분 문자열이 일치하는 방을 정렬/페이지 순서대로 반환한다")
+    void search_MatchesSubstringIgnoringCase() {
+        index.add("r1", "Project Alpha", BASE.plusMinutes(1));
+        index.add("r2", "side PROJECT", BASE.plusMinutes(3));
+        index.add("r3", "프로젝트 논의방", BASE.plusMinutes(2));
+        index.add("r4", "projector room", BASE.plusMinutes(4));
+        index.add("r5", "random", BASE.plusMinutes(5));
+        index.markReady();
+
+        Page<Room> page = index.search("project", PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(Room::getId).containsExactly("r4", "r2");
+
+        Page<Room> next = index.search("project", PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt")));
+        assertThat(next.getContent()).extracting(Room::getId).containsExactly("r1");
+    }
+
+    @Test
+    @DisplayName("trigram 보다 짧은 검색어와 한글 검색어도 처리한다")
+    void search_HandlesShortAndKoreanKeywords() {
+        index.add("r1", "프로젝트 논의방", BASE);
+        index.add("r2", "자유 논의", BASE.plusMinutes(1));
+        index.add("r3", "공지", BASE.plusMinutes(2));
+        index.markReady();
+
+        assertThat(index.search("논의", PageRequest.of(0, 10, Sort.by("createdAt"))).getContent())
+                .extracting(Room::getId)
+                .containsExactly("r1", "r2");
+        assertThat(index.search("프로젝트", PageRequest.of(0, 10, Sort.by("createdAt"))).getContent())
+                .extracting(Room::getId)
+                .containsExactly("r1");
+        assertThat(index.search("없는방", PageRequest.of(0, 10, Sort.by("createdAt"))).getTotalElements())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("색인이 준비되기 전에는 기존 정규식 검색을 사용한다")
+    void search_FallsBackToRegexBeforeReady() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(roomRepository.findByNameContainingIgnoreCase("proj", pageable)).thenReturn(new PageImpl<>(List.of()));
+
+        index.search("proj", pageable);
+
+        verify(roomRepository).findByNameContainingIgnoreCase("proj", pageable);
+    }
+
+    @Test
+    @DisplayName("같은 방을 다시 추가해도 색인은 한 번만 반영된다")
+    void add_IsIdempotent() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        index = new TrigramRoomSearchIndex(roomRepository, mongoTemplate, new SimpleMeterRegistry());
+        index.add("r1", "alpha", BASE);
+        index.add("r1", "alpha", BASE);
+        index.markReady();
+
+        assertThat(index.search("alp", PageRequest.of(0, 10, Sort.by("name"))).getTotalElements()).isEqualTo(1);
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DualWriteSessionStore 단위 테스트")
+class DualWriteSessionStoreTest {
+
+    private SessionStore source;
+    private SessionStore target;
+    private DualWriteSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        source = mock(SessionStore.class);
+        target = mock(SessionStore.class);
+        store = new DualWriteSessionStore(source, target);
+    }
+
+    @Test
+    @DisplayName("target 에 이전 세션이 남아 있어도 source 의 현재 세션을 반환하고 target 을 덮어쓴다")
+    void findByUserId_TrustsSourceAndBackfillsStaleTarget() {
+        Session current = session("session-new");
+        when(source.findByUserId("user-1")).thenReturn(Optional.of(current));
+        when(target.findByUserId("user-1")).thenReturn(Optional.of(session("session-old")));
+
+        assertThat(store.findByUserId("user-1")).contains(current);
+        verify(target).save(current);
+    }
+
+    @Test
+    @DisplayName("target 이 source 와 같으면 다시 쓰지 않는다")
+    void findByUserId_SkipsBackfillWhenTargetMatches() {
+        when(source.findByUserId("user-1")).thenReturn(Optional.of(session("session-1")));
+        when(target.findByUserId("user-1")).thenReturn(Optional.of(session("session-1")));
+
+        store.findByUserId("user-1");
+
+        verify(target, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("source 에 없는 세션은 target 에 남아 있어도 반환하지 않고 지운다")
+    void findByUserId_RemovesSessionDeletedOnlyInSource() {
+        when(source.findByUserId("user-1")).thenReturn(Optional.empty());
+        when(target.findByUserId("user-1")).thenReturn(Optional.of(session("session-1")));
+
+        assertThat(store.findByUserId("user-1")).isEmpty();
+        verify(target).deleteAll("user-1");
+    }
+
+    @Test
+    @DisplayName("target 장애는 조회 결과에 영향을 주지 않는다")
+    void findByUserId_IgnoresTargetFailure() {
+        Session current = session("session-1");
+        when(source.findByUserId("user-1")).thenReturn(Optional.of(current));
+        doThrow(new IllegalStateException("redis down")).when(target).findByUserId("user-1");
+
+        assertThat(store.findByUserId("user-1")).contains(current);
+    }
+
+    @Test
+    @DisplayName("저장은 source 결과를 target 에도 쓴다")
+    void save_WritesBothStores() {
+        Session session = session("session-1");
+        when(source.save(session)).thenReturn(session);
+
+        store.save(session);
+
+        verify(target).save(session);
+    }
+
+    private Session session(String sessionId) {
+        return Session.builder()
+                .userId("user-1")
+                .sessionId(sessionId)
+                .lastActivity(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SessionRedisStore 의 Lua 스크립트(hash 교체 저장, 조건부 삭제, $max 방식 활동 갱신)를 실제 Redis 로 검증한다.
+ */
+@Testcontainers
+@DisplayName("SessionRedisStore 테스트")
+class SessionRedisStoreTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private SessionRedisStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        store = new SessionRedisStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("저장한 세션을 hash 에서 그대로 읽고, 만료 시각으로 native TTL 을 건다")
+    void save_RoundTripsHashAndSetsTtl() {
+        long now = System.currentTimeMillis();
+        Instant expiresAt = Instant.ofEpochMilli(now + 60_000);
+        store.save(session("user-1", "session-1", now, expiresAt,
+                new SessionMetadata("agent", "127.0.0.1", "desktop")));
+
+        Session loaded = store.findByUserId("user-1").orElseThrow();
+
+        assertThat(loaded.getUserId()).isEqualTo("user-1");
+        assertThat(loaded.getSessionId()).isEqualTo("session-1");
+        assertThat(loaded.getId()).isEqualTo("session-1");
+        assertThat(loaded.getLastActivity()).isEqualTo(now);
+        assertThat(loaded.getExpiresAt()).isEqualTo(expiresAt);
+        assertThat(loaded.getMetadata()).isEqualTo(new SessionMetadata("agent", "127.0.0.1", "desktop"));
+        assertThat(redisTemplate.getExpire(SessionRedisStore.KEY_PREFIX + "user-1")).isBetween(1L, 60L);
+    }
+
+    @Test
+    @DisplayName("다시 저장하면 이전 세션의 필드가 남지 않도록 hash 를 교체한다")
+    void save_ReplacesPreviousHash() {
+        long now = System.currentTimeMillis();
+        store.save(session("user-1", "session-1", now, null, new SessionMetadata("agent", "127.0.0.1", "desktop")));
+        store.save(session("user-1", "session-2", now, null, null));
+
+        Session loaded = store.findByUserId("user-1").orElseThrow();
+
+        assertThat(loaded.getSessionId()).isEqualTo("session-2");
+        assertThat(loaded.getMetadata()).isNull();
+    }
+
+    @Test
+    @DisplayName("조건부 삭제는 sessionId 가 일치할 때만 세션을 지운다")
+    void delete_RemovesOnlyMatchingSession() {
+        store.save(session("user-1", "session-1", System.currentTimeMillis(), null, null));
+
+        store.delete("user-1", "other-session");
+        assertThat(store.findByUserId("user-1")).isPresent();
+
+        store.delete("user-1", "session-1");
+        assertThat(store.findByUserId("user-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활동 갱신은 같은 세션의 더 최신 시각만 반영한다 ($max)")
+    void updateLastActivity_OnlyMovesForwardForSameSession() {
+        long now = System.currentTimeMillis();
+        store.save(session("user-1", "session-1", now, null, null));
+        store.save(session("user-2", "session-2", now, null, null));
+
+        Instant extended = Instant.ofEpochMilli(now + 120_000);
+        store.updateLastActivity(List.of(
+                new SessionActivity("user-1", "session-1", now + 1_000, extended),
+                new SessionActivity("user-2", "stale-session", now + 1_000, extended)));
+        store.updateLastActivity(List.of(
+                new SessionActivity("user-1", "session-1", now + 500, Instant.ofEpochMilli(now + 60_000))));
+
+        Session user1 = store.findByUserId("user-1").orElseThrow();
+        assertThat(user1.getLastActivity()).isEqualTo(now + 1_000);
+        assertThat(user1.getExpiresAt()).isEqualTo(extended);
+        assertThat(store.findByUserId("user-2").map(Session::getLastActivity)).isEqualTo(Optional.of(now));
+    }
+
+    private Session session(String userId, String sessionId, long lastActivity, Instant expiresAt,
+                            SessionMetadata metadata) {
+        return Session.builder()
+                .userId(userId)
+                .sessionId(sessionId)
+                .createdAt(lastActivity)
+                .lastActivity(lastActivity)
+                .expiresAt(expiresAt)
+                .metadata(metadata)
+                .build();
+    }
+}
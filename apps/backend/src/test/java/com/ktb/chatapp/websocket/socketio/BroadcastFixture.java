@@ -0,0 +1,44 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.config.SocketIOBroadcastProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 브로드캐스터 테스트 공용 준비물. room-1 로 보내는 프레임을 roomOperations 에서 확인한다.
+ */
+final class BroadcastFixture {
+
+    static final String ROOM_ID = "room-1";
+
+    final SocketIOServer socketIOServer = mock(SocketIOServer.class);
+    final BroadcastOperations roomOperations = mock(BroadcastOperations.class);
+    final SocketIOBroadcastProperties properties = new SocketIOBroadcastProperties();
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    BroadcastFixture() {
+        when(socketIOServer.getRoomOperations(ROOM_ID)).thenReturn(roomOperations);
+    }
+
+    /**
+     * window 가 끝나 event 프레임이 한 번 전송될 때까지 기다려 payload 를 돌려준다.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T awaitFrame(String event) {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(roomOperations, timeout(1000)).sendEvent(eq(event), payload.capture());
+        return (T) payload.getValue();
+    }
+
+    double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+}
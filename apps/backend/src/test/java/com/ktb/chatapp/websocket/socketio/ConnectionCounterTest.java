@@ -0,0 +1,75 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static com.ktb.chatapp.websocket.socketio.ConnectionCounter.COUNT_KEY;
+import static com.ktb.chatapp.websocket.socketio.ConnectionCounter.HEARTBEAT_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConnectionCounter 단위 테스트")
+class ConnectionCounterTest {
+
+    private HashOperations<String, Object, Object> hashOperations;
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        meterRegistry = new SimpleMeterRegistry();
+        counter = new ConnectionCounter(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(counter, "nodeTimeoutMs", 30_000L);
+    }
+
+    @Test
+    @DisplayName("이전 소켓의 해제는 교체된 활성 연결을 지우지 않는다")
+    void disconnected_IgnoresReplacedSocket() {
+        counter.connected("user-1", "socket-1");
+        counter.connected("user-1", "socket-2");
+        counter.connected("user-2", "socket-3");
+
+        counter.disconnected("user-1", "socket-1");
+        assertThat(counter.localSize()).isEqualTo(2);
+
+        counter.disconnected("user-1", "socket-2");
+        assertThat(counter.localSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("heartbeat 는 살아있는 다른 노드만 합산하고, 만료된 노드는 hash 에서 제거한다")
+    void heartbeat_SumsLiveNodesAndRemovesDeadOnes() {
+        long now = System.currentTimeMillis();
+        Map<Object, Object> counts = new HashMap<>(Map.of("node-alive", "7", "node-dead", "100"));
+        Map<Object, Object> heartbeats = new HashMap<>(Map.of(
+                "node-alive", String.valueOf(now),
+                "node-dead", String.valueOf(now - 60_000)));
+        when(hashOperations.entries(COUNT_KEY)).thenReturn(counts);
+        when(hashOperations.entries(HEARTBEAT_KEY)).thenReturn(heartbeats);
+
+        counter.connected("user-1", "socket-1");
+        counter.heartbeat();
+
+        assertThat(counter.clusterSize()).isEqualTo(8);
+        assertThat(meterRegistry.get("socketio.concurrent.users").gauge().value()).isEqualTo(8);
+        verify(hashOperations).put(eq(COUNT_KEY), any(), eq("1"));
+        verify(hashOperations).delete(COUNT_KEY, "node-dead");
+        verify(hashOperations).delete(HEARTBEAT_KEY, "node-dead");
+    }
+}
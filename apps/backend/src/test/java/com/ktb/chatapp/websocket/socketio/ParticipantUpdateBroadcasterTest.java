@@ -0,0 +1,88 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.ParticipantsDeltaResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.ktb.chatapp.websocket.socketio.BroadcastFixture.ROOM_ID;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.PARTICIPANTS_DELTA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ParticipantUpdateBroadcaster 단위 테스트")
+class ParticipantUpdateBroadcasterTest {
+
+    private final BroadcastFixture fixture = new BroadcastFixture();
+    private ParticipantUpdateBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 동안의 입장/퇴장은 사용자별 마지막 상태로 병합되어 방마다 한 프레임으로 전송된다")
+    void submit_MergesChangesWithinWindow() {
+        broadcaster = create(Duration.ofMillis(50));
+
+        broadcaster.joined(ROOM_ID, user("user-1"), 11);
+        broadcaster.joined(ROOM_ID, user("user-2"), 12);
+        broadcaster.left(ROOM_ID, "user-3", 11);
+        broadcaster.left(ROOM_ID, "user-2", 10);
+
+        ParticipantsDeltaResponse delta = fixture.awaitFrame(PARTICIPANTS_DELTA);
+        assertThat(delta.getAdded()).extracting(UserResponse::getId).containsExactly("user-1");
+        assertThat(delta.getRemoved()).containsExactly("user-3", "user-2");
+        assertThat(delta.getParticipantCount()).isEqualTo(10);
+        assertThat(fixture.counter("socketio.participants_broadcast.frames")).isEqualTo(1);
+        assertThat(fixture.counter("socketio.participants_broadcast.bytes.saved")).isPositive();
+    }
+
+    @Test
+    @DisplayName("window 가 0 이면 변경마다 바로 delta 프레임을 보낸다")
+    void submit_SendsImmediatelyWhenWindowDisabled() {
+        broadcaster = create(Duration.ZERO);
+
+        broadcaster.left(ROOM_ID, "user-1", 0);
+
+        ParticipantsDeltaResponse delta = fixture.awaitFrame(PARTICIPANTS_DELTA);
+        assertThat(delta.getRemoved()).containsExactly("user-1");
+    }
+
+    @Test
+    @DisplayName("입장을 한 번도 보지 않은 노드도 퇴장 프레임의 절감량을 대표 사용자 크기로 추정한다")
+    void submit_EstimatesSavingsBeforeFirstJoin() {
+        broadcaster = create(Duration.ZERO);
+
+        broadcaster.left(ROOM_ID, "user-1", 10);
+
+        assertThat(fixture.counter("socketio.participants_broadcast.bytes.saved")).isPositive();
+    }
+
+    @Test
+    @DisplayName("delta 크기는 다시 직렬화하지 않고 추정하며 실제 직렬화 크기와 거의 같다")
+    void submit_EstimatesDeltaBytesWithoutSerializing() throws Exception {
+        broadcaster = create(Duration.ZERO);
+
+        broadcaster.joined(ROOM_ID, user("user-1"), 2);
+
+        ParticipantsDeltaResponse delta = fixture.awaitFrame(PARTICIPANTS_DELTA);
+        int actualBytes = new ObjectMapper().writeValueAsBytes(delta).length;
+        assertThat(fixture.counter("socketio.participants_broadcast.bytes"))
+                .isCloseTo(actualBytes, within(5.0));
+    }
+
+    private ParticipantUpdateBroadcaster create(Duration window) {
+        fixture.properties.setParticipantsWindow(window);
+        return new ParticipantUpdateBroadcaster(
+                fixture.socketIOServer, fixture.properties, new ObjectMapper(), fixture.meterRegistry);
+    }
+
+    private UserResponse user(String id) {
+        return UserResponse.builder().id(id).name(id).email(id + "@example.com").profileImage("").build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.MessageReactionDeltaResponse;
+import com.ktb.chatapp.dto.ReactionDelta;
+import com.ktb.chatapp.service.message.ReactionChange;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.ktb.chatapp.websocket.socketio.BroadcastFixture.ROOM_ID;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE_REACTION_DELTA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ReactionBroadcaster 단위 테스트")
+class ReactionBroadcasterTest {
+
+    private final BroadcastFixture fixture = new BroadcastFixture();
+    private ReactionBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        fixture.properties.setReactionWindow(Duration.ofMillis(50));
+        broadcaster = new ReactionBroadcaster(fixture.socketIOServer, fixture.properties, fixture.meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 동안의 변경은 메시지당 한 프레임으로, 리액션별 최신 개수와 추가/제거 사용자만 전송한다")
+    void submit_MergesChangesPerMessage() {
+        broadcaster.submit(change("user-1", "👍", true, 1, 1));
+        broadcaster.submit(change("user-2", "👍", true, 2, 2));
+        broadcaster.submit(change("user-3", "❤️", true, 1, 3));
+        broadcaster.submit(change("user-1", "👍", false, 1, 4));
+
+        MessageReactionDeltaResponse response = fixture.awaitFrame(MESSAGE_REACTION_DELTA);
+        assertThat(response.getMessageId()).isEqualTo("message-1");
+        assertThat(response.getDeltas())
+                .extracting(ReactionDelta::getReaction, ReactionDelta::getCount,
+                        ReactionDelta::getAdded, ReactionDelta::getRemoved)
+                .containsExactly(
+                        tuple("👍", 1, List.of("user-2"), List.of("user-1")),
+                        tuple("❤️", 1, List.of("user-3"), List.of()));
+        assertThat(fixture.counter("socketio.reaction_broadcast.frames")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("늦게 병합된 이전 상태의 개수는 최신 개수를 덮어쓰지 않는다")
+    void submit_KeepsLatestCount() {
+        broadcaster.submit(change("user-2", "👍", true, 2, 2));
+        broadcaster.submit(change("user-1", "👍", true, 1, 1));
+
+        MessageReactionDeltaResponse response = fixture.awaitFrame(MESSAGE_REACTION_DELTA);
+        assertThat(response.getDeltas()).singleElement()
+                .satisfies(delta -> assertThat(delta.getCount()).isEqualTo(2));
+    }
+
+    private static ReactionChange change(String userId, String reaction, boolean added, int count, long version) {
+        return new ReactionChange("message-1", ROOM_ID, reaction, userId, added, count, true, version);
+    }
+}
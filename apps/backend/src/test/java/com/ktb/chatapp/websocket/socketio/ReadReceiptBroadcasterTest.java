@@ -0,0 +1,61 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.MessagesReadBatchResponse;
+import com.ktb.chatapp.dto.MessagesReadResponse;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.ktb.chatapp.websocket.socketio.BroadcastFixture.ROOM_ID;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_READ_BATCH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ReadReceiptBroadcaster 단위 테스트")
+class ReadReceiptBroadcasterTest {
+
+    private final BroadcastFixture fixture = new BroadcastFixture();
+    private ReadReceiptBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 동안의 읽음 이벤트는 사용자별로 병합되어 방마다 한 프레임으로 전송된다")
+    void submit_MergesEventsWithinWindow() {
+        fixture.properties.setReadWindow(Duration.ofMillis(50));
+        broadcaster = new ReadReceiptBroadcaster(fixture.socketIOServer, fixture.properties, fixture.meterRegistry);
+
+        broadcaster.submit(ROOM_ID, "user-1", List.of("m1", "m2"));
+        broadcaster.submit(ROOM_ID, "user-2", List.of("m1"));
+        broadcaster.submit(ROOM_ID, "user-1", List.of("m2", "m3"));
+
+        MessagesReadBatchResponse batch = fixture.awaitFrame(MESSAGES_READ_BATCH);
+        assertThat(batch.getUpdates())
+                .extracting(MessagesReadResponse::getUserId, MessagesReadResponse::getMessageIds)
+                .containsExactly(
+                        tuple("user-1", List.of("m1", "m2", "m3")),
+                        tuple("user-2", List.of("m1")));
+        assertThat(fixture.counter("socketio.read_broadcast.frames")).isEqualTo(1);
+        assertThat(fixture.counter("socketio.read_broadcast.frames.saved")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("window 가 0 이면 이벤트마다 기존 MESSAGES_READ 로 바로 전송한다")
+    void submit_SendsImmediatelyWhenWindowDisabled() {
+        fixture.properties.setReadWindow(Duration.ZERO);
+        broadcaster = new ReadReceiptBroadcaster(fixture.socketIOServer, fixture.properties, fixture.meterRegistry);
+
+        broadcaster.submit(ROOM_ID, "user-1", List.of("m1"));
+
+        verify(fixture.roomOperations).sendEvent(eq(MESSAGES_READ), any(MessagesReadResponse.class));
+    }
+}
@@ -0,0 +1,73 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.config.SocketIODispatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RoomOrderedExecutor 단위 테스트")
+class RoomOrderedExecutorTest {
+
+    private RoomOrderedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        SocketIODispatchProperties properties = new SocketIODispatchProperties();
+        properties.setRoomLanes(4);
+        executor = new RoomOrderedExecutor(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 방의 작업은 동시에 요청돼도 발급 순서와 처리 순서가 일치한다")
+    void execute_SerializesTasksWithinRoom() throws InterruptedException {
+        AtomicLong sequence = new AtomicLong();
+        List<Long> broadcastOrder = new CopyOnWriteArrayList<>();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                callers.submit(() -> executor.execute("room-1", () -> {
+                    long seq = sequence.incrementAndGet();
+                    broadcastOrder.add(seq);
+                    return seq;
+                }));
+            }
+            callers.shutdown();
+            assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(broadcastOrder).hasSize(200).isSorted();
+    }
+
+    @Test
+    @DisplayName("작업 결과를 반환하고 예외는 호출자에게 그대로 전달한다")
+    void execute_ReturnsResultAndPropagatesException() {
+        assertThat(executor.execute("room-1", () -> "ok")).isEqualTo("ok");
+
+        assertThatThrownBy(() -> executor.execute("room-1", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    }
+
+    @Test
+    @DisplayName("같은 roomId 는 항상 같은 lane 으로 배정된다")
+    void laneIndex_IsStablePerRoom() {
+        assertThat(executor.laneIndex("room-1")).isEqualTo(executor.laneIndex("room-1"));
+        assertThat(executor.laneIndex("room-1")).isBetween(0, 3);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ktb.chatapp.config.SocketIODispatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SocketIOEventDispatcher 단위 테스트")
+class SocketIOEventDispatcherTest {
+
+    private SocketIOEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 소켓의 이벤트는 도착 순서대로 하나씩 처리한다")
+    void dispatch_PreservesPerSocketOrder() throws InterruptedException {
+        dispatcher = new SocketIOEventDispatcher(new SocketIODispatchProperties(), new SimpleMeterRegistry());
+        SocketIOClient client = client();
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            int seq = i;
+            dispatcher.dispatch(client, "chatMessage", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                processed.add(seq);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 소켓의 이벤트는 병렬로 처리되며 동시 실행 수는 상한을 넘지 않는다")
+    void dispatch_CapsConcurrencyAcrossSockets() throws InterruptedException {
+        SocketIODispatchProperties properties = new SocketIODispatchProperties();
+        properties.setMaxConcurrency(2);
+        dispatcher = new SocketIOEventDispatcher(properties, new SimpleMeterRegistry());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(6);
+
+        for (int i = 0; i < 6; i++) {
+            dispatcher.dispatch(client(), "joinRoom", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(50);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 호출 스레드에서 바로 실행한다")
+    void dispatch_RunsInlineWhenDisabled() {
+        SocketIODispatchProperties properties = new SocketIODispatchProperties();
+        properties.setEnabled(false);
+        dispatcher = new SocketIOEventDispatcher(properties, new SimpleMeterRegistry());
+        Thread caller = Thread.currentThread();
+        Thread[] executed = new Thread[1];
+
+        dispatcher.dispatch(client(), "chatMessage", () -> executed[0] = Thread.currentThread());
+
+        assertThat(executed[0]).isSameAs(caller);
+    }
+
+    private SocketIOClient client() {
+        SocketIOClient client = mock(SocketIOClient.class);
+        when(client.getSessionId()).thenReturn(UUID.randomUUID());
+        return client;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
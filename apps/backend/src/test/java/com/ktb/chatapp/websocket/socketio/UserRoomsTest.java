@@ -0,0 +1,86 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserRooms 단위 테스트 (LocalChatDataStore)")
+class UserRoomsTest {
+
+    private LocalChatDataStore chatDataStore;
+    private UserRooms userRooms;
+
+    @BeforeEach
+    void setUp() {
+        chatDataStore = new LocalChatDataStore();
+        userRooms = new UserRooms(chatDataStore);
+    }
+
+    @Test
+    @DisplayName("방 추가/제거/포함 여부는 집합 연산으로 처리되고, 마지막 방이 빠지면 키도 제거된다")
+    void addRemoveAndMembership() {
+        userRooms.add("user-1", "room-1");
+        userRooms.add("user-1", "room-2");
+        userRooms.add("user-1", "room-1");
+
+        assertThat(userRooms.get("user-1")).containsExactlyInAnyOrder("room-1", "room-2");
+        assertThat(userRooms.isInRoom("user-1", "room-1")).isTrue();
+        assertThat(userRooms.isInRoom("user-1", "room-3")).isFalse();
+
+        userRooms.remove("user-1", "room-1");
+        userRooms.remove("user-1", "room-2");
+
+        assertThat(userRooms.get("user-1")).isEmpty();
+        assertThat(chatDataStore.sismember("userroom:roomset:user-1", "room-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 여러 방에 입장해도 읽고-복사-쓰기 경합 없이 모든 방이 남는다")
+    void add_LosesNothingUnderContention() throws Exception {
+        int rooms = 200;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            IntStream.range(0, rooms).forEach(i -> executor.submit(() -> {
+                start.await();
+                userRooms.add("user-1", "room-" + i);
+                return null;
+            }));
+            start.countDown();
+        }
+
+        assertThat(userRooms.get("user-1")).hasSize(rooms);
+    }
+
+    @Test
+    @DisplayName("입장과 퇴장이 겹쳐도 빈 집합 정리 때문에 새로 추가한 방이 사라지지 않는다")
+    void addAndRemove_DoNotDropConcurrentAdds() throws Exception {
+        int iterations = 1_000;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    userRooms.add("user-1", "room-a");
+                    userRooms.remove("user-1", "room-a");
+                }
+                return null;
+            });
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    userRooms.add("user-1", "room-b-" + i);
+                }
+                return null;
+            });
+            start.countDown();
+        }
+
+        assertThat(userRooms.get("user-1")).hasSize(iterations).doesNotContain("room-a");
+    }
+}
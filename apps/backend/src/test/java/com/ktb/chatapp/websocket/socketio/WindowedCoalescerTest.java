@@ -0,0 +1,113 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("WindowedCoalescer 단위 테스트")
+class WindowedCoalescerTest {
+
+    private final AtomicReference<Duration> window = new AtomicReference<>(Duration.ofMillis(50));
+    private final BlockingQueue<Frame> frames = new LinkedBlockingQueue<>();
+    private SimpleMeterRegistry meterRegistry;
+    private WindowedCoalescer<String, List<String>> coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new WindowedCoalescer<>("test", window::get,
+                (key, batch, events) -> frames.add(new Frame(key, batch, events)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("window 동안의 변경은 키마다 한 배치로 병합되어 한 번 전송된다")
+    void submit_MergesPerKeyWithinWindow() throws InterruptedException {
+        submit("a", "1");
+        submit("b", "2");
+        submit("a", "3");
+
+        List<Frame> sent = List.of(poll(), poll());
+        assertThat(sent).extracting(Frame::key, Frame::batch, Frame::events)
+                .containsExactlyInAnyOrder(
+                        tuple("a", List.of("1", "3"), 2),
+                        tuple("b", List.of("2"), 1));
+        assertThat(meterRegistry.counter("socketio.test_broadcast.events").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("socketio.test_broadcast.frames").count()).isEqualTo(2);
+        assertThat(meterRegistry.summary("socketio.test_broadcast.batch.size").totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("flush 이후 들어온 변경은 새 배치로 다음 window 에 전송된다")
+    void submit_AfterFlush_StartsNextWindow() throws InterruptedException {
+        submit("a", "1");
+        assertThat(poll().batch()).containsExactly("1");
+
+        submit("a", "2");
+        assertThat(poll().batch()).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("전송이 실패해도 다음 window 는 계속 전송된다")
+    void flush_FailureDoesNotStopNextWindow() throws InterruptedException {
+        coalescer.shutdown();
+        coalescer = new WindowedCoalescer<>("test", window::get, (key, batch, events) -> {
+            if (batch.contains("fail")) {
+                throw new IllegalStateException("send failed");
+            }
+            frames.add(new Frame(key, batch, events));
+        }, meterRegistry);
+
+        submit("a", "fail");
+        TimeUnit.MILLISECONDS.sleep(150);
+        submit("a", "ok");
+
+        assertThat(poll().batch()).containsExactly("ok");
+    }
+
+    @Test
+    @DisplayName("window 가 0 이면 변경마다 호출한 스레드에서 바로 전송하고 실패를 그대로 던진다")
+    void submit_SendsImmediatelyWhenWindowDisabled() {
+        window.set(Duration.ZERO);
+
+        submit("a", "1");
+        assertThat(frames).singleElement()
+                .satisfies(frame -> assertThat(frame.batch()).containsExactly("1"));
+
+        coalescer.shutdown();
+        coalescer = new WindowedCoalescer<>("test", window::get, (key, batch, events) -> {
+            throw new IllegalStateException("send failed");
+        }, meterRegistry);
+        assertThatThrownBy(() -> submit("a", "2")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private void submit(String key, String change) {
+        coalescer.submit(key, ArrayList::new, batch -> batch.add(change));
+    }
+
+    private Frame poll() throws InterruptedException {
+        Frame frame = frames.poll(1, TimeUnit.SECONDS);
+        assertThat(frame).isNotNull();
+        return frame;
+    }
+
+    private record Frame(String key, List<String> batch, int events) {
+    }
+}
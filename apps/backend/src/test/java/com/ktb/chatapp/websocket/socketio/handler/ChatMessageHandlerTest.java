@@ -1,16 +1,13 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.dto.ChatMessageRequest;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.*;
 import com.ktb.chatapp.util.BannedWordChecker;
+import com.ktb.chatapp.websocket.socketio.RoomMessagePublisher;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -33,10 +30,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ChatMessageHandlerTest {
 
-    @Mock private SocketIOServer socketIOServer;
-    @Mock private MessageRepository messageRepository;
-    @Mock private RoomRepository roomRepository;
-    @Mock private UserRepository userRepository;
+    @Mock private RoomMessagePublisher roomMessagePublisher;
+    @Mock private RoomMembershipCache roomMembershipCache;
+    @Mock private UserCacheService userCacheService;
     @Mock private FileRepository fileRepository;
     @Mock private AiService aiService;
     @Mock private SessionService sessionService;
@@ -50,10 +46,9 @@ class ChatMessageHandlerTest {
     void setUp() {
         handler =
                 new ChatMessageHandler(
-                        socketIOServer,
-                        messageRepository,
-                        roomRepository,
-                        userRepository,
+                        roomMessagePublisher,
+                        roomMembershipCache,
+                        userCacheService,
                         fileRepository,
                         aiService,
                         sessionService,
@@ -73,17 +68,17 @@ class ChatMessageHandlerTest {
                 .thenReturn(validResult);
 
         RateLimitCheckResult allowedResult = RateLimitCheckResult.allowed(10000, 9999, 60, System.currentTimeMillis() / 1000 + 60, 60);
-        when(rateLimitService.checkRateLimit(eq(socketUser.id()), anyInt(), any()))
+        when(rateLimitService.checkRateLimit(eq(socketUser.id()), anyInt(), any(), any()))
                 .thenReturn(allowedResult);
 
         User user = new User();
         user.setId("user-1");
-        when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
+        when(userCacheService.getUser("user-1")).thenReturn(Optional.of(user));
 
         Room room = new Room();
         room.setId("room-1");
         room.setParticipantIds(new HashSet<>(java.util.List.of("user-1")));
-        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        when(roomMembershipCache.getRoom("room-1")).thenReturn(Optional.of(RoomMembershipCache.CachedRoom.from(room)));
 
         ChatMessageRequest request =
                 ChatMessageRequest.builder()
@@ -100,7 +95,6 @@ class ChatMessageHandlerTest {
         verify(client).sendEvent(eq(ERROR), payloadCaptor.capture());
         Map<String, String> payload = payloadCaptor.getValue();
         org.junit.jupiter.api.Assertions.assertEquals("MESSAGE_REJECTED", payload.get("code"));
-        verifyNoInteractions(messageRepository);
-        verify(socketIOServer, never()).getRoomOperations(any());
+        verifyNoInteractions(roomMessagePublisher);
     }
 }
@@ -11,8 +11,12 @@ import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.FileCacheService;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.UserCacheService;
+import com.ktb.chatapp.service.message.RecentMessageCache;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.AfterEach;
@@ -26,7 +30,7 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 
@@ -50,6 +54,12 @@ class MessageLoaderIntegrationTest {
     @Autowired
     private FileCacheService fileCacheService;
 
+    @Autowired
+    private UserCacheService userCacheService;
+
+    @Autowired
+    private RecentMessageCache recentMessageCache;
+
     @MockitoSpyBean
     private MessageReadStatusService messageReadStatusService;
 
@@ -67,10 +77,11 @@ class MessageLoaderIntegrationTest {
         // MessageLoader 인스턴스 생성
         messageLoader = new MessageLoader(
                 messageRepository,
-                userRepository,
+                userCacheService,
                 new MessageResponseMapper(),
                 fileCacheService,
-                messageReadStatusService
+                messageReadStatusService,
+                recentMessageCache
         );
 
         // 테스트 사용자 생성 및 저장
@@ -82,7 +93,8 @@ class MessageLoaderIntegrationTest {
         userRepository.save(testUser);
 
         // MessageReadStatusService mock 설정
-        doNothing().when(messageReadStatusService).updateReadStatus(anyList(), anyString());
+        doNothing().when(messageReadStatusService)
+                .updateReadStatus(anyString(), any(LocalDateTime.class), anyString());
     }
 
     @AfterEach
@@ -183,12 +195,43 @@ class MessageLoaderIntegrationTest {
         assertThat(response.isHasMore()).isFalse();
     }
 
+    @Test
+    @DisplayName("같은 timestamp 를 가진 메시지도 cursor 로 누락/중복 없이 순차 로드")
+    void loadMessages_withCursor_shouldNotSkipMessagesSharingTimestamp() {
+        // Given: 70개 메시지가 모두 같은 timestamp 를 가짐
+        LocalDateTime sameTime = LocalDateTime.now().withNano(0);
+        List<String> savedIds = IntStream.range(0, 70)
+                .mapToObj(i -> createAndSaveMessage(sameTime).getId())
+                .toList();
+
+        // When: nextCursor 를 따라 끝까지 로드
+        Set<String> loadedIds = new HashSet<>();
+        FetchMessagesResponse response = messageLoader.loadMessages(new FetchMessagesRequest(roomId, 30, null), userId);
+        response.getMessages().forEach(message -> loadedIds.add(message.getId()));
+        int pages = 1;
+        while (response.isHasMore()) {
+            response = messageLoader.loadMessages(
+                    new FetchMessagesRequest(roomId, 30, null, response.getNextCursor()), userId);
+            response.getMessages().forEach(message -> assertThat(loadedIds.add(message.getId())).isTrue());
+            pages++;
+        }
+
+        // Then: 30 + 30 + 10 개가 모두 한 번씩 로드됨
+        assertThat(pages).isEqualTo(3);
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(loadedIds).containsExactlyInAnyOrderElementsOf(savedIds);
+    }
+
     private Message createAndSaveMessage() {
+        return createAndSaveMessage(LocalDateTime.now());
+    }
+
+    private Message createAndSaveMessage(LocalDateTime timestamp) {
         Message message = new Message();
         message.setRoomId(roomId);
         message.setSenderId(userId);
         message.setContent(faker.lorem().sentence(10));
-        message.setTimestamp(LocalDateTime.now());
+        message.setTimestamp(timestamp);
         message.setIsDeleted(false);
         return messageRepository.save(message);
     }
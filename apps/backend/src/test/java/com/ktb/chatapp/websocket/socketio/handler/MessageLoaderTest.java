@@ -3,13 +3,17 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageSummary;
+import com.ktb.chatapp.model.RoomReadState;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.FileCacheService;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.UserCacheService;
+import com.ktb.chatapp.service.message.RecentMessageCache;
 import net.datafaker.Faker;
+import org.bson.types.ObjectId;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,11 +22,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,7 +41,7 @@ class MessageLoaderTest {
     private MessageRepository messageRepository;
     
     @Mock
-    private UserRepository userRepository;
+    private UserCacheService userCacheService;
     
     @Mock
     private FileRepository fileRepository;
@@ -46,6 +51,9 @@ class MessageLoaderTest {
     
     @Mock
     private MessageReadStatusService messageReadStatusService;
+
+    @Mock
+    private RecentMessageCache recentMessageCache;
     
     @InjectMocks
     private MessageLoader messageLoader;
@@ -63,10 +71,11 @@ class MessageLoaderTest {
         
         messageLoader = new MessageLoader(
                 messageRepository,
-                userRepository,
+                userCacheService,
                 new MessageResponseMapper(),
                 fileCacheService,
-                messageReadStatusService
+                messageReadStatusService,
+                recentMessageCache
         );
         
         var testUser = User.builder()
@@ -79,14 +88,15 @@ class MessageLoaderTest {
         // i=0: 50시간 전, i=1: 49시간 전, ... i=49: 1시간 전
         testMessages = IntStream.range(0, 50)
                 .mapToObj(i -> createMessage(
-                        faker.internet().uuid(),
+                        new ObjectId().toHexString(),
                         LocalDateTime.now().minusHours(50 - i)
                 ))
                 .toList();
         
-        lenient().when(userRepository.findAllById(anySet()))
-                .thenReturn(List.of(testUser));
-        lenient().doNothing().when(messageReadStatusService).updateReadStatus(anyList(), anyString());
+        lenient().when(userCacheService.getUsers(anyCollection()))
+                .thenReturn(Map.of(userId, testUser));
+        lenient().doNothing().when(messageReadStatusService)
+                .updateReadStatus(anyString(), any(LocalDateTime.class), anyString());
     }
     
     private Message createMessage(String id, LocalDateTime timestamp) {
@@ -103,15 +113,16 @@ class MessageLoaderTest {
     @Test
     @DisplayName("loadMessages: 내림차순 조회 후 오름차순 재정렬")
     void loadMessages_shouldReturnAscendingOrderAfterReversing() {
-        // Given: testMessages[0~29] (50시간 전 ~ 21시간 전) - 오름차순 상태
-        List<Message> first30Messages = testMessages.subList(0, 30);
+        // Given: testMessages[0~30] (50시간 전 ~ 20시간 전) - 오름차순 상태
+        // limit+1 개가 조회되면 다음 페이지가 있는 것으로 판단한다
+        List<Message> first31Messages = testMessages.subList(0, 31);
         
         // DB는 DESC 정렬로 반환한다고 가정 (최신 것 먼저)
-        // [21시간 전, 22시간 전, ..., 50시간 전]
-        var messagePage = getMessagePage(first30Messages);
+        // [20시간 전, 21시간 전, ..., 50시간 전]
+        var messagePage = getMessagePage(first31Messages);
         
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findSummaryPageBefore(
+                eq(roomId), any(LocalDateTime.class), eq(31)))
                 .thenReturn(messagePage);
         
         // When: 메시지 로드
@@ -121,18 +132,15 @@ class MessageLoaderTest {
         // Then: 결과는 오름차순으로 정렬되어야 함
         assertThat(result.getMessages()).hasSize(30);
         assertThat(result.isHasMore()).isTrue();
+        assertThat(result.getNextCursor()).isNotNull();
         
         // 시간순 정렬 확인 (오름차순: 오래된 것 → 최신 것)
         // [50시간 전, 49시간 전, ..., 21시간 전]
         verifyAscending(result);
     }
     
-    private static @NotNull Page<Message> getMessagePage(List<Message> first30Messages) {
-        List<Message> messages = new ArrayList<>(first30Messages.reversed());
-        
-        Pageable pageable = PageRequest.of(0, 30, Sort.by("timestamp").descending());
-        Page<Message> messagePage = new PageImpl<>(messages, pageable, 50);
-        return messagePage;
+    private static @NotNull List<MessageSummary> getMessagePage(List<Message> ascendingMessages) {
+        return new ArrayList<>(ascendingMessages.reversed().stream().map(MessageSummary::from).toList());
     }
     
     @Test
@@ -143,10 +151,10 @@ class MessageLoaderTest {
         
         // DB는 DESC 정렬로 반환 (최신 것부터)
         // [1시간 전, 2시간 전, ..., 30시간 전]
-        Page<Message> messagePage = getMessagePage(last30Messages);
+        List<MessageSummary> messagePage = getMessagePage(last30Messages);
         
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findSummaryPageBefore(
+                eq(roomId), any(LocalDateTime.class), anyInt()))
                 .thenReturn(messagePage);
         
         // When: 초기 메시지 로드
@@ -155,6 +163,8 @@ class MessageLoaderTest {
         
         // Then: 결과는 오름차순으로 정렬되어야 함
         assertThat(result.getMessages()).hasSize(30);
+        assertThat(result.isHasMore()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
         
         // 시간순 정렬 확인 (오름차순: 오래된 것 → 최신 것)
         // [30시간 전, 29시간 전, ..., 1시간 전]
@@ -169,11 +179,67 @@ class MessageLoaderTest {
         }
     }
     
+    @Test
+    @DisplayName("loadMessages: 최근 메시지 캐시에 있으면 Mongo 를 조회하지 않는다")
+    void loadMessages_shouldServeFromRecentMessageCache() {
+        List<MessageSummary> cachedPage = getMessagePage(testMessages.subList(19, 50));
+        when(recentMessageCache.page(eq(roomId), isNull(), any(LocalDateTime.class), eq(30)))
+                .thenReturn(Optional.of(cachedPage));
+
+        FetchMessagesResponse result = messageLoader.loadMessages(new FetchMessagesRequest(roomId, 30, null), userId);
+
+        assertThat(result.getMessages()).hasSize(30);
+        assertThat(result.isHasMore()).isTrue();
+        verifyAscending(result);
+        verifyNoInteractions(messageRepository);
+        verify(recentMessageCache, never()).seed(any(), anyList(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("loadMessages: 최신 페이지를 Mongo 에서 조회하면 최근 메시지 캐시를 적재한다")
+    void loadMessages_shouldSeedRecentMessageCacheOnMiss() {
+        List<MessageSummary> messagePage = getMessagePage(testMessages.subList(30, 50));
+        when(messageRepository.findSummaryPageBefore(eq(roomId), any(LocalDateTime.class), anyInt()))
+                .thenReturn(messagePage);
+
+        messageLoader.loadMessages(new FetchMessagesRequest(roomId, 30, null), userId);
+
+        verify(recentMessageCache).seed(roomId, messagePage, true);
+    }
+
+    @Test
+    @DisplayName("loadMessages: 읽은 지점을 최신 메시지까지 올리고 reader 는 읽은 지점으로 계산한다")
+    void loadMessages_shouldDeriveReadersFromReadStates() {
+        List<Message> lastTwo = testMessages.subList(48, 50);
+        when(messageRepository.findSummaryPageBefore(eq(roomId), any(LocalDateTime.class), anyInt()))
+                .thenReturn(getMessagePage(lastTwo));
+        when(messageReadStatusService.getReadStates(roomId)).thenReturn(List.of(
+                readState("other-user", lastTwo.getFirst().getTimestamp()),
+                readState(userId, lastTwo.getLast().getTimestamp())));
+
+        FetchMessagesResponse result = messageLoader.loadMessages(new FetchMessagesRequest(roomId, 30, null), userId);
+
+        verify(messageReadStatusService).updateReadStatus(roomId, lastTwo.getLast().getTimestamp(), userId);
+        assertThat(result.getMessages()).hasSize(2);
+        assertThat(result.getMessages().getFirst().getReaderCount()).isEqualTo(2);
+        assertThat(result.getMessages().getLast().getReaders()).extracting(Message.MessageReader::getUserId)
+                .containsExactly(userId);
+    }
+
+    private RoomReadState readState(String readerId, LocalDateTime lastReadAt) {
+        return RoomReadState.builder()
+                .roomId(roomId)
+                .userId(readerId)
+                .lastReadAt(lastReadAt)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
     @Test
     @DisplayName("loadInitialMessages: 에러 시 빈 응답")
     void loadInitialMessages_shouldReturnEmptyOnError() {
-        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
-                any(), anyBoolean(), any(LocalDateTime.class), any(Pageable.class)))
+        when(messageRepository.findSummaryPageBefore(
+                any(), any(LocalDateTime.class), anyInt()))
                 .thenThrow(new RuntimeException("DB error"));
         
         FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
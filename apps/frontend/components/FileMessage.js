@@ -375,6 +375,7 @@ const FileMessage = ({
               messageType={msg.type}
               participants={room?.participants || []}
               readers={msg.readers || []}
+              readerCount={msg.readerCount}
               messageId={msg._id}
               messageRef={messageDomRef}
               currentUserId={currentUser?._id || currentUser?.id}
@@ -6,6 +6,7 @@ const ReadStatus = ({
   messageType = 'text',
   participants = [],
   readers = [],
+  readerCount = null, // 전체 읽은 인원 수 (히스토리 응답의 readers 는 일부만 포함될 수 있음)
   className = '',
   socketRef = null,
   messageId = null,
@@ -33,8 +34,12 @@ const ReadStatus = ({
     if (messageType === 'system') {
       return 0;
     }
+    // readers 가 잘려 있으면 명단 대신 전체 인원 수로 계산
+    if (readerCount != null && readerCount > readers.length) {
+      return Math.max(0, participants.length - readerCount);
+    }
     return unreadParticipants.length;
-  }, [unreadParticipants.length, messageType]);
+  }, [unreadParticipants.length, messageType, readerCount, readers.length, participants.length]);
 
   // 메시지를 읽음으로 표시하는 함수
   const markMessageAsRead = useCallback(async () => {
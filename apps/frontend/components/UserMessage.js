@@ -82,6 +82,7 @@ const UserMessage = ({
               messageType={msg.type}
               participants={room?.participants || []}
               readers={msg.readers || []}
+              readerCount={msg.readerCount}
               messageId={msg._id}
               messageRef={messageDomRef}
               currentUserId={currentUser?._id || currentUser?.id}
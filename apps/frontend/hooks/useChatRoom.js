@@ -37,6 +37,8 @@ export const useChatRoom = () => {
   const mountedRef = useRef(true);
   const initializingRef = useRef(false);
   const setupCompleteRef = useRef(false);
+  // 이전 메시지 조회용 keyset 커서 (서버 응답의 nextCursor)
+  const nextCursorRef = useRef(null);
   const socketInitializedRef = useRef(false);
   const cleanupInProgressRef = useRef(false);
   const cleanupCountRef = useRef(0);
@@ -80,7 +82,7 @@ export const useChatRoom = () => {
     getFilteredParticipants,
     insertMention,
     removeFilePreview
-  } = useMessageHandling(socketRef, currentUser, router, undefined, messages, loadingMessages, setLoadingMessages);
+  } = useMessageHandling(socketRef, currentUser, router, undefined, messages, loadingMessages, setLoadingMessages, nextCursorRef);
 
   // Cleanup 함수 수정
   const cleanup = useCallback((reason = 'MANUAL') => {
@@ -104,8 +106,11 @@ export const useChatRoom = () => {
         socketRef.current.off('previousMessages');
         socketRef.current.off('previousMessagesLoaded');
         socketRef.current.off('participantsUpdate');
+        socketRef.current.off('participantsDelta');
         socketRef.current.off('messagesRead');
+        socketRef.current.off('messagesReadBatch');
         socketRef.current.off('messageReactionUpdate');
+        socketRef.current.off('messageReactionDelta');
         socketRef.current.off('session_ended');
         socketRef.current.off('error');
       }
@@ -120,6 +125,7 @@ export const useChatRoom = () => {
       processedMessageIds.current.clear();
       previousMessagesRef.current.clear();
       messageProcessingRef.current = false;
+      nextCursorRef.current = null;
 
       // Reset states only if needed
       if (reason === 'MANUAL' && mountedRef.current) {
@@ -163,16 +169,19 @@ export const useChatRoom = () => {
   const {
     handleReactionAdd,
     handleReactionRemove,
-    handleReactionUpdate
+    handleReactionUpdate,
+    handleReactionDelta
   } = useReactionHandling(socketRef, currentUser, messages, setMessages);
 
   // 메시지 처리 유틸리티 함수
-  const processMessages = useCallback((loadedMessages, hasMore, isInitialLoad = false) => {
+  const processMessages = useCallback((loadedMessages, hasMore, isInitialLoad = false, nextCursor = null) => {
     try {
       if (!Array.isArray(loadedMessages)) {
         throw new Error('Invalid messages format');
       }
 
+      nextCursorRef.current = hasMore ? nextCursor : null;
+
       setMessages(prev => {
         // 중복 메시지 필터링 개선
         const newMessages = loadedMessages.filter(msg => {
@@ -219,11 +228,25 @@ export const useChatRoom = () => {
       }));
     });
 
-    // 읽음 상태 업데이트 이벤트 (메시지 목록의 readers 배열 업데이트)
-    socketRef.current.on('messagesRead', ({ userId, messageIds, timestamp }) => {
+    // 서버가 window 동안 모은 입장/퇴장 변경분 (사용자별 마지막 상태)
+    socketRef.current.on('participantsDelta', ({ added = [], removed = [] }) => {
       if (!mountedRef.current) return;
+      setRoom(prev => {
+        if (!prev) return prev;
+        const changedIds = new Set([...removed, ...added.map(user => user.id)]);
+        return {
+          ...prev,
+          participants: [
+            ...(prev.participants || []).filter(user => !changedIds.has(user.id || user._id)),
+            ...added
+          ]
+        };
+      });
+    });
 
-      setMessages(prev => prev.map(msg => {
+    // 읽음 상태 업데이트 (메시지 목록의 readers 배열 업데이트)
+    const applyReadUpdate = (messages, { userId, messageIds }, timestamp) =>
+      messages.map(msg => {
         // 해당 메시지가 읽음 처리된 메시지인지 확인
         if (messageIds.includes(msg._id)) {
           // 이미 읽은 사용자인지 확인
@@ -237,12 +260,28 @@ export const useChatRoom = () => {
               readers: [
                 ...(msg.readers || []),
                 { userId, readAt: timestamp || new Date() }
-              ]
+              ],
+              readerCount: (msg.readerCount ?? msg.readers?.length ?? 0) + 1
             };
           }
         }
         return msg;
-      }));
+      });
+
+    socketRef.current.on('messagesRead', ({ userId, messageIds, timestamp }) => {
+      if (!mountedRef.current) return;
+
+      setMessages(prev => applyReadUpdate(prev, { userId, messageIds }, timestamp));
+    });
+
+    // 서버가 window 동안 모은 읽음 이벤트를 한 프레임으로 보낸 경우
+    socketRef.current.on('messagesReadBatch', ({ updates, timestamp }) => {
+      if (!mountedRef.current || !updates?.length) return;
+
+      setMessages(prev => updates.reduce(
+        (messages, update) => applyReadUpdate(messages, update, timestamp),
+        prev
+      ));
     });
 
     // 메시지 이벤트
@@ -276,10 +315,10 @@ export const useChatRoom = () => {
           throw new Error('Invalid response format');
         }
 
-        const { messages: loadedMessages = [], hasMore } = response;
+        const { messages: loadedMessages = [], hasMore, nextCursor } = response;
         const isInitialLoad = messages.length === 0;
 
-        processMessages(loadedMessages, hasMore, isInitialLoad);
+        processMessages(loadedMessages, hasMore, isInitialLoad, nextCursor);
         setLoadingMessages(false);
 
       } catch (error) {
@@ -300,6 +339,11 @@ export const useChatRoom = () => {
       handleReactionUpdate(data);
     });
 
+    socketRef.current.on('messageReactionDelta', (data) => {
+      if (!mountedRef.current) return;
+      handleReactionDelta(data);
+    });
+
     // 세션 이벤트
     socketRef.current.on('session_ended', () => {
       if (!mountedRef.current) return;
@@ -321,7 +365,7 @@ export const useChatRoom = () => {
       setError(error.message || '채팅 연결에 문제가 발생했습니다.');
     });
 
-  }, [processMessages, setHasMoreMessages, cleanup, handleReactionUpdate, setLoadingMessages, setError, logout]);
+  }, [processMessages, setHasMoreMessages, cleanup, handleReactionUpdate, handleReactionDelta, setLoadingMessages, setError, logout]);
 
   // Room handling hook initialization
   const {
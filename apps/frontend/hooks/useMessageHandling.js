@@ -2,7 +2,7 @@ import { useState, useCallback } from 'react';
 import { Toast } from '../components/Toast';
 import fileService from '../services/fileService';
 
-export const useMessageHandling = (socketRef, currentUser, router, handleSessionError, messages = [], loadingMessages = false, setLoadingMessages) => {
+export const useMessageHandling = (socketRef, currentUser, router, handleSessionError, messages = [], loadingMessages = false, setLoadingMessages, nextCursorRef) => {
  const [message, setMessage] = useState('');
  const [showEmojiPicker, setShowEmojiPicker] = useState(false);
  const [showMentionList, setShowMentionList] = useState(false);
@@ -57,12 +57,14 @@ export const useMessageHandling = (socketRef, currentUser, router, handleSession
     setLoadingMessages(true);
 
     // Socket.IO 이벤트만 발행 - 응답은 useChatRoom의 previousMessages 이벤트 핸들러에서 처리
+    // cursor 가 있으면 서버는 before 대신 cursor 기준(keyset)으로 조회한다
     socketRef.current.emit('fetchPreviousMessages', {
       roomId: router?.query?.room,
       before: beforeTimestamp,
+      cursor: nextCursorRef?.current ?? undefined,
       limit: 30
     });
-  }, [socketRef, router?.query?.room, loadingMessages, messages, setLoadingMessages]);
+  }, [socketRef, router?.query?.room, loadingMessages, messages, setLoadingMessages, nextCursorRef]);
 
  const handleMessageSubmit = useCallback(async (messageData) => {
    if (!socketRef.current?.connected || !currentUser) {
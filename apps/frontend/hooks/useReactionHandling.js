@@ -108,10 +108,35 @@ export const useReactionHandling = (socketRef, currentUser, messages, setMessage
     );
   }, [setMessages]);
 
+  // 서버가 window 동안 모은 리액션 변경분 (추가/제거된 사용자만 전달)
+  const handleReactionDelta = useCallback(({ messageId, deltas }) => {
+    if (!deltas?.length) return;
+
+    setMessages(prevMessages =>
+      prevMessages.map(msg => {
+        if (msg._id !== messageId) return msg;
+
+        const reactions = { ...(msg.reactions || {}) };
+        deltas.forEach(({ reaction, added = [], removed = [] }) => {
+          const users = new Set(reactions[reaction] || []);
+          added.forEach(id => users.add(id));
+          removed.forEach(id => users.delete(id));
+          if (users.size > 0) {
+            reactions[reaction] = Array.from(users);
+          } else {
+            delete reactions[reaction];
+          }
+        });
+        return { ...msg, reactions };
+      })
+    );
+  }, [setMessages]);
+
   return {
     handleReactionAdd,
     handleReactionRemove,
-    handleReactionUpdate
+    handleReactionUpdate,
+    handleReactionDelta
   };
 };
 